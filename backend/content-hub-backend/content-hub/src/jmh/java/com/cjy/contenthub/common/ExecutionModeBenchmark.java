@@ -0,0 +1,311 @@
+package com.cjy.contenthub.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cjy.contenthub.ContentHubApplication;
+import com.cjy.contenthub.detail.controller.dto.DetailTvResponseDto;
+import com.cjy.contenthub.detail.service.DetailInformationService;
+import com.cjy.contenthub.search.controller.dto.SearchVideoResponseDto;
+import com.cjy.contenthub.search.service.SearchService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 요청 처리 스레드 모드 비교 벤치마크 클래스
+ * 플랫폼 스레드(Tomcat 스레드 풀)와 가상 스레드(spring.threads.virtual.enabled=true)로 어플리케이션을 기동하여,
+ * 지연 응답하는 외부 API 스텁에 대해 동시 요청 1000건의 처리 시간을 비교
+ * 매 요청마다 다른 검색어/ID를 사용하여 캐시 적중을 방지
+ *
+ * 호출 방식(style)
+ * - async : 기존 API(Mono 반환). 요청 스레드는 외부 API 응답을 기다리지 않고 반환되므로,
+ *   스레드 모드에 따른 차이는 거의 없음 (서블릿 비동기 처리 비용만 측정)
+ * - blocking : 같은 서비스 호출을 요청 스레드에서 block()으로 대기하는 벤치마크 전용 API.
+ *   외부 API 응답 대기 중 요청 스레드를 점유하므로, 플랫폼/가상 스레드의 차이는 이 방식에서 확인할 것
+ *
+ * 제약 : 어플리케이션 전체를 기동하므로 application.yml의 Postgres 접속 설정으로 DB가 기동되어 있어야 하며,
+ * 측정 값에는 스텁 서버와 HTTP 클라이언트 처리 시간이 포함됨
+ *
+ * 실행 : gradle jmh -Pjmh.includes=ExecutionModeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ExecutionModeBenchmark {
+
+	/** 동시 요청 수 */
+	private static final int CONCURRENT_REQUESTS = 1000;
+
+	/** 외부 API 스텁 응답 지연 시간(밀리초) */
+	private static final long UPSTREAM_DELAY_MILLIS = 50;
+
+	/** 외부 API 스텁 응답 : TMDB 검색 결과 (빈 페이지) */
+	private static final String STUB_SEARCH_JSON = "{\"page\":1,\"results\":[],\"total_pages\":1,\"total_results\":0}";
+
+	/** 외부 API 스텁 응답 : TMDB 장르 목록 */
+	private static final String STUB_GENRE_JSON = "{\"genres\":[{\"id\":16,\"name\":\"Animation\"},{\"id\":18,\"name\":\"Drama\"}]}";
+
+	/** 외부 API 스텁 응답 : TMDB TV 상세 */
+	private static final String STUB_TV_DETAIL_JSON = "{\"id\":1,\"name\":\"stub\",\"original_name\":\"stub\",\"genres\":[]}";
+
+	/** 외부 API 스텁 응답 : AniList GraphQL */
+	private static final String STUB_GRAPHQL_JSON = "{\"data\":{\"Page\":{\"pageInfo\":{\"hasNextPage\":false},\"media\":[]}}}";
+
+	/** 외부 API 스텁 응답 : DeepL 번역 */
+	private static final String STUB_TRANSLATE_JSON = "{\"translations\":[]}";
+
+	/** 실행 모드 : platform(Tomcat 스레드 풀), virtual(가상 스레드) */
+	@Param({"platform", "virtual"})
+	private String mode;
+
+	/** 호출 방식 : async(Mono 반환 API), blocking(요청 스레드에서 block()으로 대기하는 API) */
+	@Param({"async", "blocking"})
+	private String style;
+
+	/** 외부 API 스텁 서버 */
+	private HttpServer upstream;
+
+	/** 외부 API 스텁 서버 실행 스레드 */
+	private ExecutorService upstreamExecutor;
+
+	/** 어플리케이션 컨텍스트 */
+	private ConfigurableApplicationContext context;
+
+	/** 요청 클라이언트 */
+	private HttpClient client;
+
+	/** 요청 클라이언트 실행 스레드 */
+	private ExecutorService clientExecutor;
+
+	/** 어플리케이션 URL */
+	private String baseUrl;
+
+	/** 캐시 적중 방지용 요청 일련번호 */
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * 외부 API 스텁 서버와 어플리케이션 기동
+	 *
+	 * @throws IOException 스텁 서버 기동 실패시
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		upstream.createContext("/", this::handleUpstream);
+		upstream.setExecutor(upstreamExecutor);
+		upstream.start();
+		String upstreamUrl = "http://127.0.0.1:" + upstream.getAddress().getPort();
+
+		SpringApplication application = new SpringApplication(ContentHubApplication.class, BlockingBenchmarkController.class);
+		context = application.run(
+				"--server.port=0",
+				"--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+				"--spring.jpa.show-sql=false",
+				"--logging.level.root=warn",
+				"--tmdb.api.key=bench",
+				"--tmdb.api.token=bench",
+				"--deepl.api.key=bench",
+				"--tmdb.url.baseUrl=" + upstreamUrl,
+				"--anilist.url.baseUrl=" + upstreamUrl,
+				"--deepl.url.baseUrl=" + upstreamUrl,
+				"--app.warmup.enabled=false",
+				"--app.cacheSnapshot.enabled=false",
+				"--app.prefetch.enabled=false");
+		int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+		baseUrl = "http://127.0.0.1:" + port;
+
+		clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		client = HttpClient.newBuilder().executor(clientExecutor).build();
+	}
+
+	/**
+	 * 어플리케이션과 외부 API 스텁 서버 종료
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (context != null) {
+			context.close();
+		}
+		if (upstream != null) {
+			upstream.stop(0);
+		}
+		upstreamExecutor.shutdownNow();
+		clientExecutor.shutdownNow();
+	}
+
+	/**
+	 * 검색 API 동시 요청 (TMDB TV/영화 검색 팬아웃)
+	 *
+	 * @return 성공 응답 수
+	 */
+	@Benchmark
+	public long searchVideo() {
+		String path = isBlocking() ? BlockingBenchmarkController.SEARCH_VIDEO_PATH : "/search/searchVideo";
+		return fireConcurrently(seq -> path + "?query=bench" + seq);
+	}
+
+	/**
+	 * TV 상세 API 동시 요청
+	 *
+	 * @return 성공 응답 수
+	 */
+	@Benchmark
+	public long tvDetail() {
+		String path = isBlocking() ? BlockingBenchmarkController.TV_DETAIL_PATH : "/detail/information/getTvDetail";
+		return fireConcurrently(seq -> path + "?series_id=" + seq);
+	}
+
+	/**
+	 * 블로킹 호출 방식 여부
+	 *
+	 * @return 블로킹 호출 방식인 경우 true
+	 */
+	private boolean isBlocking() {
+		return "blocking".equals(style);
+	}
+
+	/**
+	 * 동시 요청 실행 후 전체 응답 대기
+	 *
+	 * @param pathFactory 일련번호로부터 요청 경로 생성
+	 * @return 성공 응답 수
+	 */
+	private long fireConcurrently(LongFunction<String> pathFactory) {
+		List<CompletableFuture<HttpResponse<Void>>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+		for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+			HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + pathFactory.apply(sequence.incrementAndGet())))
+					.GET()
+					.build();
+			futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+		}
+		return futures.stream()
+				.map(CompletableFuture::join)
+				.filter(response -> response.statusCode() == 200)
+				.count();
+	}
+
+	/**
+	 * 외부 API 스텁 응답 (지연 후 경로에 맞는 JSON 반환)
+	 *
+	 * @param exchange HTTP 교환 객체
+	 * @throws IOException 응답 실패시
+	 */
+	private void handleUpstream(HttpExchange exchange) throws IOException {
+		try {
+			Thread.sleep(UPSTREAM_DELAY_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		exchange.getRequestBody().readAllBytes();
+		String path = exchange.getRequestURI().getPath();
+		String body;
+		if (path.contains("/genre/")) {
+			body = STUB_GENRE_JSON;
+		} else if (path.contains("/search/")) {
+			body = STUB_SEARCH_JSON;
+		} else if (path.contains("/tv/")) {
+			body = STUB_TV_DETAIL_JSON;
+		} else if (path.contains("/translate")) {
+			body = STUB_TRANSLATE_JSON;
+		} else {
+			body = STUB_GRAPHQL_JSON;
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * 블로킹 호출 벤치마크용 API 컨트롤러 클래스
+	 * 기존 API와 같은 서비스 메소드를 호출하고, 요청 스레드에서 block()으로 결과를 대기
+	 */
+	@RestController
+	public static class BlockingBenchmarkController {
+
+		/** 검색 API 경로 */
+		static final String SEARCH_VIDEO_PATH = "/search/blockingSearchVideo";
+
+		/** TV 상세 API 경로 */
+		static final String TV_DETAIL_PATH = "/detail/blockingTvDetail";
+
+		/** 검색 컨텐츠 서비스 */
+		private final SearchService searchService;
+
+		/** 상세 정보 서비스 */
+		private final DetailInformationService informationService;
+
+		/**
+		 * 생성자
+		 *
+		 * @param searchService 검색 컨텐츠 서비스
+		 * @param informationService 상세 정보 서비스
+		 */
+		public BlockingBenchmarkController(SearchService searchService, DetailInformationService informationService) {
+			this.searchService = searchService;
+			this.informationService = informationService;
+		}
+
+		/**
+		 * 애니메이션/드라마/영화 검색 (블로킹)
+		 *
+		 * @param keyword 검색어
+		 * @return 검색 결과 응답 오브젝트
+		 */
+		@GetMapping(SEARCH_VIDEO_PATH)
+		public SearchVideoResponseDto searchVideo(@RequestParam("query") String keyword) {
+			return searchService.searchVideo(keyword).block();
+		}
+
+		/**
+		 * TV 상세 조회 (블로킹)
+		 *
+		 * @param seriesId TV 시리즈 ID
+		 * @return TV 상세 응답 DTO
+		 */
+		@GetMapping(TV_DETAIL_PATH)
+		public DetailTvResponseDto tvDetail(@RequestParam("series_id") Integer seriesId) {
+			return informationService.getTvDetail(seriesId).block();
+		}
+	}
+}
@@ -0,0 +1,442 @@
+package com.cjy.contenthub.search.helper;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.CollectionUtils;
+
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchCommonResultsDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchMovieResultsDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvResultsDto;
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
+import com.cjy.contenthub.common.constants.CommonEnum.TmdbGenreEnum;
+import com.cjy.contenthub.search.helper.SearchHelper.MoviePartition;
+import com.cjy.contenthub.search.helper.SearchHelper.TvPartition;
+
+/**
+ * 검색 결과 장르 분류 벤치마크 클래스
+ * 기존 스트림 기반 헬퍼(장르 맵 조회 + List.contains 반복)와
+ * 컴파일된 장르 분류기(SearchGenreClassifier)의 1페이지(20건) 분류 성능을 비교
+ *
+ * 실행 : gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchGenreClassifierBenchmark {
+
+	/** TMDB API 페이지당 검색 결과 개수 */
+	private static final int PAGE_SIZE = 20;
+
+	/** 벤치마크용 페이지 수 (분기 예측 고정화 방지) */
+	private static final int PAGE_COUNT = 64;
+
+	/** 난수 시드 (실행간 동일한 데이터 생성) */
+	private static final long SEED = 20250401L;
+
+	/** TMDB TV 장르 (GET /genre/tv/list 응답 기준) */
+	private static final List<TmdbGenreEnum> TV_GENRES = List.of(
+			TmdbGenreEnum.GENRE_ACTION_ADVENTURE, TmdbGenreEnum.GENRE_ANI, TmdbGenreEnum.GENRE_COMEDY,
+			TmdbGenreEnum.GENRE_CRIME, TmdbGenreEnum.GENRE_DOCUMENTARY, TmdbGenreEnum.GENRE_DRAMA,
+			TmdbGenreEnum.GENRE_FAMILY, TmdbGenreEnum.GENRE_KIDS, TmdbGenreEnum.GENRE_MYSTERY,
+			TmdbGenreEnum.GENRE_NEWS, TmdbGenreEnum.GENRE_REALITY, TmdbGenreEnum.GENRE_SCI_FI_FANTASY,
+			TmdbGenreEnum.GENRE_SOAP, TmdbGenreEnum.GENRE_TALK, TmdbGenreEnum.GENRE_WAR_POLITICS,
+			TmdbGenreEnum.GENRE_WESTERN);
+
+	/** TMDB 영화 장르 (GET /genre/movie/list 응답 기준) */
+	private static final List<TmdbGenreEnum> MOVIE_GENRES = List.of(
+			TmdbGenreEnum.GENRE_ACTION, TmdbGenreEnum.GENRE_ADVENTURE, TmdbGenreEnum.GENRE_ANI,
+			TmdbGenreEnum.GENRE_COMEDY, TmdbGenreEnum.GENRE_CRIME, TmdbGenreEnum.GENRE_DOCUMENTARY,
+			TmdbGenreEnum.GENRE_DRAMA, TmdbGenreEnum.GENRE_FAMILY, TmdbGenreEnum.GENRE_FANTASY,
+			TmdbGenreEnum.GENRE_HISTORY, TmdbGenreEnum.GENRE_HORROR, TmdbGenreEnum.GENRE_MUSIC,
+			TmdbGenreEnum.GENRE_MYSTERY, TmdbGenreEnum.GENRE_ROMANCE, TmdbGenreEnum.GENRE_SCIENCE_FICTION,
+			TmdbGenreEnum.GENRE_TV_MOVIE, TmdbGenreEnum.GENRE_THRILLER, TmdbGenreEnum.GENRE_WAR,
+			TmdbGenreEnum.GENRE_WESTERN);
+
+	/** TV 장르 맵 */
+	private Map<String, Integer> tvGenreMap;
+
+	/** 영화 장르 맵 */
+	private Map<String, Integer> movieGenreMap;
+
+	/** TV/영화 장르 병합 맵 (기존 자동완성 필터용) */
+	private Map<String, Integer> mergedGenreMap;
+
+	/** 검색 헬퍼 */
+	private SearchHelper helper;
+
+	/** 컴파일된 장르 분류기 */
+	private SearchGenreClassifier classifier;
+
+	/** TV 검색 결과 페이지 */
+	private List<List<TmdbSearchTvResultsDto>> tvPages;
+
+	/** 영화 검색 결과 페이지 */
+	private List<List<TmdbSearchMovieResultsDto>> moviePages;
+
+	/** 멀티 검색 결과 페이지 (자동완성용, 미디어 타입 + 장르 ID) */
+	private List<List<MultiResult>> multiPages;
+
+	/** 현재 페이지 인덱스 */
+	private int cursor;
+
+	/**
+	 * 장르 맵, 검색 결과 페이지 생성 및 기존 헬퍼와 분류기의 결과 일치 검증
+	 *
+	 * @throws ReflectiveOperationException 검색 헬퍼 생성 실패
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws ReflectiveOperationException {
+		tvGenreMap = toGenreMap(TV_GENRES);
+		movieGenreMap = toGenreMap(MOVIE_GENRES);
+		mergedGenreMap = new HashMap<>(tvGenreMap);
+		mergedGenreMap.putAll(movieGenreMap);
+
+		Constructor<SearchHelper> constructor = SearchHelper.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		helper = constructor.newInstance();
+		classifier = helper.getClassifier(tvGenreMap, movieGenreMap);
+
+		Random random = new Random(SEED);
+		tvPages = new ArrayList<>();
+		moviePages = new ArrayList<>();
+		multiPages = new ArrayList<>();
+		for (int page = 0; page < PAGE_COUNT; page++) {
+			List<TmdbSearchTvResultsDto> tvPage = new ArrayList<>();
+			List<TmdbSearchMovieResultsDto> moviePage = new ArrayList<>();
+			List<MultiResult> multiPage = new ArrayList<>();
+			for (int i = 0; i < PAGE_SIZE; i++) {
+				int id = page * PAGE_SIZE + i;
+				tvPage.add(tvResult(id, randomGenreIds(random, TV_GENRES)));
+				moviePage.add(movieResult(id, randomGenreIds(random, MOVIE_GENRES)));
+				multiPage.add(random.nextBoolean()
+						? new MultiResult(CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue(), randomGenreIds(random, TV_GENRES))
+						: new MultiResult(CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue(), randomGenreIds(random, MOVIE_GENRES)));
+			}
+			tvPages.add(tvPage);
+			moviePages.add(moviePage);
+			multiPages.add(multiPage);
+		}
+
+		verifyEquivalence();
+	}
+
+	/**
+	 * 기존 : TV 검색 결과 애니/드라마 추출 (스트림 2회 순회)
+	 *
+	 * @param blackhole 결과 소비용
+	 */
+	@Benchmark
+	public void tvStreamBaseline(Blackhole blackhole) {
+		List<TmdbSearchTvResultsDto> page = tvPages.get(nextCursor());
+		blackhole.consume(getAniList(page, tvGenreMap));
+		blackhole.consume(getDramaList(page, tvGenreMap));
+	}
+
+	/**
+	 * 변경 : TV 검색 결과 애니/드라마 분배 (1회 순회)
+	 *
+	 * @param blackhole 결과 소비용
+	 */
+	@Benchmark
+	public void tvCompiled(Blackhole blackhole) {
+		blackhole.consume(helper.partitionTv(tvPages.get(nextCursor()), classifier));
+	}
+
+	/**
+	 * 기존 : 영화 검색 결과 애니 영화/영화 추출 (스트림 2회 순회)
+	 *
+	 * @param blackhole 결과 소비용
+	 */
+	@Benchmark
+	public void movieStreamBaseline(Blackhole blackhole) {
+		List<TmdbSearchMovieResultsDto> page = moviePages.get(nextCursor());
+		blackhole.consume(getAniMovieList(page, movieGenreMap));
+		blackhole.consume(getMovieList(page, movieGenreMap));
+	}
+
+	/**
+	 * 변경 : 영화 검색 결과 애니 영화/영화 분배 (1회 순회)
+	 *
+	 * @param blackhole 결과 소비용
+	 */
+	@Benchmark
+	public void movieCompiled(Blackhole blackhole) {
+		blackhole.consume(helper.partitionMovie(moviePages.get(nextCursor()), classifier));
+	}
+
+	/**
+	 * 기존 : 자동완성 대상 판정 (장르 맵 조회 + List.contains)
+	 *
+	 * @param blackhole 결과 소비용
+	 */
+	@Benchmark
+	public void keywordStreamBaseline(Blackhole blackhole) {
+		blackhole.consume(multiPages.get(nextCursor()).stream()
+				.filter(result -> isKeywordTarget(result.mediaType(), result.genreIds(), mergedGenreMap))
+				.count());
+	}
+
+	/**
+	 * 변경 : 자동완성 대상 판정 (BitSet)
+	 *
+	 * @param blackhole 결과 소비용
+	 */
+	@Benchmark
+	public void keywordCompiled(Blackhole blackhole) {
+		blackhole.consume(multiPages.get(nextCursor()).stream()
+				.filter(result -> classifier.isKeywordTarget(result.mediaType(), result.genreIds()))
+				.count());
+	}
+
+	/**
+	 * 기존 헬퍼와 분류기의 분류 결과가 모든 페이지에서 일치하는지 검증
+	 */
+	private void verifyEquivalence() {
+		for (int page = 0; page < PAGE_COUNT; page++) {
+			List<TmdbSearchTvResultsDto> tvPage = tvPages.get(page);
+			TvPartition tvPartition = helper.partitionTv(tvPage, classifier);
+			assertSameIds("ani", getAniList(tvPage, tvGenreMap), tvPartition.aniList());
+			assertSameIds("drama", getDramaList(tvPage, tvGenreMap), tvPartition.dramaList());
+
+			List<TmdbSearchMovieResultsDto> moviePage = moviePages.get(page);
+			MoviePartition moviePartition = helper.partitionMovie(moviePage, classifier);
+			assertSameIds("aniMovie", getAniMovieList(moviePage, movieGenreMap), moviePartition.aniMovieList());
+			assertSameIds("movie", getMovieList(moviePage, movieGenreMap), moviePartition.movieList());
+
+			for (MultiResult result : multiPages.get(page)) {
+				if (isKeywordTarget(result.mediaType(), result.genreIds(), mergedGenreMap)
+						!= classifier.isKeywordTarget(result.mediaType(), result.genreIds())) {
+					throw new IllegalStateException("keyword target mismatch: " + result);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 두 검색 결과 리스트의 ID 순서 일치 검증
+	 *
+	 * @param name 검증 대상명
+	 * @param expected 기존 헬퍼 결과
+	 * @param actual 분류기 결과
+	 */
+	private static void assertSameIds(String name, List<? extends TmdbSearchCommonResultsDto> expected,
+			List<? extends TmdbSearchCommonResultsDto> actual) {
+		List<Integer> expectedIds = expected.stream().map(TmdbSearchCommonResultsDto::getId).toList();
+		List<Integer> actualIds = actual.stream().map(TmdbSearchCommonResultsDto::getId).toList();
+		if (!expectedIds.equals(actualIds)) {
+			throw new IllegalStateException(name + " mismatch: " + expectedIds + " != " + actualIds);
+		}
+	}
+
+	/**
+	 * 다음 페이지 인덱스 취득
+	 *
+	 * @return 페이지 인덱스
+	 */
+	private int nextCursor() {
+		int current = cursor;
+		cursor = (current + 1) % PAGE_COUNT;
+		return current;
+	}
+
+	/**
+	 * 장르 맵 생성 (키 : 영어 장르명, 값 : 장르 ID)
+	 *
+	 * @param genres 장르 리스트
+	 * @return 장르 맵
+	 */
+	private static Map<String, Integer> toGenreMap(List<TmdbGenreEnum> genres) {
+		Map<String, Integer> genreMap = new HashMap<>();
+		genres.forEach(genre -> genreMap.put(genre.getGenreEnglish(), genre.getGenreId()));
+		return genreMap;
+	}
+
+	/**
+	 * 임의의 장르 ID 리스트 생성 (0 ~ 3건, 약 5%는 빈 리스트)
+	 *
+	 * @param random 난수 생성기
+	 * @param genres 장르 후보
+	 * @return 장르 ID 리스트
+	 */
+	private static List<Integer> randomGenreIds(Random random, List<TmdbGenreEnum> genres) {
+		if (random.nextInt(20) == 0) {
+			return new ArrayList<>();
+		}
+		int count = 1 + random.nextInt(3);
+		List<Integer> genreIds = new ArrayList<>(count);
+		while (genreIds.size() < count) {
+			Integer genreId = genres.get(random.nextInt(genres.size())).getGenreId();
+			if (!genreIds.contains(genreId)) {
+				genreIds.add(genreId);
+			}
+		}
+		return genreIds;
+	}
+
+	/**
+	 * TV 검색 결과 생성
+	 *
+	 * @param id 작품 ID
+	 * @param genreIds 장르 ID 리스트
+	 * @return TV 검색 결과
+	 */
+	private static TmdbSearchTvResultsDto tvResult(int id, List<Integer> genreIds) {
+		TmdbSearchTvResultsDto result = new TmdbSearchTvResultsDto();
+		result.setId(id);
+		result.setName("tv-" + id);
+		result.setGenreIds(genreIds);
+		result.setPopularity(BigDecimal.valueOf(id));
+		return result;
+	}
+
+	/**
+	 * 영화 검색 결과 생성
+	 *
+	 * @param id 작품 ID
+	 * @param genreIds 장르 ID 리스트
+	 * @return 영화 검색 결과
+	 */
+	private static TmdbSearchMovieResultsDto movieResult(int id, List<Integer> genreIds) {
+		TmdbSearchMovieResultsDto result = new TmdbSearchMovieResultsDto();
+		result.setId(id);
+		result.setTitle("movie-" + id);
+		result.setGenreIds(genreIds);
+		result.setPopularity(BigDecimal.valueOf(id));
+		return result;
+	}
+
+	/*
+	 * 이하 비교 기준 : 분류기 도입 전 SearchHelper의 스트림 기반 구현
+	 */
+
+	/**
+	 * 애니 리스트를 추출 (기존 구현)
+	 *
+	 * @param resultList 검색 결과 리스트
+	 * @param tvGenreMap TV 장르 맵
+	 * @return 애니 리스트
+	 */
+	private static List<TmdbSearchTvResultsDto> getAniList(List<TmdbSearchTvResultsDto> resultList,
+			Map<String, Integer> tvGenreMap) {
+		List<TmdbSearchTvResultsDto> aniList = new ArrayList<>();
+		resultList.stream()
+		.filter(result -> !CollectionUtils.isEmpty(result.getGenreIds())
+				&& result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish())))
+		.forEach(result -> {
+			result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_ANI.getMediaTypeCode());
+			aniList.add(result);
+		});
+		return aniList;
+	}
+
+	/**
+	 * 드라마 리스트를 추출 (기존 구현)
+	 *
+	 * @param resultList 검색 결과 리스트
+	 * @param tvGenreMap TV 장르 맵
+	 * @return 드라마 리스트
+	 */
+	private static List<TmdbSearchTvResultsDto> getDramaList(List<TmdbSearchTvResultsDto> resultList,
+			Map<String, Integer> tvGenreMap) {
+		List<TmdbSearchTvResultsDto> dramaList = new ArrayList<>();
+		resultList.stream()
+		.filter(result -> !CollectionUtils.isEmpty(result.getGenreIds())
+				&& (!result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish()))
+						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_DOCUMENTARY.getGenreEnglish()))
+						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_KIDS.getGenreEnglish()))
+						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_NEWS.getGenreEnglish()))
+						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_REALITY.getGenreEnglish()))
+						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_TALK.getGenreEnglish())))
+				)
+		.forEach(result -> {
+			result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_DRAMA.getMediaTypeCode());
+			dramaList.add(result);
+		});
+		return dramaList;
+	}
+
+	/**
+	 * 애니 영화 리스트를 추출 (기존 구현)
+	 *
+	 * @param resultList    검색 결과 리스트
+	 * @param movieGenreMap 영화 장르 맵
+	 * @return 애니 영화 리스트
+	 */
+	private List<TmdbSearchTvResultsDto> getAniMovieList(List<TmdbSearchMovieResultsDto> resultList,
+			Map<String, Integer> movieGenreMap) {
+		List<TmdbSearchTvResultsDto> aniMovieList = new ArrayList<>();
+		resultList.stream()
+		.filter(result -> !CollectionUtils.isEmpty(result.getGenreIds())
+				&& result.getGenreIds().contains(movieGenreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish())))
+		.forEach(result ->
+		aniMovieList.add(helper.convertMovieToAni(result))
+				);
+		return aniMovieList;
+	}
+
+	/**
+	 * 애니 영화를 제외한 영화 리스트를 추출 (기존 구현)
+	 *
+	 * @param resultList    검색 결과 리스트
+	 * @param movieGenreMap 영화 장르 맵
+	 * @return 영화 리스트
+	 */
+	private static List<TmdbSearchMovieResultsDto> getMovieList(List<TmdbSearchMovieResultsDto> resultList,
+			Map<String, Integer> movieGenreMap) {
+		List<TmdbSearchMovieResultsDto> movieList = new ArrayList<>();
+		resultList.stream()
+		.filter(result -> result.getGenreIds() != null && result.getGenreIds().isEmpty()
+		|| (!CollectionUtils.isEmpty(result.getGenreIds())
+				&& !result.getGenreIds().contains(movieGenreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish()))))
+		.forEach(result -> {
+			result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_MOVIE.getMediaTypeCode());
+			movieList.add(result);
+		});
+		return movieList;
+	}
+
+	/**
+	 * 자동완성 대상 작품인지 판단 (기존 구현)
+	 *
+	 * @param mediaType 미디어 타입
+	 * @param genreIds  장르 ID 리스트
+	 * @param genreMap  TV/영화 장르 맵
+	 * @return 자동완성 대상 여부
+	 */
+	private static boolean isKeywordTarget(String mediaType, List<Integer> genreIds, Map<String, Integer> genreMap) {
+		if (StringUtils.equals(mediaType, CommonMediaTypeEnum.TMDB_MEDIA_TYPE_PERSON.getMediaTypeValue())
+				|| CollectionUtils.isEmpty(genreIds)) {
+			return false;
+		}
+		return (StringUtils.equals(mediaType, CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue())
+				&& (genreIds.contains(genreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish()))
+						|| genreIds.contains(genreMap.get(TmdbGenreEnum.GENRE_DRAMA.getGenreEnglish()))
+						|| genreIds.contains(genreMap.get(TmdbGenreEnum.GENRE_SOAP.getGenreEnglish()))))
+				|| StringUtils.equals(mediaType, CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue());
+	}
+
+	/**
+	 * 멀티 검색 결과 (자동완성 판정에 필요한 항목만)
+	 *
+	 * @param mediaType 미디어 타입
+	 * @param genreIds 장르 ID 리스트
+	 */
+	private record MultiResult(String mediaType, List<Integer> genreIds) {}
+}
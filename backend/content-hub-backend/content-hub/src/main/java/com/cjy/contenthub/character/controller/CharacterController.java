@@ -15,6 +15,7 @@ import com.cjy.contenthub.common.api.dto.aniist.AniListCharactersNodesDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * 캐릭터 정보 API 컨트롤러 클래스
@@ -44,12 +45,12 @@ public class CharacterController {
 	 * 캐릭터 조회
 	 *
 	 * @param characterId 캐릭터 ID
-	 * @return ResponseEntity<AniListCharactersNodesDto> 캐릭터 정보
+	 * @return Mono<ResponseEntity<AniListCharactersNodesDto>> 캐릭터 정보
 	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
 	 */
 	@GetMapping(value = "/getCharacter")
-	public ResponseEntity<AniListCharactersNodesDto> getCharacter(
+	public Mono<ResponseEntity<AniListCharactersNodesDto>> getCharacter(
 			@RequestParam(PARAM_CHARACTER_ID) Integer characterId) throws IOException {
-		return ResponseEntity.ok(characterService.getCharacter(characterId));
+		return characterService.getCharacter(characterId).map(ResponseEntity::ok);
 	}
 }
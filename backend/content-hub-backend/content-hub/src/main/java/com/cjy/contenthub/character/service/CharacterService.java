@@ -4,6 +4,8 @@ import java.io.IOException;
 
 import com.cjy.contenthub.common.api.dto.aniist.AniListCharactersNodesDto;
 
+import reactor.core.publisher.Mono;
+
 /**
  * 캐릭터 서비스 인터페이스
  */
@@ -16,6 +18,6 @@ public interface CharacterService {
 	 * @return AniListCharactersNodesDto 캐릭터 정보
 	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
 	 */
-	AniListCharactersNodesDto getCharacter(Integer characterId) throws IOException;
+	Mono<AniListCharactersNodesDto> getCharacter(Integer characterId) throws IOException;
 
 }
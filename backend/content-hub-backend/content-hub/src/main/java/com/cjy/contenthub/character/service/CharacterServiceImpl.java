@@ -11,10 +11,14 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.cjy.contenthub.common.api.dto.aniist.AniListCharactersNodesDto;
 import com.cjy.contenthub.common.api.dto.aniist.AniListResponseDto;
+import com.cjy.contenthub.common.constants.CommonConstants;
+import com.cjy.contenthub.common.util.CacheRefreshUtil;
 import com.cjy.contenthub.common.util.GraphqlUtil;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * 캐릭터 정보 API 컨트롤러 클래스
@@ -32,10 +36,22 @@ public class CharacterServiceImpl implements CharacterService {
 	@Qualifier("deeplWebClient")
 	private final WebClient deeplWebClient;
 
+	/** 캐시 선행 갱신 공통 클래스 */
+	private final CacheRefreshUtil cacheRefresh;
+
 	/** 리퀘스트 파라미터 키 : 캐릭터ID */
 	private static final String PARAM_CHARACTER_ID = "characterId";
 
 
+	/**
+	 * 캐릭터 캐시의 선행 갱신 처리 등록
+	 * 캐시 프록시를 거치지 않도록 자신의 메소드를 직접 호출
+	 */
+	@PostConstruct
+	public void registerCacheReloaders() {
+		cacheRefresh.register("character", key -> getCharacter((Integer) key));
+	}
+
 	/**
 	 * 캐릭터 조회
 	 *
@@ -45,7 +61,7 @@ public class CharacterServiceImpl implements CharacterService {
 	 */
 	@Override
 	@Cacheable(value = "character", key = "#characterId", unless = "#result == null")
-	public AniListCharactersNodesDto getCharacter(Integer characterId) throws IOException {
+	public Mono<AniListCharactersNodesDto> getCharacter(Integer characterId) throws IOException {
 
 		// GraphQL 쿼리 파일 불러오기
 		String query = GraphqlUtil.loadQuery("comicsCharacter.graphql");
@@ -58,6 +74,7 @@ public class CharacterServiceImpl implements CharacterService {
 
 		// AniList API 조회
 		return anilistWebClient.post()
+				.attribute(CommonConstants.WEBCLIENT_COALESCING_KEY, requestBody) // 동일 요청 병합 키
 				.bodyValue(requestBody)
 				.retrieve()
 				.bodyToMono(AniListResponseDto.class)
@@ -70,7 +87,6 @@ public class CharacterServiceImpl implements CharacterService {
 					}
 					// 응답 데이터가 있는 경우 캐릭터 정보 반환
 					return response.getData().getCharacter();
-				})
-				.block();
+				});
 	}
 }
@@ -44,6 +44,9 @@ public class AniListMediaDto {
 	/** 미디어 제목 DTO */
 	private AniListTitleDto title;
 
+	/** 미디어 별칭 리스트 (다른 언어의 작품명 포함) */
+	private List<String> synonyms;
+
 	/** 커버 이미지 DTO */
 	private AniListCoverImageDto coverImage;
 
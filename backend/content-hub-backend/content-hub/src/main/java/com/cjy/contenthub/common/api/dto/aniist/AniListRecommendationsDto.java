@@ -17,4 +17,7 @@ public class AniListRecommendationsDto {
 	/** 추천(상세) 노드 DTO 리스트 */
 	private List<AniListRecommendationsNodeDto> nodes;
 
+	/** 페이지 정보 DTO */
+	private AniListPageInfoDto pageInfo;
+
 }
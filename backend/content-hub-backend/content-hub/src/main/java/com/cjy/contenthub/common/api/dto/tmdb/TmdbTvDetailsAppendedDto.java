@@ -0,0 +1,34 @@
+package com.cjy.contenthub.common.api.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * TMDB API TV 시리즈 상세 + 부가 정보 Response DTO
+ * append_to_response로 시청 제공자, 추천 작품(1페이지), 비슷한 작품(1페이지)을 함께 조회할 때 사용하는 DTO
+ * 
+ * @see <a href=
+ *      "https://developer.themoviedb.org/docs/append-to-response">TMDB
+ *      Append To Response 문서</a>
+ */
+@Setter
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class TmdbTvDetailsAppendedDto extends TmdbTvDetailsDto {
+	
+	/** 시청 제공자 */
+	@JsonProperty("watch/providers")
+	private TmdbWatchProvidersDto watchProviders;
+	
+	/** 추천 작품 (1페이지) */
+	private TmdbRecommendationsTvDto recommendations;
+	
+	/** 비슷한 작품 (1페이지) */
+	private TmdbRecommendationsTvDto similar;
+
+}
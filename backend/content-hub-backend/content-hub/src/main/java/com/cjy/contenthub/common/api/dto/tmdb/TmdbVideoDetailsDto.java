@@ -1,5 +1,7 @@
 package com.cjy.contenthub.common.api.dto.tmdb;
 
+import java.math.BigDecimal;
+
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -45,4 +47,7 @@ public abstract class TmdbVideoDetailsDto {
 	/** 작품 상태 */
 	private String status;
 	
+	/** 인기도 */
+	private BigDecimal popularity;
+	
 }
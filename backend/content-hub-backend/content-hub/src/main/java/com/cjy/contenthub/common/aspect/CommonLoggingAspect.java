@@ -8,6 +8,8 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * 공통 로그 출력 Aspect 클래스
@@ -69,6 +71,18 @@ public class CommonLoggingAspect {
 	    try {
 	    	log.info("{}_START: {}.{}({})", type, declaringTypeName, methodName, args);
 	        Object result = joinPoint.proceed();
+	        // Mono를 반환하는 경우, 구독 완료/에러 시점에 로그 출력
+	        if (result instanceof Mono<?> mono) {
+	        	return mono
+	        			.doOnSuccess(value -> log.info("{}_END: {}.{}({})", type, declaringTypeName, methodName, args))
+	        			.doOnError(ex -> log.error("{}_Error: {}.{} - {}", type, declaringTypeName, methodName, ex.getMessage(), ex));
+	        }
+	        // Flux를 반환하는 경우, 스트림 완료/에러 시점에 로그 출력
+	        if (result instanceof Flux<?> flux) {
+	        	return flux
+	        			.doOnComplete(() -> log.info("{}_END: {}.{}({})", type, declaringTypeName, methodName, args))
+	        			.doOnError(ex -> log.error("{}_Error: {}.{} - {}", type, declaringTypeName, methodName, ex.getMessage(), ex));
+	        }
 	        log.info("{}_END: {}.{}({})", type, declaringTypeName, methodName, args);
 	        return result;
 	    } catch (Throwable ex) {
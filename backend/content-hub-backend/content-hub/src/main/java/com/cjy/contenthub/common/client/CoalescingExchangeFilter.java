@@ -0,0 +1,183 @@
+package com.cjy.contenthub.common.client;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import com.cjy.contenthub.common.constants.CommonConstants;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebClient 동일 요청 병합(single-flight) 필터 클래스
+ * 동일한 요청이 동시에 여러 건 발생한 경우, 먼저 도착한 요청만 외부 API로 전송하고
+ * 나머지 요청은 진행 중인 응답을 공유하여 캐시 미스 시 외부 API 호출 폭주를 방지
+ *
+ * GET 요청은 메소드 + URL, POST 요청은 URL + 요청 속성(CommonConstants.WEBCLIENT_COALESCING_KEY)을 키로 사용하며,
+ * 요청 속성이 없는 POST 요청은 병합하지 않음
+ * 응답 본문은 메모리에 한 번만 읽어두고, 구독자별로 새로운 ClientResponse를 생성하여 전달
+ */
+@Slf4j
+public class CoalescingExchangeFilter implements ExchangeFilterFunction {
+
+	/** 병합 대상 응답 본문 최대 크기 (1MB) */
+	private static final int MAX_BUFFER_SIZE = 1024 * 1024;
+
+	/** 메트릭 이름 : 요청 건수 */
+	private static final String METRIC_REQUESTS = "webclient.coalescing.requests";
+
+	/** 메트릭 이름 : 진행 중인 요청 건수 */
+	private static final String METRIC_IN_FLIGHT = "webclient.coalescing.inflight";
+
+	/** 메트릭 태그 : 클라이언트명 */
+	private static final String TAG_CLIENT = "client";
+
+	/** 메트릭 태그 : 결과 */
+	private static final String TAG_RESULT = "result";
+
+	/** 진행 중인 요청 맵 (키 : 정규화된 요청, 값 : 공유 응답) */
+	private final Map<String, Mono<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+
+	/** 외부 API로 실제 전송된 요청 건수 */
+	private final Counter executedCounter;
+
+	/** 진행 중인 요청에 병합된 요청 건수 */
+	private final Counter collapsedCounter;
+
+	/**
+	 * 생성자
+	 *
+	 * @param clientName 메트릭 태그용 클라이언트명 (예: tmdb, anilist)
+	 * @param meterRegistry 메트릭 레지스트리
+	 */
+	public CoalescingExchangeFilter(String clientName, MeterRegistry meterRegistry) {
+		this.executedCounter = Counter.builder(METRIC_REQUESTS)
+				.tag(TAG_CLIENT, clientName)
+				.tag(TAG_RESULT, "executed")
+				.description("Upstream calls actually sent")
+				.register(meterRegistry);
+		this.collapsedCounter = Counter.builder(METRIC_REQUESTS)
+				.tag(TAG_CLIENT, clientName)
+				.tag(TAG_RESULT, "collapsed")
+				.description("Calls that joined an identical in-flight upstream call")
+				.register(meterRegistry);
+		Gauge.builder(METRIC_IN_FLIGHT, inFlight, Map::size)
+				.tag(TAG_CLIENT, clientName)
+				.description("Distinct upstream calls currently in flight")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 요청 병합 처리
+	 *
+	 * @param request 요청
+	 * @param next 다음 ExchangeFunction
+	 * @return 응답
+	 */
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		// 병합 키 취득 (병합 대상이 아닌 경우 그대로 전송)
+		String key = resolveKey(request);
+		if (key == null) {
+			return next.exchange(request);
+		}
+
+		return Mono.defer(() -> {
+			// 진행 중인 요청이 없는 경우에만 새로 전송
+			AtomicBoolean isLeader = new AtomicBoolean(false);
+			Mono<BufferedResponse> shared = inFlight.computeIfAbsent(key, k -> {
+				isLeader.set(true);
+				return execute(k, request, next);
+			});
+			if (isLeader.get()) {
+				executedCounter.increment();
+			} else {
+				collapsedCounter.increment();
+				log.debug("Coalesced upstream call: {}", key);
+			}
+			// 구독자별로 응답 재생성
+			return shared.map(BufferedResponse::toClientResponse);
+		});
+	}
+
+	/**
+	 * 외부 API 요청을 실행하고 응답 본문을 버퍼링한 공유 Mono 생성
+	 * 완료(성공/에러/취소) 시 진행 중인 요청 맵에서 제거
+	 *
+	 * @param key 병합 키
+	 * @param request 요청
+	 * @param next 다음 ExchangeFunction
+	 * @return 공유 응답 Mono
+	 */
+	private Mono<BufferedResponse> execute(String key, ClientRequest request, ExchangeFunction next) {
+		AtomicReference<Mono<BufferedResponse>> self = new AtomicReference<>();
+		Mono<BufferedResponse> shared = next.exchange(request)
+				.flatMap(response -> DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()), MAX_BUFFER_SIZE)
+						.map(buffer -> {
+							byte[] bytes = new byte[buffer.readableByteCount()];
+							buffer.read(bytes);
+							DataBufferUtils.release(buffer);
+							return bytes;
+						})
+						.defaultIfEmpty(new byte[0])
+						.map(bytes -> new BufferedResponse(response, bytes)))
+				.doFinally(signal -> inFlight.remove(key, self.get()))
+				.share();
+		self.set(shared);
+		return shared;
+	}
+
+	/**
+	 * 병합 키 생성
+	 *
+	 * @param request 요청
+	 * @return 병합 키 (병합 대상이 아닌 경우 null)
+	 */
+	private String resolveKey(ClientRequest request) {
+		if (HttpMethod.GET.equals(request.method())) {
+			return request.method().name() + " " + request.url();
+		}
+		return Optional.ofNullable(request.attributes().get(CommonConstants.WEBCLIENT_COALESCING_KEY))
+				.map(attribute -> request.method().name() + " " + request.url() + " " + attribute)
+				.orElse(null);
+	}
+
+	/**
+	 * 버퍼링된 응답
+	 *
+	 * @param response 원본 응답 (상태, 헤더, 요청 정보 재사용)
+	 * @param body 응답 본문
+	 */
+	private record BufferedResponse(ClientResponse response, byte[] body) {
+
+		/**
+		 * 구독자별 ClientResponse 생성
+		 *
+		 * @return ClientResponse
+		 */
+		ClientResponse toClientResponse() {
+			return response.mutate()
+					.body(Flux.defer(() -> body.length == 0
+							? Flux.empty()
+							: Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body))))
+					.build();
+		}
+	}
+}
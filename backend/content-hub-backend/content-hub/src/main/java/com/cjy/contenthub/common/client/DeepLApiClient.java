@@ -1,60 +1,106 @@
 package com.cjy.contenthub.common.client;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import com.cjy.contenthub.common.constants.CommonConstants;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.cjy.contenthub.common.repository.TranslationTbRepository;
+import com.cjy.contenthub.common.repository.entity.TranslationTbEntity;
+import com.cjy.contenthub.common.util.SearchQueryUtil;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * DeepL API 클라이언트 클래스
  * 
  * DeepL API를 사용하여 문자열을 번역하는 기능을 제공하는 클래스
+ * 번역 결과는 인메모리 캐시(L1) + DB 번역 테이블(L2)의 2단 캐시로 보관
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class DeepLApiClient {
 
-	@Qualifier("deeplWebClient")
-	private final WebClient deeplWebClient;
+	/** DeepL API 일괄 번역 클래스 */
+	private final DeepLBatchTranslator batchTranslator;
 
-	@Value("${deepl.url.translatePath}")
-	private String translatePath;
+	/** 번역 결과 레포지토리 (L2 번역 캐시) */
+	private final TranslationTbRepository translationRepository;
 
 	/**
 	 * 원본 언어를 번역할 언어로 변역
 	 * 캐시를 사용하여 동일한 요청에 대해 반복적인 API 호출을 방지
 	 * @Cacheable 어노테이션을 사용하여 캐시를 적용
-	 * @Cacheable를 사용하기 위해서는 동기화 된 메소드여야 하므로, .block() 메소드를 사용하여 결과를 반환
+	 * 캐시 매니저가 비동기 캐시 모드이므로 Mono를 그대로 반환하며, 발행된 값이 캐시됨
+	 * 캐시 키는 정규화된 번역 문자열 + 언어 코드 (표기만 다른 동일 문자열은 같은 번역 결과를 사용)
+	 * 인메모리 캐시(L1)에 없는 경우 DB 번역 테이블(L2)을 먼저 조회하고, L2에도 없는 경우에만 DeepL API를 호출(동시 요청은 일괄 번역)하여 결과를 L2에 저장
+	 * (L2 조회/저장 실패는 번역 결과에 영향을 주지 않음)
 	 * 
 	 * @param text 번역할 문자열
 	 * @param targetLang 번역할 언어 (예: "KO", "JA")
 	 * @param sourceLang 원본 언어 (예: "KO", "JA")
 	 * @return 번역된 문자열
 	 */
-	@Cacheable(value = CommonConstants.API_TRANSLATE_NAME)
-	public String translateText(String text, String targetLang, String sourceLang) {
-		
-		// 파라미터 맵 생성
-		MultiValueMap<String, String> paramsMap = new LinkedMultiValueMap<>();
-		paramsMap.add("text", text);
-		paramsMap.add("target_lang", targetLang);
-		paramsMap.add("source_lang", sourceLang);
-		
-		// DeepL API를 호출하여 번역 요청
-		return deeplWebClient.post()
-				.uri(translatePath)
-				.bodyValue(paramsMap)
-				.retrieve()
-				.bodyToMono(JsonNode.class)
-				.map(json -> json.get("translations").get(0).get("text").asText())
-				.block();
+	@Cacheable(value = CommonConstants.API_TRANSLATE_NAME, keyGenerator = CommonConstants.QUERY_KEY_GENERATOR)
+	public Mono<String> translateText(String text, String targetLang, String sourceLang) {
+
+		// L2 키로 사용할 정규화된 원본 문자열
+		String sourceText = SearchQueryUtil.canonicalize(text);
+
+		return findStoredTranslation(sourceText, sourceLang, targetLang)
+				.switchIfEmpty(Mono.defer(() -> batchTranslator.translate(text, targetLang, sourceLang)
+						.flatMap(translated -> storeTranslation(sourceText, sourceLang, targetLang, translated)
+								.thenReturn(translated))));
+	}
+
+	/**
+	 * DB 번역 테이블(L2)에서 번역 결과 조회
+	 * JPA 조회는 블로킹 처리이므로 boundedElastic 스케줄러에서 실행
+	 * 
+	 * @param sourceText 정규화된 원본 문자열
+	 * @param sourceLang 원본 언어
+	 * @param targetLang 번역할 언어
+	 * @return 번역된 문자열 (없거나 조회에 실패한 경우 empty)
+	 */
+	private Mono<String> findStoredTranslation(String sourceText, String sourceLang, String targetLang) {
+		return Mono.fromCallable(() -> translationRepository
+						.findBySourceTextAndSourceLangAndTargetLang(sourceText, sourceLang, targetLang))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(Mono::justOrEmpty)
+				.map(TranslationTbEntity::getTranslatedText)
+				.onErrorResume(ex -> {
+					log.warn("Translation store lookup failed: {}", ex.getMessage());
+					return Mono.empty();
+				});
+	}
+
+	/**
+	 * DB 번역 테이블(L2)에 번역 결과 저장
+	 * 동시 요청으로 이미 저장된 경우(유니크 제약 위반)는 무시
+	 * 
+	 * @param sourceText 정규화된 원본 문자열
+	 * @param sourceLang 원본 언어
+	 * @param targetLang 번역할 언어
+	 * @param translatedText 번역된 문자열
+	 * @return 완료 Mono
+	 */
+	private Mono<Void> storeTranslation(String sourceText, String sourceLang, String targetLang, String translatedText) {
+		return Mono.fromRunnable(() -> translationRepository.save(TranslationTbEntity.builder()
+						.sourceText(sourceText)
+						.sourceLang(sourceLang)
+						.targetLang(targetLang)
+						.translatedText(translatedText)
+						.build()))
+				.subscribeOn(Schedulers.boundedElastic())
+				.onErrorResume(DataIntegrityViolationException.class, ex -> Mono.empty())
+				.onErrorResume(ex -> {
+					log.warn("Translation store save failed: {}", ex.getMessage());
+					return Mono.empty();
+				})
+				.then();
 	}
 }
@@ -0,0 +1,170 @@
+package com.cjy.contenthub.common.client;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * DeepL API 일괄 번역 클래스
+ * 
+ * 동시에 들어온 번역 요청을 언어 쌍별로 짧은 대기 시간(또는 최대 건수)만큼 모아서,
+ * 여러 text 파라미터를 가진 1회의 DeepL API 요청으로 번역한 후 결과를 각 요청자에게 분배
+ */
+@Component
+@Slf4j
+public class DeepLBatchTranslator {
+
+	/** DeepL API 통신용 WebClient 클래스 */
+	private final WebClient deeplWebClient;
+
+	/** DeepL API 번역 패스 */
+	private final String translatePath;
+
+	/** 일괄 번역 대기 시간 */
+	private final Duration batchWindow;
+
+	/** 일괄 번역 최대 건수 (DeepL API 1회 요청당 text 파라미터 상한) */
+	private final int batchMaxSize;
+
+	/** 번역 요청 큐 */
+	private final Sinks.Many<TranslationRequest> requestSink = Sinks.many().unicast().onBackpressureBuffer();
+
+	/** 번역 요청 큐 구독 */
+	private Disposable subscription;
+
+	/** 번역 요청 큐 동시 등록 충돌시 재시도 시간 */
+	private static final Duration EMIT_RETRY_DURATION = Duration.ofMillis(100);
+
+	/**
+	 * 생성자
+	 * 
+	 * @param deeplWebClient DeepL API 통신용 WebClient 클래스
+	 * @param translatePath DeepL API 번역 패스
+	 * @param batchWindowMillis 일괄 번역 대기 시간(밀리초)
+	 * @param batchMaxSize 일괄 번역 최대 건수
+	 */
+	public DeepLBatchTranslator(
+			@Qualifier("deeplWebClient") WebClient deeplWebClient,
+			@Value("${deepl.url.translatePath}") String translatePath,
+			@Value("${deepl.custom.batchWindowMillis}") long batchWindowMillis,
+			@Value("${deepl.custom.batchMaxSize}") int batchMaxSize) {
+		this.deeplWebClient = deeplWebClient;
+		this.translatePath = translatePath;
+		this.batchWindow = Duration.ofMillis(batchWindowMillis);
+		this.batchMaxSize = batchMaxSize;
+	}
+
+	/**
+	 * 번역 요청 큐 구독 개시
+	 * 언어 쌍별로 그룹화하여, 대기 시간 경과 또는 최대 건수 도달시 일괄 번역 실행
+	 */
+	@PostConstruct
+	public void start() {
+		subscription = requestSink.asFlux()
+				.groupBy(TranslationRequest::languagePair)
+				.flatMap(group -> group.bufferTimeout(batchMaxSize, batchWindow))
+				.flatMap(this::flush)
+				.subscribe();
+	}
+
+	/**
+	 * 번역 요청 큐 구독 종료
+	 */
+	@PreDestroy
+	public void stop() {
+		if (subscription != null) {
+			subscription.dispose();
+		}
+	}
+
+	/**
+	 * 번역 요청을 큐에 등록하고, 일괄 번역 결과 중 해당 문자열의 번역 결과를 반환
+	 * 
+	 * @param text 번역할 문자열
+	 * @param targetLang 번역할 언어
+	 * @param sourceLang 원본 언어
+	 * @return 번역된 문자열
+	 */
+	public Mono<String> translate(String text, String targetLang, String sourceLang) {
+		return Mono.defer(() -> {
+			TranslationRequest request = new TranslationRequest(
+					text, new LanguagePair(sourceLang, targetLang), Sinks.one());
+			// 여러 요청 스레드에서 동시에 등록하므로, 충돌시 재시도
+			requestSink.emitNext(request, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION));
+			return request.result().asMono();
+		});
+	}
+
+	/**
+	 * 모아진 번역 요청을 1회의 DeepL API 요청으로 번역하고, 응답 순서대로 각 요청자에게 결과를 분배
+	 * 실패한 경우 모든 요청자에게 에러를 전달
+	 * 
+	 * @param batch 같은 언어 쌍의 번역 요청 리스트
+	 * @return 완료 Mono
+	 */
+	private Mono<Void> flush(List<TranslationRequest> batch) {
+
+		LanguagePair languagePair = batch.get(0).languagePair();
+
+		// 파라미터 맵 생성 (text 파라미터를 요청 순서대로 복수 지정)
+		MultiValueMap<String, String> paramsMap = new LinkedMultiValueMap<>();
+		batch.forEach(request -> paramsMap.add("text", request.text()));
+		paramsMap.add("target_lang", languagePair.targetLang());
+		paramsMap.add("source_lang", languagePair.sourceLang());
+
+		// DeepL API를 호출하여 번역 요청
+		return deeplWebClient.post()
+				.uri(translatePath)
+				.bodyValue(paramsMap)
+				.retrieve()
+				.bodyToMono(JsonNode.class)
+				.doOnNext(json -> {
+					JsonNode translations = json.get("translations");
+					if (translations == null || translations.size() != batch.size()) {
+						throw new IllegalStateException("DeepL translations count mismatch");
+					}
+					for (int i = 0; i < batch.size(); i++) {
+						batch.get(i).result().tryEmitValue(translations.get(i).get("text").asText());
+					}
+				})
+				.doOnError(ex -> {
+					log.warn("DeepL batch translation failed (size={}): {}", batch.size(), ex.getMessage());
+					batch.forEach(request -> request.result().tryEmitError(ex));
+				})
+				.onErrorResume(ex -> Mono.empty())
+				// 응답이 비어있는 경우 요청자가 대기하지 않도록 완료 처리 (결과를 받은 요청에는 영향 없음)
+				.then(Mono.fromRunnable(() -> batch.forEach(request -> request.result().tryEmitEmpty())));
+	}
+
+	/**
+	 * 번역 언어 쌍
+	 * 
+	 * @param sourceLang 원본 언어
+	 * @param targetLang 번역할 언어
+	 */
+	private record LanguagePair(String sourceLang, String targetLang) {}
+
+	/**
+	 * 번역 요청
+	 * 
+	 * @param text 번역할 문자열
+	 * @param languagePair 번역 언어 쌍
+	 * @param result 번역 결과 전달용 Sink
+	 */
+	private record TranslationRequest(String text, LanguagePair languagePair, Sinks.One<String> result) {}
+}
@@ -6,15 +6,14 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbGenreDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbGenreListDto;
-import com.cjy.contenthub.common.constants.CommonConstants;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
 
 /**
  * TMDB API 장르 클라이언트 클래스
@@ -41,14 +40,11 @@ public class TmdbApiGenreClient {
 
 	/**
 	 * TMDB API를 호출하여 TV 장르 정보를 취득
-	 * 캐시를 사용하여 동일한 요청에 대해 반복적인 API 호출을 방지
-	 * @Cacheable 어노테이션을 사용하여 캐시를 적용
-	 * @Cacheable를 사용하기 위해서는 동기화 된 메소드여야 하므로, .block() 메소드를 사용하여 결과를 반환
+	 * 취득 결과는 장르 레지스트리(TmdbGenreRegistry)가 보관하므로 캐시하지 않음
 	 * 
 	 * @return TV 장르 정보
 	 */
-	@Cacheable(CommonConstants.API_TV_GENRE_NAME)
-	public Map<String, Integer> getTvGenres() {
+	public Mono<Map<String, Integer>> getTvGenres() {
 
 		// TMDB API를 호출하여 TV 장르 정보를 취득
 		return tmdbWebClient.get()
@@ -65,19 +61,16 @@ public class TmdbApiGenreClient {
 								(oldId, newId) -> newId, // 키 중복일 경우, 새로운 키로 덮어씌움
 								HashMap::new // 반환형 지정
 								))
-						).block();
+						);
 	}
 
 	/**
 	 * TMDB API를 호출하여 영화 장르 정보를 취득
-	 * 캐시를 사용하여 동일한 요청에 대해 반복적인 API 호출을 방지
-	 * @Cacheable 어노테이션을 사용하여 캐시를 적용
-	 * @Cacheable를 사용하기 위해서는 동기화 된 메소드여야 하므로, .block() 메소드를 사용하여 결과를 반환
+	 * 취득 결과는 장르 레지스트리(TmdbGenreRegistry)가 보관하므로 캐시하지 않음
 	 * 
 	 * @return 영화 장르 정보
 	 */
-	@Cacheable(CommonConstants.API_MOVIE_GENRE_NAME)
-	public Map<String, Integer> getMovieGenres() {
+	public Mono<Map<String, Integer>> getMovieGenres() {
 
 		// TMDB API를 호출하여 영화 장르 정보를 취득
 		return tmdbWebClient.get()
@@ -94,7 +87,7 @@ public class TmdbApiGenreClient {
 								(oldId, newId) -> newId, // 키 중복일 경우, 새로운 키로 덮어씌움
 								HashMap::new // 반환형 지정
 								))
-						).block();
+						);
 	}
 
 }
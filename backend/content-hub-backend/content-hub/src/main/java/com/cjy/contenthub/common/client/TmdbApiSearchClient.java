@@ -0,0 +1,141 @@
+package com.cjy.contenthub.common.client;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchMovieDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchMovieResultsDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvResultsDto;
+import com.cjy.contenthub.common.constants.CommonConstants;
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
+import com.cjy.contenthub.common.util.KeywordIndexUtil;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * TMDB API 검색 클라이언트 클래스
+ * TMDB TV/영화 검색 API의 원본 응답 페이지를 취득하는 기능을 제공하는 클래스
+ * 원본 페이지는 (검색어, 페이지, 성인물 포함 여부, 언어) 단위로 캐시되며,
+ * 애니/드라마/영화 등 가공된 검색 결과는 모두 이 원본 페이지에서 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class TmdbApiSearchClient {
+
+	/** API 통신용 WebClient 공통 클래스 */
+	@Qualifier("tmdbWebClient")
+	private final WebClient tmdbWebClient;
+
+	/** 자동완성 작품명 색인 */
+	private final KeywordIndexUtil keywordIndex;
+
+	/** TMDB API TV시리즈 검색 API 패스 */
+	@Value("${tmdb.url.tvSearchPath}")
+	private String tvSearchPath;
+
+	/** TMDB API 영화 검색 API 패스 */
+	@Value("${tmdb.url.movieSearchPath}")
+	private String movieSearchPath;
+
+	/** 리퀘스트 파라미터 키 : 검색어 */
+	private static final String PARAM_QUERY = "query";
+
+	/** 리퀘스트 파라미터 키 : 페이지 */
+	private static final String PARAM_PAGE = "page";
+
+	/** 리퀘스트 파라미터 키 : 성인물 포함 여부 */
+	private static final String PARAM_INCLUDE_ADULT = "include_adult";
+
+	/** 리퀘스트 파라미터 키 : 언어 */
+	private static final String PARAM_LANGUAGE = "language";
+
+	/**
+	 * TMDB API를 호출하여 TV 검색 원본 페이지를 취득
+	 * 캐시 키는 정규화된 검색어 + 나머지 메소드 인수(페이지, 성인물 포함 여부, 언어)
+	 * 캐시된 DTO는 여러 검색 결과에서 공유되므로, 호출측에서 리스트를 직접 변경하지 않도록 주의
+	 * 
+	 * @param query 검색어
+	 * @param page 페이지
+	 * @param isAdult 성인물 포함 여부
+	 * @param language 언어
+	 * @return TV 검색 원본 페이지
+	 */
+	@Cacheable(value = CommonConstants.API_SEARCH_TV_PAGE_NAME, keyGenerator = CommonConstants.QUERY_KEY_GENERATOR, unless = "#result == null")
+	public Mono<TmdbSearchTvDto> searchTv(String query, int page, boolean isAdult, String language) {
+
+		// TMDB API를 호출하여 TV 검색 결과를 취득
+		return tmdbWebClient.get()
+				.uri(builder -> builder
+						.path(tvSearchPath)
+						.queryParam(PARAM_QUERY, query)
+						.queryParam(PARAM_INCLUDE_ADULT, isAdult)
+						.queryParam(PARAM_LANGUAGE, language)
+						.queryParam(PARAM_PAGE, page)
+						.build())
+				.retrieve()
+				.bodyToMono(TmdbSearchTvDto.class)
+				.doOnNext(response -> indexTvResults(response.getResults()));
+	}
+
+	/**
+	 * TMDB API를 호출하여 영화 검색 원본 페이지를 취득
+	 * 캐시 키는 정규화된 검색어 + 나머지 메소드 인수(페이지, 성인물 포함 여부, 언어)
+	 * 캐시된 DTO는 여러 검색 결과에서 공유되므로, 호출측에서 리스트를 직접 변경하지 않도록 주의
+	 * 
+	 * @param query 검색어
+	 * @param page 페이지
+	 * @param isAdult 성인물 포함 여부
+	 * @param language 언어
+	 * @return 영화 검색 원본 페이지
+	 */
+	@Cacheable(value = CommonConstants.API_SEARCH_MOVIE_PAGE_NAME, keyGenerator = CommonConstants.QUERY_KEY_GENERATOR, unless = "#result == null")
+	public Mono<TmdbSearchMovieDto> searchMovie(String query, int page, boolean isAdult, String language) {
+
+		// TMDB API를 호출하여 영화 검색 결과를 취득
+		return tmdbWebClient.get()
+				.uri(builder -> builder
+						.path(movieSearchPath)
+						.queryParam(PARAM_QUERY, query)
+						.queryParam(PARAM_INCLUDE_ADULT, isAdult)
+						.queryParam(PARAM_LANGUAGE, language)
+						.queryParam(PARAM_PAGE, page)
+						.build())
+				.retrieve()
+				.bodyToMono(TmdbSearchMovieDto.class)
+				.doOnNext(response -> indexMovieResults(response.getResults()));
+	}
+
+	/**
+	 * TV 검색 결과를 자동완성 색인에 등록
+	 * 
+	 * @param results TV 검색 결과 리스트
+	 */
+	private void indexTvResults(List<TmdbSearchTvResultsDto> results) {
+		if (CollectionUtils.isEmpty(results)) {
+			return;
+		}
+		results.forEach(e -> keywordIndex.add(e.getName(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue(),
+				e.getGenreIds(), e.getPopularity(), e.isAdult()));
+	}
+
+	/**
+	 * 영화 검색 결과를 자동완성 색인에 등록
+	 * 
+	 * @param results 영화 검색 결과 리스트
+	 */
+	private void indexMovieResults(List<TmdbSearchMovieResultsDto> results) {
+		if (CollectionUtils.isEmpty(results)) {
+			return;
+		}
+		results.forEach(e -> keywordIndex.add(e.getTitle(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue(),
+				e.getGenreIds(), e.getPopularity(), e.isAdult()));
+	}
+}
@@ -0,0 +1,97 @@
+package com.cjy.contenthub.common.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cjy.contenthub.common.constants.CommonEnum.TmdbGenreEnum;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * TMDB 장르 레지스트리 클래스
+ * TMDB TV/영화 장르 정보(장르명 → 장르 ID)를 불변 맵으로 보관하고, 백그라운드에서 주기적으로 갱신
+ * 검색 처리는 항상 보관 중인 맵을 즉시 참조하므로, 장르 정보 취득으로 블로킹되지 않음
+ * TMDB API에서 취득하기 전(또는 취득 실패시)에는 TmdbGenreEnum의 장르 ID를 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TmdbGenreRegistry {
+
+	/** 취득 실패시 재시도 횟수 */
+	private static final int MAX_RETRY = 3;
+
+	/** 취득 실패시 재시도 최소 간격 */
+	private static final Duration RETRY_BACKOFF = Duration.ofSeconds(2);
+
+	/** TmdbGenreEnum 기반 기본 장르 맵 */
+	private static final Map<String, Integer> FALLBACK_GENRES = Stream.of(TmdbGenreEnum.values())
+			.collect(Collectors.toUnmodifiableMap(TmdbGenreEnum::getGenreEnglish, TmdbGenreEnum::getGenreId));
+
+	/** TMDB API 장르 클라이언트 */
+	private final TmdbApiGenreClient tmdbApiGenreClient;
+
+	/** 현재 장르 정보 (갱신시 통째로 교체) */
+	private volatile GenreTables tables = new GenreTables(FALLBACK_GENRES, FALLBACK_GENRES);
+
+	/**
+	 * 어플리케이션 기동 완료 후 장르 정보 최초 취득 (기동 스레드를 블로킹하지 않도록 구독만 수행)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		refresh();
+	}
+
+	/**
+	 * 장르 정보를 주기적으로 갱신
+	 * 실패한 경우 또는 장르 정보가 바뀌지 않은 경우 기존 장르 정보를 유지
+	 */
+	@Scheduled(initialDelayString = "${tmdb.custom.genreRefreshMillis}", fixedDelayString = "${tmdb.custom.genreRefreshMillis}")
+	public void refresh() {
+		Mono.zip(tmdbApiGenreClient.getTvGenres(), tmdbApiGenreClient.getMovieGenres())
+				.retryWhen(Retry.backoff(MAX_RETRY, RETRY_BACKOFF))
+				.subscribe(tuple -> {
+					GenreTables refreshed = new GenreTables(Map.copyOf(tuple.getT1()), Map.copyOf(tuple.getT2()));
+					// 장르 정보가 바뀌지 않은 경우는 기존 인스턴스를 유지 (장르 맵 인스턴스 기준의 파생 데이터를 재생성하지 않도록 함)
+					if (refreshed.equals(tables)) {
+						log.debug("TMDB genre registry unchanged");
+						return;
+					}
+					tables = refreshed;
+					log.info("TMDB genre registry refreshed");
+				}, ex -> log.warn("TMDB genre registry refresh failed: {}", ex.getMessage()));
+	}
+
+	/**
+	 * 같은 시점의 TV/영화 장르 맵으로 처리를 실행
+	 * 장르 맵은 불변이며, 갱신될 때까지 같은 인스턴스를 반환
+	 * 
+	 * @param <T> 처리 결과 타입
+	 * @param function 처리 (TV 장르 맵, 영화 장르 맵)
+	 * @return 처리 결과
+	 */
+	public <T> T withGenres(BiFunction<Map<String, Integer>, Map<String, Integer>, T> function) {
+		GenreTables current = tables;
+		return function.apply(current.tvGenres(), current.movieGenres());
+	}
+
+	/**
+	 * 장르 정보
+	 * TV/영화 장르 맵을 함께 교체하여, 참조하는 쪽이 서로 다른 시점의 맵을 조합하지 않도록 함
+	 * 
+	 * @param tvGenres TV 장르 맵
+	 * @param movieGenres 영화 장르 맵
+	 */
+	private record GenreTables(Map<String, Integer> tvGenres, Map<String, Integer> movieGenres) {}
+}
@@ -1,46 +1,166 @@
 package com.cjy.contenthub.common.config;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.cjy.contenthub.common.constants.CommonConstants;
 import com.cjy.contenthub.common.constants.CommonEnum.CacheTypeEnum;
+import com.cjy.contenthub.common.util.CacheRefreshUtil;
+import com.cjy.contenthub.common.util.ObjectSizeUtil;
+import com.cjy.contenthub.common.util.SessionUtil;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
 
 /**
  * 캐시 보존 설정 클래스
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
 public class CacheConfig {
 
+	/** 메트릭 이름 : 캐시 추정 메모리 사용량 */
+	private static final String METRIC_MEMORY_ESTIMATED = "cache.memory.estimated";
+
+	/** 메트릭 이름 : 캐시 최대 메모리 사용량 */
+	private static final String METRIC_MEMORY_MAX = "cache.memory.max";
+
+	/** 메트릭 태그 : 캐시 이름 */
+	private static final String TAG_CACHE = "cache";
+
 	/**
 	 * Caffeine을 사용하여 캐시를 관리하는 CacheManager를 생성
-	 * 비동기 캐시 모드를 활성화하고, 캐시의 만료 시간과 최대 크기를 설정
+	 * 비동기 캐시 모드를 활성화하고, 캐시별 정책(CachePolicyProperties)으로 만료 시간과 최대 메모리 사용량을 설정
+	 * 비동기 캐시 모드에서는 Caffeine AsyncCache를 사용하므로, Mono를 반환하는 @Cacheable 메소드는 블로킹 없이 발행된 값을 캐시
+	 * 엔트리 개수가 아닌 추정 메모리 사용량(키 + 값의 객체 그래프 크기)으로 제거 대상을 판단하므로,
+	 * 작은 엔트리(번역 등)와 큰 엔트리(크레딧을 포함한 상세 정보 등)의 캐시를 같은 기준으로 관리
+	 * CacheTypeEnum에 정의된 캐시와 정책이 설정된 캐시는 기동시에 미리 생성하여,
+	 * 액추에이터 캐시 메트릭(cache.gets 등)과 메모리 사용량 메트릭(cache.memory.estimated)에 등록되도록 함
+	 * (그 외의 캐시는 최초 사용시 기본 정책으로 동적으로 생성되며, 메트릭에는 등록되지 않음)
+	 * 선행 갱신 시간이 설정된 캐시(상세, 인물, 캐릭터, 추천 등)는 갱신 시간 경과 후 기존 값을 반환하면서 비동기로 재조회하고,
+	 * 더 긴 만료 시간에 도달한 경우에만 삭제
 	 * CacheManager를 반환하여 스프링 애플리케이션에서 캐시를 사용할 수 있도록 설정
-	 * 
+	 *
+	 * @param cacheRefresh 캐시 선행 갱신 공통 클래스
+	 * @param policies 캐시별 보존 정책 설정
+	 * @param meterRegistry 메트릭 레지스트리
 	 * @return CacheManager
 	 */
 	@Bean
-	CacheManager cacheManager() {
-		
+	CacheManager cacheManager(CacheRefreshUtil cacheRefresh, CachePolicyProperties policies, MeterRegistry meterRegistry) {
+
 		// CaffeineCacheManager 생성
 		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
 		// 비동기 캐시 모드 활성화
-		cacheManager.setAsyncCacheMode(true); 
-		
-		// Caffeine Cache 의 커스텀 설정 
-		Caffeine<Object, Object> caffeineCache = Caffeine.newBuilder()
-				.expireAfterWrite(CacheTypeEnum.EXPIRE_AFTER_WRITE, TimeUnit.MINUTES) // 캐시 생성 후, 삭제되는 시간 설정
-				.maximumSize(CacheTypeEnum.MAXIMUM_SIZE) // 캐시 등록 개수 설정
-				.recordStats(); // 캐시 통계 기록 활성화
-		// CaffeineCacheManager에 설정
-		cacheManager.setCaffeine(caffeineCache); 
-		
+		cacheManager.setAsyncCacheMode(true);
+
+		// Caffeine Cache 의 기본 정책을 CaffeineCacheManager에 설정 (동적으로 생성되는 캐시에 적용)
+		cacheManager.setCaffeine(newCaffeineBuilder(policies.defaults()));
+
+		// 미리 생성할 캐시 이름 (정의된 캐시 + 정책이 설정된 캐시)
+		Set<String> cacheNames = new LinkedHashSet<>();
+		Arrays.stream(CacheTypeEnum.values()).map(CacheTypeEnum::getCacheName).forEach(cacheNames::add);
+		cacheNames.addAll(policies.caches().keySet());
+
+		// 캐시 미리 생성 (동적 캐시 생성은 그대로 유지)
+		for (String cacheName : cacheNames) {
+			CachePolicyProperties.Policy policy = policies.policyOf(cacheName);
+			Caffeine<Object, Object> builder = newCaffeineBuilder(policy);
+			AsyncCache<Object, Object> cache;
+			if (policy.isRefreshAhead()) {
+				// 선행 갱신 대상 캐시 (비동기 로더를 설정한 AsyncLoadingCache)
+				cache = builder
+						.refreshAfterWrite(policy.refreshAfterWrite()) // 기존 값 반환 후 비동기 재조회 시작 시간 설정
+						.buildAsync(cacheRefresh.loaderFor(cacheName));
+			} else {
+				cache = builder.buildAsync();
+			}
+			cacheManager.registerCustomCache(cacheName, cache);
+			registerMemoryGauges(meterRegistry, cacheName, cache);
+		}
+
 		return cacheManager;
 	}
+
+	/**
+	 * Caffeine 캐시 빌더 생성
+	 * 만료 시간은 작성 시점 기준(expireAfterWrite와 동일)이지만, 엔트리별 만료 시간 정책(Expiry)으로 설정하여
+	 * 캐시 스냅샷 복원시 엔트리별 남은 만료 시간을 지정할 수 있도록 함
+	 * 엔트리 가중치는 키와 값의 추정 메모리 사용량(바이트)이며, 값은 쓰기마다 객체 그래프를 탐색하지 않도록 클래스별 표본 평균으로 추정
+	 *
+	 * @param policy 캐시 정책
+	 * @return Caffeine 캐시 빌더
+	 */
+	private static Caffeine<Object, Object> newCaffeineBuilder(CachePolicyProperties.Policy policy) {
+		Duration expireAfterWrite = policy.expireAfterWrite();
+		return Caffeine.newBuilder()
+				.expireAfter(Expiry.writing((Object key, Object value) -> expireAfterWrite)) // 캐시 생성 후, 삭제되는 시간 설정
+				.maximumWeight(policy.maximumWeight().toBytes()) // 캐시 최대 메모리 사용량 설정
+				.weigher((Object key, Object value) -> (int) Math.min(Integer.MAX_VALUE,
+						ObjectSizeUtil.estimate(key) + ObjectSizeUtil.estimateSampled(value))) // 엔트리별 추정 메모리 사용량 (값은 클래스별 표본 추정)
+				.recordStats(); // 캐시 통계 기록 활성화
+	}
+
+	/**
+	 * 캐시 메모리 사용량 메트릭 등록
+	 * 히트율(cache.gets)과 함께 확인하여 메모리 대비 효과가 큰 캐시에 용량을 배분하기 위한 지표
+	 *
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @param cacheName 캐시 이름
+	 * @param cache Caffeine 비동기 캐시
+	 */
+	private static void registerMemoryGauges(MeterRegistry meterRegistry, String cacheName, AsyncCache<Object, Object> cache) {
+		Gauge.builder(METRIC_MEMORY_ESTIMATED, cache, c -> c.synchronous().policy().eviction()
+				.map(eviction -> eviction.weightedSize().orElse(0L))
+				.orElse(0L))
+		.tag(TAG_CACHE, cacheName)
+		.baseUnit(BaseUnits.BYTES)
+		.description("Estimated retained size of cache entries")
+		.register(meterRegistry);
+		Gauge.builder(METRIC_MEMORY_MAX, cache, c -> c.synchronous().policy().eviction()
+				.map(eviction -> eviction.getMaximum())
+				.orElse(0L))
+		.tag(TAG_CACHE, cacheName)
+		.baseUnit(BaseUnits.BYTES)
+		.description("Maximum estimated size of cache entries")
+		.register(meterRegistry);
+	}
+
+	/**
+	 * 정규화된 검색어 + 나머지 인수로 캐시 키를 생성하는 KeyGenerator
+	 * 성인물 여부가 결과에 영향을 주지 않거나 인수로 전달되는 캐시(번역, TMDB 검색 원본 페이지)에서 사용
+	 *
+	 * @return KeyGenerator
+	 */
+	@Bean(CommonConstants.QUERY_KEY_GENERATOR)
+	KeyGenerator queryKeyGenerator() {
+		return new QueryCacheKeyGenerator(null);
+	}
+
+	/**
+	 * 정규화된 검색어 + 나머지 인수 + 세션의 성인물 플래그로 캐시 키를 생성하는 KeyGenerator
+	 * 메소드 내부에서 세션의 성인물 플래그를 참조하는 검색 캐시에서 사용
+	 *
+	 * @param session 세션 유틸
+	 * @return KeyGenerator
+	 */
+	@Bean(CommonConstants.SEARCH_KEY_GENERATOR)
+	KeyGenerator searchKeyGenerator(SessionUtil session) {
+		return new QueryCacheKeyGenerator(session);
+	}
 }
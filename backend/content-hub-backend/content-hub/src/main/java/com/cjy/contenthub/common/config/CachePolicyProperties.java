@@ -0,0 +1,67 @@
+package com.cjy.contenthub.common.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 캐시별 보존 정책 설정 클래스
+ * app.cachePolicy.defaults에 기본 정책을, app.cachePolicy.caches.<캐시 이름>에 캐시별 정책을 설정
+ * 캐시별 정책에서 생략한 항목은 기본 정책의 값을 사용
+ *
+ * @param defaults 기본 정책 (동적으로 생성되는 캐시에도 적용)
+ * @param caches 캐시 이름별 정책
+ */
+@ConfigurationProperties(prefix = "app.cache-policy")
+public record CachePolicyProperties(Policy defaults, Map<String, Policy> caches) {
+
+	/**
+	 * 생성자
+	 * 캐시별 정책이 설정되지 않은 경우 빈 맵으로 초기화
+	 *
+	 * @param defaults 기본 정책
+	 * @param caches 캐시 이름별 정책
+	 */
+	public CachePolicyProperties {
+		caches = Optional.ofNullable(caches).orElse(Map.of());
+	}
+
+	/**
+	 * 캐시 이름에 해당하는 정책 취득 (생략된 항목은 기본 정책으로 보완)
+	 *
+	 * @param cacheName 캐시 이름
+	 * @return 캐시 정책
+	 */
+	public Policy policyOf(String cacheName) {
+		Policy policy = caches.get(cacheName);
+		if (policy == null) {
+			return defaults;
+		}
+		return new Policy(
+				Optional.ofNullable(policy.expireAfterWrite()).orElse(defaults.expireAfterWrite()),
+				Optional.ofNullable(policy.refreshAfterWrite()).orElse(defaults.refreshAfterWrite()),
+				Optional.ofNullable(policy.maximumWeight()).orElse(defaults.maximumWeight()));
+	}
+
+	/**
+	 * 캐시 정책
+	 *
+	 * @param expireAfterWrite 작성 후 만료 시간
+	 * @param refreshAfterWrite 작성 후 선행 갱신 시간 (생략시 선행 갱신하지 않음)
+	 * @param maximumWeight 최대 추정 메모리 사용량 (초과시 사용 빈도가 낮은 엔트리부터 제거)
+	 */
+	public record Policy(Duration expireAfterWrite, Duration refreshAfterWrite, DataSize maximumWeight) {
+
+		/**
+		 * 선행 갱신 여부
+		 *
+		 * @return 선행 갱신 시간이 설정된 경우 true
+		 */
+		public boolean isRefreshAhead() {
+			return refreshAfterWrite != null;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.cjy.contenthub.common.config;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import com.cjy.contenthub.common.constants.CommonConstants;
+import com.cjy.contenthub.common.util.SearchQueryUtil;
+import com.cjy.contenthub.common.util.SessionUtil;
+
+/**
+ * 검색어 기반 캐시 키 생성 클래스
+ * 첫번째 인수(검색어)를 정규화하고, 나머지 인수와 함께 레코드 키로 생성
+ * 성인물 플래그를 포함하는 경우, 요청 스레드의 세션에서 플래그를 취득하여 키에 포함
+ * (@Cacheable 프록시는 메소드 호출 스레드에서 키를 생성하므로 세션 취득 가능)
+ */
+public class QueryCacheKeyGenerator implements KeyGenerator {
+
+	/** 세션 유틸 (성인물 플래그를 키에 포함하지 않는 경우 null) */
+	private final SessionUtil session;
+
+	/**
+	 * 생성자
+	 *
+	 * @param session 세션 유틸 (성인물 플래그를 키에 포함하지 않는 경우 null)
+	 */
+	public QueryCacheKeyGenerator(SessionUtil session) {
+		this.session = session;
+	}
+
+	/**
+	 * 캐시 키 생성
+	 *
+	 * @param target 대상 오브젝트
+	 * @param method 대상 메소드
+	 * @param params 메소드 인수 (첫번째 인수는 검색어, 페이지 등 나머지 인수는 null 허용)
+	 * @return 캐시 키
+	 */
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		String query = params.length > 0 && params[0] instanceof String text
+				? SearchQueryUtil.canonicalize(text)
+				: null;
+		List<Object> otherParams = params.length > 1
+				? Collections.unmodifiableList(new ArrayList<>(Arrays.asList(params).subList(1, params.length)))
+				: List.of();
+		boolean isAdult = session != null && session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
+		return new QueryCacheKey(query, otherParams, isAdult);
+	}
+
+	/**
+	 * 검색어 캐시 키
+	 *
+	 * @param query 정규화된 검색어
+	 * @param params 검색어 이외의 인수
+	 * @param isAdult 성인물 포함 여부
+	 */
+	public record QueryCacheKey(String query, List<Object> params, boolean isAdult) {}
+}
@@ -0,0 +1,14 @@
+package com.cjy.contenthub.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 처리 설정 클래스
+ * @Scheduled 어노테이션이 붙은 메소드의 주기 실행을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,113 @@
+package com.cjy.contenthub.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 고정(pinning) 감시 클래스
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작
+ * 가상 스레드가 synchronized 블록 등에서 블로킹되어 캐리어 스레드를 점유한 경우(JDBC 드라이버, 커넥션 풀 등),
+ * JFR 이벤트(jdk.VirtualThreadPinned)를 수신하여 어플리케이션 호출 위치와 함께 로그 출력 및 메트릭 집계
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+	/** JFR 이벤트 이름 : 가상 스레드 고정 */
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	/** 메트릭 이름 : 가상 스레드 고정 건수 */
+	private static final String METRIC_PINNED = "jvm.threads.virtual.pinned";
+
+	/** 메트릭 태그 : 호출 위치 */
+	private static final String TAG_LOCATION = "location";
+
+	/** 호출 위치 판정용 어플리케이션 패키지 */
+	private static final String BASE_PACKAGE = "com.cjy.contenthub.";
+
+	/** 호출 위치를 알 수 없는 경우의 태그 값 */
+	private static final String UNKNOWN_LOCATION = "unknown";
+
+	/** 메트릭 레지스트리 */
+	private final MeterRegistry meterRegistry;
+
+	/** 보고 대상 최소 고정 시간 */
+	private final Duration threshold;
+
+	/** JFR 이벤트 스트림 */
+	private RecordingStream recordingStream;
+
+	/**
+	 * 생성자
+	 *
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @param pinnedThresholdMillis 보고 대상 최소 고정 시간(밀리초)
+	 */
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+			@Value("${app.virtualThreads.pinnedThresholdMillis}") long pinnedThresholdMillis) {
+		this.meterRegistry = meterRegistry;
+		this.threshold = Duration.ofMillis(pinnedThresholdMillis);
+	}
+
+	/**
+	 * JFR 이벤트 스트림 개시 (별도 스레드에서 비동기로 수신)
+	 */
+	@PostConstruct
+	public void start() {
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::report);
+		recordingStream.startAsync();
+		log.info("Virtual thread pinning monitor started (threshold={}ms)", threshold.toMillis());
+	}
+
+	/**
+	 * JFR 이벤트 스트림 종료
+	 */
+	@PreDestroy
+	public void stop() {
+		if (recordingStream != null) {
+			recordingStream.close();
+		}
+	}
+
+	/**
+	 * 가상 스레드 고정 이벤트 보고
+	 * 스택 트레이스에서 가장 안쪽의 어플리케이션 호출 위치(예: DetailCommentServiceImpl.saveComment)를 태그로 집계
+	 *
+	 * @param event 고정 이벤트
+	 */
+	private void report(RecordedEvent event) {
+		List<RecordedFrame> frames = Optional.ofNullable(event.getStackTrace())
+				.map(stackTrace -> stackTrace.getFrames())
+				.orElse(List.of());
+		String location = frames.stream()
+				.filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(BASE_PACKAGE))
+				.findFirst()
+				.map(frame -> frame.getMethod().getType().getName().substring(BASE_PACKAGE.length())
+						+ "." + frame.getMethod().getName())
+				.orElse(UNKNOWN_LOCATION);
+		String topFrame = frames.stream().findFirst()
+				.map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+				.orElse(UNKNOWN_LOCATION);
+		Counter.builder(METRIC_PINNED).tag(TAG_LOCATION, location).register(meterRegistry).increment();
+		log.warn("Virtual thread pinned for {}ms at {} (blocked in {})",
+				event.getDuration().toMillis(), location, topFrame);
+	}
+}
@@ -9,10 +9,12 @@ import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.cjy.contenthub.common.client.CoalescingExchangeFilter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -44,6 +46,9 @@ public class WebClientConfig {
 	@Value("${deepl.api.key}")
 	private String deeplApiKey;
 
+	/** 메트릭 레지스트리 */
+	private final MeterRegistry meterRegistry;
+
 	/**
 	 * TMDB API와 통신하기 위한 WebClient를 설정
 	 * @Bean 어노테이션을 사용하여 스프링 컨테이너에 WebClient 빈으로 등록
@@ -58,6 +63,7 @@ public class WebClientConfig {
 				.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer ".concat(tmdbApiAccessToken)) // 헤더에 인증에 필요한 토큰 설정
 				.defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE) // 헤더에 응답 데이터 타입 설정
 				.exchangeStrategies(getExchangeStrategies()) // 응답 데이터 매핑 전략 설정
+				.filter(new CoalescingExchangeFilter("tmdb", meterRegistry)) // 동일 요청 병합 필터 설정
 				.build();
 	}
 
@@ -75,6 +81,7 @@ public class WebClientConfig {
 				.baseUrl(anilistBaseUrl) // AniList API 기본 URL 설정
 				.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE) // 헤더에 전송하는 데이터 타입 설정
 				.defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE) // 헤더에 응답 데이터 타입 설정
+				.filter(new CoalescingExchangeFilter("anilist", meterRegistry)) // 동일 요청 병합 필터 설정
 				.build();
 	}
 
@@ -123,6 +130,22 @@ public class WebClientConfig {
 				.build();
 	}
 
+	/**
+	 * 외부 CDN 이미지 다운로드용 WebClient를 설정 (이미지 프록시)
+	 * 요청마다 절대 URL을 지정하므로 기본 URL은 설정하지 않음
+	 * @Bean 어노테이션을 사용하여 스프링 컨테이너에 WebClient 빈으로 등록
+	 * 
+	 * @return WebClient 인스턴스
+	 */
+	@Bean
+	WebClient imageWebClient() {
+		// WebClient 공통설정
+		return WebClient.builder()
+				.defaultHeader(HttpHeaders.ACCEPT, "image/*") // 헤더에 응답 데이터 타입 설정
+				.codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 최대 메모리 크기 설정 (10MB, 원본 이미지 크기 상한)
+				.build();
+	}
+
 	/**
 	 * WebClient에서 JSON 응답을 파싱할 때 사용할 ExchangeStrategies를 설정
 	 * 
@@ -9,11 +9,38 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CommonConstants {
 
-	/** TV 장르명 */
-	public static final String API_TV_GENRE_NAME = "tvGenre";
-	
-	/** 영화 장르명 */
-    public static final String API_MOVIE_GENRE_NAME = "movieGenre";
+	/** TMDB TV 검색 원본 페이지 캐시명 */
+    public static final String API_SEARCH_TV_PAGE_NAME = "tmdbSearchTvPage";
+    
+    /** TMDB 영화 검색 원본 페이지 캐시명 */
+    public static final String API_SEARCH_MOVIE_PAGE_NAME = "tmdbSearchMoviePage";
+    
+    /** 검색어 자동완성 캐시명 */
+    public static final String SEARCH_KEYWORD_NAME = "searchKeyword";
+    
+    /** 애니/드라마/영화 검색 캐시명 */
+    public static final String SEARCH_VIDEO_NAME = "searchVideo";
+    
+    /** 애니 검색 캐시명 */
+    public static final String SEARCH_ANI_NAME = "searchAni";
+    
+    /** 드라마 검색 캐시명 */
+    public static final String SEARCH_DRAMA_NAME = "searchDrama";
+    
+    /** 영화 검색 캐시명 */
+    public static final String SEARCH_MOVIE_NAME = "searchMovie";
+    
+    /** 만화 검색 캐시명 */
+    public static final String SEARCH_COMICS_NAME = "searchComics";
+    
+    /** 애니 피드 검색 캐시명 */
+    public static final String SEARCH_ANI_FEED_NAME = "searchAniFeed";
+    
+    /** 캐시 키 생성기 빈 이름 : 정규화된 검색어 + 인수 */
+    public static final String QUERY_KEY_GENERATOR = "queryKeyGenerator";
+    
+    /** 캐시 키 생성기 빈 이름 : 정규화된 검색어 + 인수 + 세션 성인물 플래그 */
+    public static final String SEARCH_KEY_GENERATOR = "searchKeyGenerator";
     
     /** 번역 API 이름 */
     public static final String API_TRANSLATE_NAME = "translate";
@@ -30,6 +57,9 @@ public class CommonConstants {
     /** 성인물 플래그 */
     public static final String ADULT_FLG = "adult_flg";
     
+    /** WebClient 요청 병합 키 속성명 (POST 요청 본문 등 URL로 구분할 수 없는 요청에 설정) */
+    public static final String WEBCLIENT_COALESCING_KEY = "webclient_coalescing_key";
+    
     /** 인증 토큰 접두어 */
     public static final String AUTHORIZATION_HEADER_PREFIX = "Bearer ";
     
@@ -184,38 +184,29 @@ public class CommonEnum {
 	@Getter
 	public enum CacheTypeEnum {
 
-		/** TV 장르 캐시 */
-		API_TV_GENRE(CommonConstants.API_TV_GENRE_NAME),
-		/** 영화 장르 캐시 */
-		API_MOVIE_GENRE(CommonConstants.API_MOVIE_GENRE_NAME),
 		/** 번역 API 캐시 */
-		API_TRANSLATE_NAME(CommonConstants.API_TRANSLATE_NAME);
+		API_TRANSLATE_NAME(CommonConstants.API_TRANSLATE_NAME),
+		/** TMDB TV 검색 원본 페이지 캐시 */
+		API_SEARCH_TV_PAGE(CommonConstants.API_SEARCH_TV_PAGE_NAME),
+		/** TMDB 영화 검색 원본 페이지 캐시 */
+		API_SEARCH_MOVIE_PAGE(CommonConstants.API_SEARCH_MOVIE_PAGE_NAME),
+		/** 검색어 자동완성 캐시 */
+		SEARCH_KEYWORD(CommonConstants.SEARCH_KEYWORD_NAME),
+		/** 애니/드라마/영화 검색 캐시 */
+		SEARCH_VIDEO(CommonConstants.SEARCH_VIDEO_NAME),
+		/** 애니 검색 캐시 */
+		SEARCH_ANI(CommonConstants.SEARCH_ANI_NAME),
+		/** 드라마 검색 캐시 */
+		SEARCH_DRAMA(CommonConstants.SEARCH_DRAMA_NAME),
+		/** 영화 검색 캐시 */
+		SEARCH_MOVIE(CommonConstants.SEARCH_MOVIE_NAME),
+		/** 만화 검색 캐시 */
+		SEARCH_COMICS(CommonConstants.SEARCH_COMICS_NAME),
+		/** 애니 피드 검색 캐시 */
+		SEARCH_ANI_FEED(CommonConstants.SEARCH_ANI_FEED_NAME);
 
 		/** 캐시 이름 */
 		private String cacheName;
-		
-		/** 캐시 만료 시간(초) */
-		private int expireAfterWrite;
-		
-		/** 캐시 최대 크기 */
-		private int maximumSize;
-
-		/**
-		 * 캐시 타입 생성자
-		 * 
-		 * @param cacheName 캐시 이름
-		 */
-		CacheTypeEnum(String cacheName) {
-			this.cacheName = cacheName;
-			this.expireAfterWrite = EXPIRE_AFTER_WRITE; // 기본 만료 시간 설정
-			this.maximumSize = MAXIMUM_SIZE; // 기본 최대 크기 설정
-		}
-
-		/** 캐시 만료 시간(분) */
-		public static final int EXPIRE_AFTER_WRITE = 60;
-		
-		/** 캐시 최대 크기 */
-		public static final int MAXIMUM_SIZE = 1000;
 
 		/**
 		 * 캐시 이름으로부터 CacheTypeEnum을 반환
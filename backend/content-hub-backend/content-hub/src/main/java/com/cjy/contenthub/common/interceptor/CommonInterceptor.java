@@ -3,7 +3,7 @@ package com.cjy.contenthub.common.interceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 import com.cjy.contenthub.common.exception.CommonBusinessException;
 import com.cjy.contenthub.common.util.SessionUtil;
@@ -16,13 +16,13 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 공통 인터셉터 클래스
- * Spring MVC의 HandlerInterceptor 인터페이스를 구현하며, 모든 요청에 대해 실행됨
+ * Spring MVC의 AsyncHandlerInterceptor 인터페이스를 구현하며, 모든 요청에 대해 실행됨
  * Controller 전후의 처리를 담당하는 클래스
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class CommonInterceptor implements HandlerInterceptor {
+public class CommonInterceptor implements AsyncHandlerInterceptor {
 	
 	/** 공통 세션 유틸 */
 	private final SessionUtil sessionUtil;
@@ -73,5 +73,32 @@ public class CommonInterceptor implements HandlerInterceptor {
 		// true를 반환하여 요청 처리를 계속 진행
 		return true;
 	}
-	  
+
+	/**
+	 * 비동기 처리(Mono/Flux 반환) 개시 후, 요청 스레드를 반환하기 전에 실행되는 메소드
+	 * 세션은 요청 스레드에서 미리 취득하므로, 스레드에 남은 세션을 제거
+	 * 
+	 * @param request  HTTP 요청 객체
+	 * @param response HTTP 응답 객체
+	 * @param handler  핸들러 객체
+	 */
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		sessionUtil.sessionClear();
+	}
+
+	/**
+	 * 요청 처리 완료 후 실행되는 메소드
+	 * 스레드에 남은 세션을 제거 (플랫폼 스레드 풀에서는 다음 요청으로의 누출 방지, 가상 스레드에서는 요청마다 새 스레드이므로 영향 없음)
+	 * 
+	 * @param request  HTTP 요청 객체
+	 * @param response HTTP 응답 객체
+	 * @param handler  핸들러 객체
+	 * @param ex       처리 중 발생한 예외
+	 */
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		sessionUtil.sessionClear();
+	}
+
 }
@@ -0,0 +1,26 @@
+package com.cjy.contenthub.common.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.cjy.contenthub.common.repository.entity.TranslationTbEntity;
+
+/**
+ * TranslationTbEntity 엔티티에 대한 CRUD 작업을 수행하는 레포지토리 인터페이스
+ * Spring Data JPA의 JpaRepository를 상속받아 기본적인 CRUD 메소드를 제공
+ */
+@Repository
+public interface TranslationTbRepository extends JpaRepository<TranslationTbEntity, Long> {
+
+	/**
+	 * 정규화된 원본 문자열과 언어 코드로 번역 결과 조회
+	 * 
+	 * @param sourceText 정규화된 원본 문자열
+	 * @param sourceLang 원본 언어
+	 * @param targetLang 번역할 언어
+	 * @return 번역 결과 엔티티
+	 */
+	Optional<TranslationTbEntity> findBySourceTextAndSourceLangAndTargetLang(String sourceText, String sourceLang, String targetLang);
+}
@@ -0,0 +1,81 @@
+package com.cjy.contenthub.common.repository.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import com.cjy.contenthub.common.constants.CommonConstants;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 번역 결과 엔티티 클래스
+ * DeepL API 번역 결과를 영속화하는 2차 번역 캐시(L2)로, 인메모리 번역 캐시(L1)가 비어있는 재기동 직후에도 DeepL API 호출 없이 번역 결과를 재사용
+ * 데이터베이스의 translation_tb 테이블에 매핑됨
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자는 protected로 설정하여 외부에서 직접 생성하지 못하도록 함
+@AllArgsConstructor
+@Table(
+		schema = CommonConstants.SCHEMA_NAME_CONTENT,
+		name = "translation_tb",
+		uniqueConstraints = @UniqueConstraint(name = "translation_tb_unique", columnNames = {"source_text", "source_lang", "target_lang"})
+		)
+public class TranslationTbEntity implements Serializable {
+
+	/** 직렬화 ID */
+	private static final long serialVersionUID = 1L;
+
+	/** 번역 번호 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "translation_no")
+	private Long translationNo;
+
+	/** 원본 문자열 (정규화된 문자열) */
+	@NotNull
+	@Column(name = "source_text", length = 500)
+	private String sourceText;
+
+	/** 원본 언어 */
+	@NotNull
+	@Column(name = "source_lang", length = 10)
+	private String sourceLang;
+
+	/** 번역할 언어 */
+	@NotNull
+	@Column(name = "target_lang", length = 10)
+	private String targetLang;
+
+	/** 번역된 문자열 */
+	@NotNull
+	@Column(name = "translated_text", length = 1000)
+	private String translatedText;
+
+	/** 작성 시간 */
+	@NotNull
+	@Column(name = "create_time")
+	private LocalDateTime createTime;
+
+	/**
+	 * Entitiy가 저장되기 전에 실행되는 메소드
+	 */
+	@PrePersist
+	public void prePersist() {
+		this.createTime = LocalDateTime.now();
+	}
+}
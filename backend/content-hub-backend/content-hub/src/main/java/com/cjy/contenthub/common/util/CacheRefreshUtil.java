@@ -0,0 +1,198 @@
+package com.cjy.contenthub.common.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import com.cjy.contenthub.common.constants.CommonConstants;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 캐시 선행 갱신(refresh-ahead) 공통 클래스
+ * 갱신 기준 시간(refreshAfterWrite)이 지난 엔트리를 읽으면 Caffeine이 기존 값을 즉시 반환하고,
+ * 키당 1회만 비동기로 재조회하여 값을 교체 (만료 직후 첫 사용자의 동기 조회 및 인기 키의 동시 캐시 미스 방지)
+ * 재조회 처리는 각 서비스가 캐시 이름별로 등록하며, 캐시 프록시를 거치지 않는 메소드(this 참조)를 등록할 것
+ * 재조회는 세션이 없는 Caffeine 실행 스레드에서 실행하므로 세션 없이(성인물 미포함) 실행하고,
+ * 캐시 키에 성인물 포함 여부가 있는 캐시는 해당 값을 세션 값으로 복원하여 실행
+ */
+@Component
+@Slf4j
+public class CacheRefreshUtil {
+
+	/** 메트릭 이름 : 선행 갱신 건수 */
+	private static final String METRIC_REFRESH = "cache.refresh.requests";
+
+	/** 메트릭 태그 : 캐시 이름 */
+	private static final String TAG_CACHE = "cache";
+
+	/** 메트릭 태그 : 결과 */
+	private static final String TAG_RESULT = "result";
+
+	/** 캐시 키 구분자 */
+	private static final String KEY_DELIMITER = "-";
+
+	/** 캐시 키의 null 인수 표기 */
+	private static final String NULL_KEY_PART = "null";
+
+	/** 캐시 키에 성인물 포함 여부가 없는 경우의 위치 */
+	private static final int NO_ADULT_FLAG = -1;
+
+	/** 메트릭 레지스트리 */
+	private final MeterRegistry meterRegistry;
+
+	/** 세션 유틸 클래스 */
+	private final SessionUtil session;
+
+	/** 캐시 이름별 재조회 처리 */
+	private final Map<String, Registration> reloaders = new ConcurrentHashMap<>();
+
+	/**
+	 * 생성자
+	 *
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @param session 세션 유틸 클래스
+	 */
+	public CacheRefreshUtil(MeterRegistry meterRegistry, SessionUtil session) {
+		this.meterRegistry = meterRegistry;
+		this.session = session;
+	}
+
+	/**
+	 * 캐시 재조회 처리 등록 (성인물 미포함 조건으로 재조회)
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param reloader 캐시 키로부터 값을 재조회하는 처리 (캐시가 적용되지 않은 메소드를 호출할 것)
+	 */
+	public void register(String cacheName, Reloader reloader) {
+		reloaders.put(cacheName, new Registration(reloader, NO_ADULT_FLAG));
+	}
+
+	/**
+	 * 캐시 키에 성인물 포함 여부가 있는 캐시의 재조회 처리 등록
+	 * 재조회시 캐시 키의 성인물 포함 여부를 세션 값으로 복원하여 실행
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param adultFlagIndex 캐시 키의 성인물 포함 여부 위치
+	 * @param reloader 캐시 키로부터 값을 재조회하는 처리 (캐시가 적용되지 않은 메소드를 호출할 것)
+	 */
+	public void register(String cacheName, int adultFlagIndex, Reloader reloader) {
+		reloaders.put(cacheName, new Registration(reloader, adultFlagIndex));
+	}
+
+	/**
+	 * '-'로 연결된 캐시 키(예: "#id + '-' + #page")에서 지정 위치의 정수 값 취득
+	 *
+	 * @param key 캐시 키
+	 * @param index 위치
+	 * @return 정수 값 ("null"인 경우 null)
+	 */
+	public static Integer keyPart(Object key, int index) {
+		String part = StringUtils.split(String.valueOf(key), KEY_DELIMITER)[index];
+		return NULL_KEY_PART.equals(part) ? null : Integer.valueOf(part);
+	}
+
+	/**
+	 * '-'로 연결된 캐시 키에서 지정 위치의 논리 값 취득
+	 *
+	 * @param key 캐시 키
+	 * @param index 위치
+	 * @return 논리 값 (위치에 값이 없는 경우 false)
+	 */
+	public static boolean keyFlag(Object key, int index) {
+		String[] parts = StringUtils.split(String.valueOf(key), KEY_DELIMITER);
+		return index < parts.length && Boolean.parseBoolean(parts[index]);
+	}
+
+	/**
+	 * 캐시별 비동기 로더 생성
+	 * 최초 조회는 @Cacheable 메소드가 수행하므로 로드 처리는 미존재(null)로 응답하고,
+	 * 선행 갱신시에만 등록된 재조회 처리를 호출
+	 * 재조회가 실패한 경우 Caffeine이 기존 값을 유지 (만료 시간까지 계속 사용)
+	 *
+	 * @param cacheName 캐시 이름
+	 * @return 비동기 캐시 로더
+	 */
+	public AsyncCacheLoader<Object, Object> loaderFor(String cacheName) {
+		return new AsyncCacheLoader<>() {
+
+			@Override
+			public CompletableFuture<? extends Object> asyncLoad(Object key, Executor executor) {
+				return CompletableFuture.completedFuture(null);
+			}
+
+			@Override
+			public CompletableFuture<? extends Object> asyncReload(Object key, Object oldValue, Executor executor) {
+				Registration registration = reloaders.get(cacheName);
+				if (registration == null) {
+					return CompletableFuture.failedFuture(
+							new IllegalStateException("No reloader registered for cache: " + cacheName));
+				}
+				// 세션이 없는 스레드이므로, 캐시 키의 성인물 포함 여부(없는 경우 미포함)를 세션 값으로 설정하여 재조회
+				Map<String, Boolean> sessionValues = registration.adultFlagIndex() == NO_ADULT_FLAG
+						? Map.of()
+						: Map.of(CommonConstants.ADULT_FLG, keyFlag(key, registration.adultFlagIndex()));
+				return Mono.defer(() -> session.callWithoutSession(sessionValues, () -> {
+					try {
+						return registration.reloader().reload(key);
+					} catch (Exception e) {
+						return Mono.<Object>error(e);
+					}
+				}))
+						.doOnNext(value -> count(cacheName, "success"))
+						.doOnError(e -> {
+							count(cacheName, "failure");
+							log.warn("Cache refresh failed [{}] key={}: {}", cacheName, key, e.getMessage());
+						})
+						.toFuture();
+			}
+		};
+	}
+
+	/**
+	 * 선행 갱신 건수 집계
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param result 결과
+	 */
+	private void count(String cacheName, String result) {
+		Counter.builder(METRIC_REFRESH)
+		.tag(TAG_CACHE, cacheName)
+		.tag(TAG_RESULT, result)
+		.register(meterRegistry)
+		.increment();
+	}
+
+	/**
+	 * 캐시 재조회 처리 등록 정보
+	 *
+	 * @param reloader 재조회 처리
+	 * @param adultFlagIndex 캐시 키의 성인물 포함 여부 위치 (없는 경우 -1)
+	 */
+	private record Registration(Reloader reloader, int adultFlagIndex) {
+	}
+
+	/**
+	 * 캐시 재조회 처리
+	 */
+	@FunctionalInterface
+	public interface Reloader {
+
+		/**
+		 * 캐시 키로부터 값을 재조회
+		 *
+		 * @param key 캐시 키
+		 * @return 재조회 결과 Mono
+		 * @throws Exception 호출 실패시
+		 */
+		Mono<?> reload(Object key) throws Exception;
+	}
+}
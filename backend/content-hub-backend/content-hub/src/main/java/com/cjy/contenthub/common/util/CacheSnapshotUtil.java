@@ -0,0 +1,398 @@
+package com.cjy.contenthub.common.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.github.benmanes.caffeine.cache.Policy.VarExpiration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 스냅샷 공통 클래스
+ * 정상 종료시 지정된 캐시의 자주 사용되는 엔트리를 만료 시각과 함께 바이너리 스냅샷 파일로 저장하고,
+ * 기동시 메모리 맵 I/O로 읽어 남은 만료 시간으로 캐시에 복원 (재기동 직후 외부 API 호출 집중 방지)
+ * 값 클래스의 필드 구성으로 계산한 지문을 엔트리마다 기록하여, DTO 구성이 바뀐 엔트리는 복원하지 않음
+ * 키/값은 클래스 정보를 포함한 JSON으로 직렬화하며, 직렬화할 수 없는 엔트리(SimpleKey 키 등)는 저장하지 않음
+ */
+@Component
+@Slf4j
+public class CacheSnapshotUtil {
+
+	/** 스냅샷 파일 식별자 ("CHCS") */
+	private static final int MAGIC = 0x43484353;
+
+	/** 스냅샷 파일 형식 버전 */
+	private static final int FORMAT_VERSION = 1;
+
+	/** 지문 계산시 필드 구성을 확인하는 패키지 */
+	private static final String BASE_PACKAGE = "com.cjy.contenthub.";
+
+	/** 캐시 매니저 */
+	private final CacheManager cacheManager;
+
+	/** 스냅샷 직렬화용 ObjectMapper (클래스 정보 포함) */
+	private final ObjectMapper snapshotMapper;
+
+	/** 스냅샷 직렬화용 ObjectWriter (final 클래스인 레코드 키에도 클래스 정보를 포함하도록 Object 타입으로 기록) */
+	private final ObjectWriter snapshotWriter;
+
+	/** 스냅샷 활성화 여부 */
+	private final boolean isEnabled;
+
+	/** 스냅샷 파일 경로 */
+	private final Path snapshotPath;
+
+	/** 스냅샷 대상 캐시 이름 리스트 */
+	private final List<String> cacheNames;
+
+	/** 캐시별 최대 저장 엔트리 수 */
+	private final int maxEntriesPerCache;
+
+	/** 클래스별 지문 */
+	private final Map<Class<?>, Long> fingerprints = new ConcurrentHashMap<>();
+
+	/**
+	 * 생성자
+	 *
+	 * @param cacheManager 캐시 매니저
+	 * @param objectMapper ObjectMapper
+	 * @param isEnabled 스냅샷 활성화 여부
+	 * @param snapshotPath 스냅샷 파일 경로
+	 * @param cacheNames 스냅샷 대상 캐시 이름 리스트
+	 * @param maxEntriesPerCache 캐시별 최대 저장 엔트리 수
+	 */
+	public CacheSnapshotUtil(CacheManager cacheManager, ObjectMapper objectMapper,
+			@Value("${app.cacheSnapshot.enabled}") boolean isEnabled,
+			@Value("${app.cacheSnapshot.path}") String snapshotPath,
+			@Value("${app.cacheSnapshot.caches}") List<String> cacheNames,
+			@Value("${app.cacheSnapshot.maxEntriesPerCache}") int maxEntriesPerCache) {
+		this.cacheManager = cacheManager;
+		this.snapshotMapper = objectMapper.copy().activateDefaultTyping(
+				BasicPolymorphicTypeValidator.builder()
+						.allowIfSubType(BASE_PACKAGE)
+						.allowIfSubType("java.util.")
+						.allowIfSubType("java.lang.")
+						.allowIfSubType("java.math.")
+						.allowIfSubType("java.time.")
+						.build(),
+				ObjectMapper.DefaultTyping.NON_FINAL);
+		this.snapshotWriter = snapshotMapper.writerFor(Object.class);
+		this.isEnabled = isEnabled;
+		this.snapshotPath = Path.of(snapshotPath);
+		this.cacheNames = cacheNames;
+		this.maxEntriesPerCache = maxEntriesPerCache;
+	}
+
+	/**
+	 * 기동시 스냅샷 파일을 읽어 캐시에 복원
+	 * 만료된 엔트리, 지문이 다른 엔트리, 역직렬화할 수 없는 엔트리는 건너뜀
+	 * 파일 형식이 다르거나 손상된 경우는 복원하지 않음
+	 */
+	@PostConstruct
+	public void restore() {
+		if (!isEnabled || !Files.isReadable(snapshotPath)) {
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+				log.info("Cache snapshot skipped: incompatible format");
+				return;
+			}
+			int cacheCount = buffer.getInt();
+			for (int i = 0; i < cacheCount; i++) {
+				String cacheName = new String(readBytes(buffer), StandardCharsets.UTF_8);
+				int entryCount = buffer.getInt();
+				Optional<VarExpiration<Object, Object>> expiration = cacheNames.contains(cacheName)
+						? getExpiration(cacheName)
+						: Optional.empty();
+				int restoredCount = 0;
+				for (int j = 0; j < entryCount; j++) {
+					long expiresAt = buffer.getLong();
+					long fingerprint = buffer.getLong();
+					byte[] keyBytes = readBytes(buffer);
+					byte[] valueBytes = readBytes(buffer);
+					long remainingMillis = expiresAt - System.currentTimeMillis();
+					if (expiration.isEmpty() || remainingMillis <= 0) {
+						continue;
+					}
+					if (restoreEntry(expiration.get(), fingerprint, keyBytes, valueBytes, Duration.ofMillis(remainingMillis))) {
+						restoredCount++;
+					}
+				}
+				log.info("Cache snapshot restored: {} {}/{} entries", cacheName, restoredCount, entryCount);
+			}
+		} catch (IOException | BufferUnderflowException e) {
+			log.warn("Cache snapshot restore failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 종료시 대상 캐시의 자주 사용되는 엔트리를 스냅샷 파일로 저장
+	 * 임시 파일에 기록한 후 교체하여, 저장 도중 종료되어도 기존 스냅샷을 유지
+	 */
+	@PreDestroy
+	public void save() {
+		if (!isEnabled) {
+			return;
+		}
+		try {
+			Path parent = snapshotPath.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempPath = Files.createTempFile(parent, snapshotPath.getFileName().toString(), ".tmp");
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+				output.writeInt(MAGIC);
+				output.writeInt(FORMAT_VERSION);
+				output.writeInt(cacheNames.size());
+				for (String cacheName : cacheNames) {
+					writeCache(output, cacheName);
+				}
+			}
+			Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Cache snapshot save failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 캐시 1개분의 엔트리를 스냅샷에 기록
+	 * 엔트리 형식 : 만료 시각(epoch 밀리초), 값 클래스 지문, 키 JSON, 값 JSON
+	 *
+	 * @param output 출력 스트림
+	 * @param cacheName 캐시 이름
+	 * @throws IOException 출력 실패시
+	 */
+	private void writeCache(DataOutputStream output, String cacheName) throws IOException {
+		writeBytes(output, cacheName.getBytes(StandardCharsets.UTF_8));
+		Optional<com.github.benmanes.caffeine.cache.Cache<Object, Object>> nativeCache = getNativeCache(cacheName);
+		Optional<VarExpiration<Object, Object>> expiration = nativeCache.flatMap(cache -> cache.policy().expireVariably());
+		if (nativeCache.isEmpty() || expiration.isEmpty()) {
+			output.writeInt(0);
+			return;
+		}
+		// 자주 사용되는 순서로 최대 개수까지 (크기 제한이 없는 캐시는 임의 순서)
+		Map<Object, Object> entries = nativeCache.get().policy().eviction()
+				.map(eviction -> eviction.hottest(maxEntriesPerCache))
+				.orElseGet(() -> nativeCache.get().asMap());
+		long now = System.currentTimeMillis();
+		// 직렬화 가능한 엔트리만 먼저 변환 (건수를 먼저 기록하기 위함)
+		List<SnapshotEntry> snapshotEntries = entries.entrySet().stream()
+				.limit(maxEntriesPerCache)
+				.map(entry -> toSnapshotEntry(entry.getKey(), entry.getValue(), expiration.get(), now))
+				.flatMap(Optional::stream)
+				.toList();
+		output.writeInt(snapshotEntries.size());
+		for (SnapshotEntry entry : snapshotEntries) {
+			output.writeLong(entry.expiresAt());
+			output.writeLong(entry.fingerprint());
+			writeBytes(output, entry.keyBytes());
+			writeBytes(output, entry.valueBytes());
+		}
+	}
+
+	/**
+	 * 캐시 엔트리를 스냅샷 엔트리로 변환
+	 *
+	 * @param key 캐시 키
+	 * @param value 캐시 값
+	 * @param expiration 엔트리별 만료 정책
+	 * @param now 현재 시각(epoch 밀리초)
+	 * @return 스냅샷 엔트리 (만료 시간을 알 수 없거나 직렬화할 수 없는 경우 empty)
+	 */
+	private Optional<SnapshotEntry> toSnapshotEntry(Object key, Object value, VarExpiration<Object, Object> expiration, long now) {
+		Optional<Duration> remaining = expiration.getExpiresAfter(key);
+		if (remaining.isEmpty() || value == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(new SnapshotEntry(
+					now + remaining.get().toMillis(),
+					fingerprint(value.getClass()),
+					snapshotWriter.writeValueAsBytes(key),
+					snapshotWriter.writeValueAsBytes(value)));
+		} catch (IOException e) {
+			log.debug("Cache snapshot entry skipped: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 스냅샷 엔트리 1건을 캐시에 복원
+	 * 이미 캐시에 있는 엔트리는 덮어쓰지 않음
+	 *
+	 * @param expiration 엔트리별 만료 정책
+	 * @param fingerprint 저장시 값 클래스 지문
+	 * @param keyBytes 키 JSON
+	 * @param valueBytes 값 JSON
+	 * @param remaining 남은 만료 시간
+	 * @return 복원 여부
+	 */
+	private boolean restoreEntry(VarExpiration<Object, Object> expiration, long fingerprint,
+			byte[] keyBytes, byte[] valueBytes, Duration remaining) {
+		try {
+			Object value = snapshotMapper.readValue(valueBytes, Object.class);
+			if (value == null || fingerprint(value.getClass()) != fingerprint) {
+				return false;
+			}
+			Object key = snapshotMapper.readValue(keyBytes, Object.class);
+			return expiration.putIfAbsent(key, value, remaining) == null;
+		} catch (IOException e) {
+			log.debug("Cache snapshot entry skipped: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 캐시의 엔트리별 만료 정책 취득
+	 *
+	 * @param cacheName 캐시 이름
+	 * @return 엔트리별 만료 정책 (Caffeine 캐시가 아니거나 엔트리별 만료를 지원하지 않는 경우 empty)
+	 */
+	private Optional<VarExpiration<Object, Object>> getExpiration(String cacheName) {
+		return getNativeCache(cacheName).flatMap(cache -> cache.policy().expireVariably());
+	}
+
+	/**
+	 * 캐시 이름으로 Caffeine 캐시(동기 뷰) 취득
+	 * 비동기 캐시 모드이므로 AsyncCache의 동기 뷰를 사용 (완료된 값만 대상)
+	 *
+	 * @param cacheName 캐시 이름
+	 * @return Caffeine 캐시 (Caffeine 비동기 캐시가 아닌 경우 empty)
+	 */
+	private Optional<com.github.benmanes.caffeine.cache.Cache<Object, Object>> getNativeCache(String cacheName) {
+		Cache cache = cacheManager.getCache(cacheName);
+		if (cache instanceof CaffeineCache caffeineCache) {
+			try {
+				return Optional.of(caffeineCache.getAsyncCache().synchronous());
+			} catch (IllegalStateException e) {
+				return Optional.empty();
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * 클래스 지문 계산
+	 * 클래스 이름과, 어플리케이션 패키지 클래스인 경우 필드 이름/타입(중첩 DTO, 제네릭 타입 인수 포함)으로 계산
+	 *
+	 * @param type 대상 클래스
+	 * @return 지문
+	 */
+	private long fingerprint(Class<?> type) {
+		return fingerprints.computeIfAbsent(type, t -> {
+			StringBuilder signature = new StringBuilder();
+			appendSignature(t, signature, new HashSet<>());
+			return UUID.nameUUIDFromBytes(signature.toString().getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+		});
+	}
+
+	/**
+	 * 타입 구성 문자열 작성
+	 *
+	 * @param type 대상 타입
+	 * @param signature 구성 문자열
+	 * @param visited 확인한 클래스 (순환 참조 방지)
+	 */
+	private void appendSignature(Type type, StringBuilder signature, Set<Class<?>> visited) {
+		if (type instanceof ParameterizedType parameterizedType) {
+			appendSignature(parameterizedType.getRawType(), signature, visited);
+			signature.append('<');
+			for (Type argument : parameterizedType.getActualTypeArguments()) {
+				appendSignature(argument, signature, visited);
+				signature.append(',');
+			}
+			signature.append('>');
+			return;
+		}
+		if (!(type instanceof Class<?> clazz)) {
+			signature.append(type.getTypeName());
+			return;
+		}
+		signature.append(clazz.getName());
+		if (!clazz.getName().startsWith(BASE_PACKAGE) || !visited.add(clazz)) {
+			return;
+		}
+		signature.append('{');
+		for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers())) {
+					continue;
+				}
+				signature.append(field.getName()).append(':');
+				appendSignature(field.getGenericType(), signature, visited);
+				signature.append(';');
+			}
+		}
+		signature.append('}');
+	}
+
+	/**
+	 * 길이 + 바이트 배열 기록
+	 *
+	 * @param output 출력 스트림
+	 * @param bytes 바이트 배열
+	 * @throws IOException 출력 실패시
+	 */
+	private void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * 길이 + 바이트 배열 읽기
+	 *
+	 * @param buffer 입력 버퍼
+	 * @return 바이트 배열
+	 */
+	private byte[] readBytes(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 스냅샷 엔트리
+	 *
+	 * @param expiresAt 만료 시각(epoch 밀리초)
+	 * @param fingerprint 값 클래스 지문
+	 * @param keyBytes 키 JSON
+	 * @param valueBytes 값 JSON
+	 */
+	private record SnapshotEntry(long expiresAt, long fingerprint, byte[] keyBytes, byte[] valueBytes) {}
+}
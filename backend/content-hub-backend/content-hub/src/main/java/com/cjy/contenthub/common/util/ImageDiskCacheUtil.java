@@ -0,0 +1,236 @@
+package com.cjy.contenthub.common.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 이미지 디스크 캐시 공통 클래스
+ * 외부 CDN 이미지를 원본 URL(+ 리사이즈 폭)별 파일로 저장하고, 전체 파일 크기 상한을 넘으면 사용 빈도가 낮은 파일부터 삭제
+ * 파일 색인은 Caffeine 캐시(가중치 = 파일 크기)로 관리하며, 기동시 캐시 디렉토리를 읽어 최근 수정 순으로 색인을 복원
+ * 같은 이미지의 동시 요청은 1회만 다운로드
+ */
+@Component
+@Slf4j
+public class ImageDiskCacheUtil {
+
+	/** 캐시 파일 임시 확장자 */
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	/** 메트릭 이름 : 디스크 사용량 */
+	private static final String METRIC_DISK_BYTES = "image.cache.disk.bytes";
+
+	/** 캐시 디렉토리 */
+	private final Path cacheDir;
+
+	/** 파일 색인 (키 : URL 해시, 값 : 캐시 파일) */
+	private final AsyncCache<String, CachedImage> index;
+
+	/**
+	 * 캐시된 이미지 파일
+	 *
+	 * @param path 파일 경로
+	 * @param size 파일 크기(바이트)
+	 * @param contentType 콘텐츠 타입
+	 * @param etag 엔티티 태그 (따옴표 포함)
+	 */
+	public record CachedImage(Path path, long size, MediaType contentType, String etag) {
+	}
+
+	/**
+	 * 저장할 이미지 데이터
+	 *
+	 * @param contentType 콘텐츠 타입
+	 * @param bytes 이미지 바이트 배열
+	 */
+	public record ImageData(MediaType contentType, byte[] bytes) {
+	}
+
+	/**
+	 * 생성자
+	 *
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @param cacheDir 캐시 디렉토리
+	 * @param maxSize 캐시 파일 전체 크기 상한
+	 */
+	public ImageDiskCacheUtil(MeterRegistry meterRegistry,
+			@Value("${app.imageProxy.cacheDir}") String cacheDir,
+			@Value("${app.imageProxy.maxCacheSize}") DataSize maxSize) {
+		this.cacheDir = Path.of(cacheDir);
+		this.index = Caffeine.newBuilder()
+				.maximumWeight(maxSize.toBytes())
+				.weigher((String key, CachedImage image) -> (int) Math.min(image.size(), Integer.MAX_VALUE))
+				// 색인에서 제거된 파일 삭제 (같은 키의 교체는 같은 파일이므로 제외)
+				.evictionListener((String key, CachedImage image, RemovalCause cause) -> deleteQuietly(image))
+				.buildAsync();
+		Gauge.builder(METRIC_DISK_BYTES, index, cache -> cache.synchronous().policy().eviction()
+				.map(eviction -> eviction.weightedSize().orElse(0L))
+				.orElse(0L))
+		.description("Estimated bytes of cached image files on disk")
+		.register(meterRegistry);
+	}
+
+	/**
+	 * 기동시 캐시 디렉토리의 파일로 색인을 복원
+	 * 최근 수정한 파일이 나중에 등록되도록 수정 시각 순으로 등록 (상한 초과분은 오래된 파일부터 삭제)
+	 */
+	@PostConstruct
+	public void restore() {
+		try {
+			Files.createDirectories(cacheDir);
+		} catch (IOException e) {
+			log.warn("Image cache directory not available: {}", cacheDir, e);
+			return;
+		}
+		List<Map.Entry<Path, BasicFileAttributes>> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir)) {
+			for (Path path : stream) {
+				BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+				if (!attributes.isRegularFile()) {
+					continue;
+				}
+				if (path.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+					// 저장 도중 종료된 파일 삭제
+					Files.deleteIfExists(path);
+					continue;
+				}
+				files.add(Map.entry(path, attributes));
+			}
+		} catch (IOException e) {
+			log.warn("Image cache restore failed: {}", cacheDir, e);
+			return;
+		}
+		files.sort(Comparator.comparing(entry -> entry.getValue().lastModifiedTime()));
+		for (Map.Entry<Path, BasicFileAttributes> file : files) {
+			String fileName = file.getKey().getFileName().toString();
+			String key = StringUtils.substringBefore(fileName, ".");
+			String extension = StringUtils.substringAfter(fileName, ".");
+			if (StringUtils.isAnyEmpty(key, extension)) {
+				continue;
+			}
+			index.synchronous().put(key, new CachedImage(file.getKey(), file.getValue().size(),
+					new MediaType("image", extension), etag(key, file.getValue().size())));
+		}
+		log.info("Image cache restored: {} files", files.size());
+	}
+
+	/**
+	 * 캐시 키 생성
+	 *
+	 * @param url 원본 이미지 URL
+	 * @param width 리사이즈 폭 (원본인 경우 null)
+	 * @return 캐시 키 (SHA-256 16진수 문자열)
+	 */
+	public String key(String url, Integer width) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest((url + "|" + (width == null ? StringUtils.EMPTY : width))
+					.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 캐시된 이미지 취득
+	 * 캐시에 없는 경우 loader로 이미지를 취득하여 파일로 저장 (같은 키의 동시 요청은 1회만 취득)
+	 * 저장한 파일이 삭제된 경우는 색인에서 제거하고 다시 취득
+	 *
+	 * @param key 캐시 키
+	 * @param loader 이미지 취득 처리 (콘텐츠 타입 + 바이트 배열)
+	 * @return 캐시된 이미지 파일
+	 */
+	public Mono<CachedImage> get(String key, Supplier<Mono<ImageData>> loader) {
+		return Mono.fromFuture(() -> index.get(key, (k, executor) -> loader.get()
+				.publishOn(Schedulers.boundedElastic())
+				.map(data -> write(k, data))
+				.toFuture()), true)
+				.flatMap(image -> {
+					if (Files.isReadable(image.path())) {
+						return Mono.just(image);
+					}
+					index.synchronous().invalidate(key);
+					return Mono.defer(() -> get(key, loader));
+				});
+	}
+
+	/**
+	 * 이미지 파일 저장
+	 * 임시 파일에 기록한 뒤 이동하여, 기록 도중의 파일이 읽히지 않도록 함
+	 *
+	 * @param key 캐시 키
+	 * @param data 이미지 데이터
+	 * @return 캐시된 이미지 파일
+	 */
+	private CachedImage write(String key, ImageData data) {
+		Path path = cacheDir.resolve(key + "." + data.contentType().getSubtype());
+		Path tempPath = cacheDir.resolve(key + TEMP_SUFFIX);
+		try {
+			Files.createDirectories(cacheDir);
+			Files.write(tempPath, data.bytes());
+			Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new CachedImage(path, data.bytes().length, data.contentType(), etag(key, data.bytes().length));
+	}
+
+	/**
+	 * 엔티티 태그 생성
+	 * 외부 CDN 이미지 URL은 이미지가 바뀌면 경로도 바뀌므로, URL 해시와 파일 크기로 강한 검증자를 생성
+	 *
+	 * @param key 캐시 키
+	 * @param size 파일 크기
+	 * @return 엔티티 태그
+	 */
+	private String etag(String key, long size) {
+		return "\"" + StringUtils.left(key, 32) + "-" + Long.toHexString(size) + "\"";
+	}
+
+	/**
+	 * 캐시 파일 삭제 (실패시 로그만 출력)
+	 *
+	 * @param image 캐시된 이미지 파일
+	 */
+	private void deleteQuietly(CachedImage image) {
+		if (image == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(image.path());
+		} catch (IOException e) {
+			log.warn("Image cache file delete failed: {}", image.path(), e);
+		}
+	}
+}
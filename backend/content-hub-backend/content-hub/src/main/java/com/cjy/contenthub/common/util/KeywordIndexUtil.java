@@ -0,0 +1,163 @@
+package com.cjy.contenthub.common.util;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+/**
+ * 자동완성용 작품명 색인 공통 클래스
+ * TMDB 응답(검색, 상세, 추천, 인물 크레딧)에서 수집한 작품명을 메모리 내 정렬 맵에 보관하고,
+ * 접두어 검색으로 인기도 상위 K건을 반환
+ * 등록 개수는 Caffeine 캐시의 최대 크기로 제한하며, 캐시에서 제거된 작품명은 색인에서도 제거
+ * 성인물은 세션별 노출 여부가 다르므로 색인하지 않음
+ */
+@Component
+public class KeywordIndexUtil {
+
+	/** 접두어 검색시 최대 탐색 개수 (인기 접두어의 응답 시간 상한) */
+	private static final int MAX_SCAN_COUNT = 2000;
+
+	/** 색인 키 구분자 (정규화된 작품명 + 구분자 + 미디어 타입) */
+	private static final char KEY_SEPARATOR = '\u0000';
+
+	/** 접두어 범위 검색 상한 문자 */
+	private static final char PREFIX_UPPER_BOUND = Character.MAX_VALUE;
+
+	/** 정규화된 작품명 기준으로 정렬된 색인 */
+	private final ConcurrentSkipListMap<String, KeywordEntry> index = new ConcurrentSkipListMap<>();
+
+	/** 색인 등록 개수 제한용 캐시 (제거된 키는 색인에서도 제거) */
+	private final Cache<String, KeywordEntry> admission;
+
+	/**
+	 * 생성자
+	 *
+	 * @param maxSize 색인 최대 등록 개수
+	 */
+	public KeywordIndexUtil(@Value("${tmdb.custom.keywordIndexMaxSize}") long maxSize) {
+		this.admission = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.executor(Runnable::run) // 제거 처리를 호출 스레드에서 즉시 실행
+				.evictionListener((String key, KeywordEntry entry, RemovalCause cause) -> {
+					if (key != null && entry != null) {
+						index.remove(key, entry);
+					}
+				})
+				.build();
+	}
+
+	/**
+	 * 작품명 색인 등록
+	 * 성인물, 인물, 작품명이 없는 경우는 등록하지 않음
+	 *
+	 * @param title 작품명
+	 * @param mediaType 미디어 타입 (tv, movie)
+	 * @param genreIds 장르 ID 리스트
+	 * @param popularity 인기도
+	 * @param adult 성인물 여부
+	 */
+	public void add(String title, String mediaType, List<Integer> genreIds, BigDecimal popularity, boolean adult) {
+		if (adult || StringUtils.isBlank(title) || StringUtils.isEmpty(mediaType)
+				|| StringUtils.equals(mediaType, CommonMediaTypeEnum.TMDB_MEDIA_TYPE_PERSON.getMediaTypeValue())) {
+			return;
+		}
+		String normalized = normalize(title);
+		if (normalized.isEmpty()) {
+			return;
+		}
+		String key = normalized + KEY_SEPARATOR + mediaType;
+		KeywordEntry entry = new KeywordEntry(
+				title.trim(),
+				mediaType,
+				Optional.ofNullable(genreIds).map(List::copyOf).orElse(List.of()),
+				Optional.ofNullable(popularity).map(BigDecimal::doubleValue).orElse(0d));
+		index.put(key, entry);
+		admission.put(key, entry);
+	}
+
+	/**
+	 * 접두어로 작품명 검색
+	 * 정규화된 검색어로 시작하는 작품명을 인기도 내림차순으로 최대 limit건 반환
+	 *
+	 * @param keyword 검색어
+	 * @param limit 최대 반환 건수
+	 * @param filter 반환 대상 판정 조건
+	 * @return 작품명 리스트
+	 */
+	public List<String> search(String keyword, int limit, Predicate<KeywordEntry> filter) {
+		String prefix = normalize(keyword);
+		if (prefix.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		// 접두어 범위의 하위 맵
+		NavigableMap<String, KeywordEntry> range = index.subMap(prefix, true, prefix + PREFIX_UPPER_BOUND, false);
+		// 동일 작품명(TV/영화)은 인기도가 높은 쪽으로 병합
+		Map<String, KeywordEntry> candidates = new HashMap<>();
+		int scanned = 0;
+		for (KeywordEntry entry : range.values()) {
+			if (++scanned > MAX_SCAN_COUNT) {
+				break;
+			}
+			if (filter.test(entry)) {
+				candidates.merge(entry.title(), entry, (oldEntry, newEntry) ->
+				oldEntry.popularity() >= newEntry.popularity() ? oldEntry : newEntry);
+			}
+		}
+		// 인기도 내림차순, 동률일 경우 작품명순으로 정렬
+		List<KeywordEntry> sortedList = new ArrayList<>(candidates.values());
+		sortedList.sort(Comparator.comparingDouble(KeywordEntry::popularity).reversed()
+				.thenComparing(KeywordEntry::title));
+		return sortedList.stream().limit(limit).map(KeywordEntry::title).toList();
+	}
+
+	/**
+	 * 현재 색인 등록 개수
+	 *
+	 * @return 등록 개수
+	 */
+	public int size() {
+		return index.size();
+	}
+
+	/**
+	 * 색인 키용 문자열 정규화 (NFKC 정규화, 소문자화, 공백 정리)
+	 *
+	 * @param text 대상 문자열
+	 * @return 정규화된 문자열
+	 */
+	private String normalize(String text) {
+		if (StringUtils.isBlank(text)) {
+			return StringUtils.EMPTY;
+		}
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		return StringUtils.normalizeSpace(normalized);
+	}
+
+	/**
+	 * 색인 엔트리
+	 *
+	 * @param title 표시용 작품명
+	 * @param mediaType 미디어 타입
+	 * @param genreIds 장르 ID 리스트
+	 * @param popularity 인기도
+	 */
+	public record KeywordEntry(String title, String mediaType, List<Integer> genreIds, double popularity) {}
+}
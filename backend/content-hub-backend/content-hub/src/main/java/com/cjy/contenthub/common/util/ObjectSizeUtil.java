@@ -0,0 +1,314 @@
+package com.cjy.contenthub.common.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 객체 메모리 사용량 추정 유틸리티 클래스
+ * 캐시 값(DTO 객체 그래프)이 점유하는 힙 크기를 64비트 JVM(압축 참조) 기준으로 추정
+ * 어플리케이션/라이브러리 클래스는 리플렉션으로 필드를 따라가고, JDK 클래스는 문자열/배열/컬렉션/맵 등 주요 타입만 추정
+ * 정확한 측정이 아닌 캐시 간 상대적 크기 비교(가중치 기반 제거)를 목적으로 함
+ * 캐시 쓰기마다 객체 그래프 전체를 탐색하지 않도록, 클래스별 표본 평균으로 추정하는 방법(estimateSampled)을 제공
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ObjectSizeUtil {
+
+	/** 객체 헤더 크기 */
+	private static final int OBJECT_HEADER = 12;
+
+	/** 배열 헤더 크기 */
+	private static final int ARRAY_HEADER = 16;
+
+	/** 참조 크기 (압축 참조) */
+	private static final int REFERENCE = 4;
+
+	/** 객체 정렬 단위 */
+	private static final int ALIGNMENT = 8;
+
+	/** 문자열 객체 크기 (내부 byte 배열 제외) */
+	private static final int STRING_SHALLOW = 24;
+
+	/** 박싱 타입 객체 크기 */
+	private static final int BOXED = 16;
+
+	/** 큰 수 객체 크기 (BigDecimal/BigInteger, 내부 배열 포함 근사값) */
+	private static final int BIG_NUMBER = 40;
+
+	/** 컬렉션 객체 크기 (ArrayList 등 근사값) */
+	private static final int COLLECTION_SHALLOW = 24;
+
+	/** 맵 객체 크기 (HashMap 등 근사값) */
+	private static final int MAP_SHALLOW = 48;
+
+	/** 맵 엔트리 객체 크기 (HashMap.Node 근사값) */
+	private static final int MAP_ENTRY = 32;
+
+	/** 추정할 수 없는 JDK 객체의 크기 */
+	private static final int OPAQUE = 16;
+
+	/** 표본 추정 : 클래스별로 항상 전체 탐색하는 초기 표본 수 */
+	private static final long SAMPLE_WARMUP = 16;
+
+	/** 표본 추정 : 초기 표본 이후 전체 탐색 간격 */
+	private static final long SAMPLE_INTERVAL = 32;
+
+	/** 클래스별 크기 표본 */
+	private static final ClassValue<SizeSample> SAMPLES = new ClassValue<>() {
+		@Override
+		protected SizeSample computeValue(Class<?> type) {
+			return new SizeSample(new AtomicLong(), new LongAdder(), new LongAdder());
+		}
+	};
+
+	/** 클래스별 필드 구성 캐시 */
+	private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<>() {
+		@Override
+		protected ClassLayout computeValue(Class<?> type) {
+			return ClassLayout.of(type);
+		}
+	};
+
+	/**
+	 * 객체 그래프의 메모리 사용량 추정
+	 * 같은 객체를 여러 곳에서 참조하는 경우 1회만 계산하며, enum/Class 등 공유 객체는 계산하지 않음
+	 *
+	 * @param root 대상 객체
+	 * @return 추정 크기(바이트)
+	 */
+	public static long estimate(Object root) {
+		if (root == null) {
+			return 0;
+		}
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Object> pending = new ArrayDeque<>();
+		pending.push(root);
+		long total = 0;
+		while (!pending.isEmpty()) {
+			Object current = pending.pop();
+			if (!visited.add(current)) {
+				continue;
+			}
+			total += shallowSize(current, pending);
+		}
+		return total;
+	}
+
+	/**
+	 * 클래스별 표본 평균으로 객체 그래프의 메모리 사용량 추정
+	 * 클래스별 초기 표본과 이후 일정 간격의 객체만 전체 탐색하고, 그 외는 단위(요소)당 평균 크기 × 단위 수로 추정
+	 * 컬렉션/맵/배열은 요소 수에 비례하도록 요소 수 + 1을, 그 외 객체는 1을 단위 수로 사용
+	 * (같은 클래스의 DTO는 크기가 비슷하므로 캐시 쓰기 경로의 리플렉션 탐색을 줄이기 위해 사용)
+	 *
+	 * @param root 대상 객체
+	 * @return 추정 크기(바이트)
+	 */
+	public static long estimateSampled(Object root) {
+		if (root == null) {
+			return 0;
+		}
+		SizeSample sample = SAMPLES.get(root.getClass());
+		long units = units(root);
+		long sequence = sample.sequence().getAndIncrement();
+		long sampledUnits = sample.units().sum();
+		if (sequence < SAMPLE_WARMUP || sequence % SAMPLE_INTERVAL == 0 || sampledUnits == 0) {
+			long size = estimate(root);
+			sample.bytes().add(size);
+			sample.units().add(units);
+			return size;
+		}
+		return sample.bytes().sum() / sampledUnits * units;
+	}
+
+	/**
+	 * 표본 추정의 단위 수
+	 *
+	 * @param obj 대상 객체
+	 * @return 단위 수 (컬렉션/맵/배열은 요소 수 + 1, 그 외는 1)
+	 */
+	private static long units(Object obj) {
+		if (obj instanceof Collection<?> collection) {
+			return collection.size() + 1L;
+		}
+		if (obj instanceof Map<?, ?> map) {
+			return map.size() + 1L;
+		}
+		if (obj.getClass().isArray()) {
+			return Array.getLength(obj) + 1L;
+		}
+		return 1;
+	}
+
+	/**
+	 * 객체 자신의 크기를 계산하고, 참조하는 객체를 대기열에 추가
+	 *
+	 * @param obj 대상 객체
+	 * @param pending 계산 대기열
+	 * @return 객체 자신의 크기(바이트)
+	 */
+	private static long shallowSize(Object obj, Deque<Object> pending) {
+		Class<?> type = obj.getClass();
+		if (obj instanceof Enum || obj instanceof Class) {
+			return 0;
+		}
+		if (obj instanceof String str) {
+			return STRING_SHALLOW + align(ARRAY_HEADER + (long) str.length() * (isLatin1(str) ? 1 : 2));
+		}
+		if (obj instanceof Number || obj instanceof Boolean || obj instanceof Character) {
+			return (obj instanceof BigDecimal || obj instanceof BigInteger) ? BIG_NUMBER : BOXED;
+		}
+		if (type.isArray()) {
+			int length = Array.getLength(obj);
+			Class<?> component = type.getComponentType();
+			if (component.isPrimitive()) {
+				return align(ARRAY_HEADER + (long) length * primitiveSize(component));
+			}
+			for (Object element : (Object[]) obj) {
+				pushIfPresent(pending, element);
+			}
+			return align(ARRAY_HEADER + (long) length * REFERENCE);
+		}
+		if (obj instanceof Collection<?> collection) {
+			collection.forEach(element -> pushIfPresent(pending, element));
+			return COLLECTION_SHALLOW + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+		}
+		if (obj instanceof Map<?, ?> map) {
+			map.forEach((key, value) -> {
+				pushIfPresent(pending, key);
+				pushIfPresent(pending, value);
+			});
+			return MAP_SHALLOW + align(ARRAY_HEADER + (long) map.size() * REFERENCE * 2) + (long) map.size() * MAP_ENTRY;
+		}
+		// JDK 등 명명된 모듈의 클래스는 내부 필드에 접근할 수 없으므로 고정값
+		if (type.getModule().isNamed()) {
+			return OPAQUE;
+		}
+		ClassLayout layout = LAYOUTS.get(type);
+		for (Field field : layout.referenceFields()) {
+			try {
+				pushIfPresent(pending, field.get(obj));
+			} catch (IllegalAccessException e) {
+				// 접근할 수 없는 필드는 참조 크기만 계산
+			}
+		}
+		return layout.shallowSize();
+	}
+
+	/**
+	 * null이 아닌 경우 계산 대기열에 추가
+	 *
+	 * @param pending 계산 대기열
+	 * @param obj 대상 객체
+	 */
+	private static void pushIfPresent(Deque<Object> pending, Object obj) {
+		if (obj != null) {
+			pending.push(obj);
+		}
+	}
+
+	/**
+	 * 문자열이 Latin-1 문자만으로 구성되어 있는지 판정 (Compact Strings : 1문자 1바이트)
+	 *
+	 * @param str 문자열
+	 * @return Latin-1 문자만인 경우 true
+	 */
+	private static boolean isLatin1(String str) {
+		for (int i = 0; i < str.length(); i++) {
+			if (str.charAt(i) > 0xFF) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 기본형 크기
+	 *
+	 * @param type 기본형 클래스
+	 * @return 크기(바이트)
+	 */
+	private static int primitiveSize(Class<?> type) {
+		if (type == long.class || type == double.class) {
+			return 8;
+		}
+		if (type == int.class || type == float.class) {
+			return 4;
+		}
+		if (type == short.class || type == char.class) {
+			return 2;
+		}
+		return 1;
+	}
+
+	/**
+	 * 객체 정렬 단위로 올림
+	 *
+	 * @param size 크기
+	 * @return 정렬된 크기
+	 */
+	private static long align(long size) {
+		return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+
+	/**
+	 * 클래스별 크기 표본
+	 *
+	 * @param sequence 추정 요청 일련번호 (전체 탐색 판정용)
+	 * @param bytes 전체 탐색한 크기 합계
+	 * @param units 전체 탐색한 객체의 단위 수 합계
+	 */
+	private record SizeSample(AtomicLong sequence, LongAdder bytes, LongAdder units) {
+	}
+
+	/**
+	 * 클래스별 필드 구성
+	 *
+	 * @param shallowSize 객체 자신의 크기
+	 * @param referenceFields 참조형 인스턴스 필드 리스트 (상위 클래스 포함)
+	 */
+	private record ClassLayout(long shallowSize, List<Field> referenceFields) {
+
+		/**
+		 * 클래스의 필드 구성 계산
+		 *
+		 * @param type 클래스
+		 * @return 필드 구성
+		 */
+		static ClassLayout of(Class<?> type) {
+			long size = OBJECT_HEADER;
+			List<Field> referenceFields = new ArrayList<>();
+			for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					if (Modifier.isStatic(field.getModifiers())) {
+						continue;
+					}
+					if (field.getType().isPrimitive()) {
+						size += primitiveSize(field.getType());
+						continue;
+					}
+					size += REFERENCE;
+					if (!current.getModule().isNamed() && field.trySetAccessible()) {
+						referenceFields.add(field);
+					}
+				}
+			}
+			return new ClassLayout(align(size), List.copyOf(referenceFields));
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package com.cjy.contenthub.common.util;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 다음 페이지 선행 취득 공통 클래스
+ * 페이지 N의 응답 후, 페이지 N+1을 백그라운드에서 캐시 대상 메소드(프록시 경유)로 호출하여 같은 캐시에 미리 적재
+ * 전체 선행 취득 동시 실행 수를 제한하며, 제한을 초과한 경우는 대기하지 않고 생략 (사용자 요청보다 우선하지 않음)
+ * 설정(app.prefetch.enabled)으로 활성화한 경우에만 동작
+ */
+@Component
+@Slf4j
+public class PrefetchUtil {
+
+	/** 메트릭 이름 : 선행 취득 건수 */
+	private static final String METRIC_PREFETCH = "cache.prefetch.requests";
+
+	/** 메트릭 태그 : 결과 */
+	private static final String TAG_RESULT = "result";
+
+	/** 세션 유틸 */
+	private final SessionUtil session;
+
+	/** 선행 취득 활성화 여부 */
+	private final boolean isEnabled;
+
+	/** 선행 취득 동시 실행 허용 수 */
+	private final Semaphore permits;
+
+	/** 실행된 선행 취득 건수 */
+	private final Counter startedCounter;
+
+	/** 동시 실행 수 초과로 생략된 선행 취득 건수 */
+	private final Counter skippedCounter;
+
+	/**
+	 * 생성자
+	 *
+	 * @param session 세션 유틸
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @param isEnabled 선행 취득 활성화 여부
+	 * @param maxConcurrency 선행 취득 동시 실행 허용 수
+	 */
+	public PrefetchUtil(SessionUtil session, MeterRegistry meterRegistry,
+			@Value("${app.prefetch.enabled}") boolean isEnabled,
+			@Value("${app.prefetch.maxConcurrency}") int maxConcurrency) {
+		this.session = session;
+		this.isEnabled = isEnabled;
+		this.permits = new Semaphore(maxConcurrency);
+		this.startedCounter = Counter.builder(METRIC_PREFETCH)
+				.tag(TAG_RESULT, "started")
+				.description("Next-page prefetches started")
+				.register(meterRegistry);
+		this.skippedCounter = Counter.builder(METRIC_PREFETCH)
+				.tag(TAG_RESULT, "skipped")
+				.description("Next-page prefetches dropped because the concurrency budget was exhausted")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 응답 후 다음 페이지를 선행 취득하는 Consumer 생성
+	 * 요청 스레드에서 호출하여 세션을 취득해 두고, 선행 취득시 해당 세션으로 다음 페이지 메소드를 호출
+	 * (캐시 키, 성인물 플래그가 원래 요청과 동일하게 생성됨)
+	 *
+	 * @param <T> 응답 타입
+	 * @param hasNextPage 응답으로 다음 페이지 존재 여부를 판단하는 조건 (마지막 페이지인 경우 선행 취득하지 않음)
+	 * @param nextPageLoader 응답을 받아 다음 페이지 취득 메소드 호출 (캐시가 적용된 빈의 메소드를 호출할 것)
+	 * @return 응답 Consumer (Mono.doOnNext에 설정)
+	 */
+	public <T> Consumer<T> nextPage(Predicate<T> hasNextPage, NextPageLoader<T> nextPageLoader) {
+		if (!isEnabled) {
+			return response -> {};
+		}
+		// 요청 스레드의 세션 (응답은 다른 스레드에서 발행될 수 있으므로 미리 취득)
+		HttpSession requestSession = session.getSession();
+		return response -> {
+			if (response == null || !hasNextPage.test(response)) {
+				return;
+			}
+			// 동시 실행 수 초과시 생략
+			if (!permits.tryAcquire()) {
+				skippedCounter.increment();
+				return;
+			}
+			Mono<?> nextPageMono;
+			// 현재 스레드의 세션을 원래 요청의 세션으로 일시적으로 교체하여 메소드 호출 (캐시 키 생성, 세션 참조)
+			HttpSession currentSession = session.getSession();
+			try {
+				session.setSession(requestSession);
+				nextPageMono = nextPageLoader.load(response);
+			} catch (Exception e) {
+				permits.release();
+				log.warn("Prefetch skipped: {}", e.getMessage());
+				return;
+			} finally {
+				if (currentSession == null) {
+					session.sessionClear();
+				} else {
+					session.setSession(currentSession);
+				}
+			}
+			startedCounter.increment();
+			// 응답 스레드를 점유하지 않도록 별도 스케줄러에서 구독
+			nextPageMono
+			.subscribeOn(Schedulers.boundedElastic())
+			.doFinally(signal -> permits.release())
+			.subscribe(
+					value -> log.debug("Prefetched next page"),
+					ex -> log.debug("Prefetch failed: {}", ex.getMessage()));
+		};
+	}
+
+	/**
+	 * 다음 페이지 취득 처리
+	 *
+	 * @param <T> 응답 타입
+	 */
+	@FunctionalInterface
+	public interface NextPageLoader<T> {
+
+		/**
+		 * 다음 페이지 취득 메소드 호출
+		 *
+		 * @param response 현재 페이지 응답 (다음 페이지 커서 등 참조용)
+		 * @return 다음 페이지 Mono
+		 * @throws Exception 호출 실패시
+		 */
+		Mono<?> load(T response) throws Exception;
+	}
+}
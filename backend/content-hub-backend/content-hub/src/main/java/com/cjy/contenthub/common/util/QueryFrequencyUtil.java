@@ -0,0 +1,243 @@
+package com.cjy.contenthub.common.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 빈도 집계 공통 클래스
+ * 정규화된 검색어별 검색 횟수를 LongAdder로 잠금 없이 집계하고, 주기적으로 디스크에 저장
+ * 기동시 디스크에서 이전 집계를 읽어, 캐시 사전 적재(인기 검색어 재실행)와 인기 검색어 표시에 사용
+ * 등록 개수가 상한에 도달한 상태에서 신규 검색어를 등록하는 경우, 검색 횟수 하위 항목을 정리한 후 등록
+ * 공개용 인기 검색어는 개인 정보 등이 포함된 드문 검색어를 제외하기 위해 최소 검색 횟수 이상이고,
+ * 성인물 포함 세션에서 검색된 적이 없는 검색어만 반환
+ */
+@Component
+@Slf4j
+public class QueryFrequencyUtil {
+
+	/** 저장 파일 항목 구분자 */
+	private static final String SEPARATOR = "\t";
+
+	/** 상한 도달시 정리 후 남기는 비율 */
+	private static final double TRIM_RATIO = 0.75;
+
+	/** 저장 파일의 성인물 포함 세션 검색어 표시 */
+	private static final String ADULT_MARK = "A";
+
+	/** 세션 유틸 클래스 */
+	private final SessionUtil session;
+
+	/** 저장 파일 경로 */
+	private final Path frequencyPath;
+
+	/** 집계 검색어 최대 개수 */
+	private final int maxKeys;
+
+	/** 공개용 인기 검색어의 최소 검색 횟수 */
+	private final long popularMinCount;
+
+	/** 정규화된 검색어별 집계 */
+	private final Map<String, QueryCount> counts = new ConcurrentHashMap<>();
+
+	/**
+	 * 생성자
+	 *
+	 * @param session 세션 유틸 클래스
+	 * @param frequencyPath 저장 파일 경로
+	 * @param maxKeys 집계 검색어 최대 개수
+	 * @param popularMinCount 공개용 인기 검색어의 최소 검색 횟수
+	 */
+	public QueryFrequencyUtil(SessionUtil session,
+			@Value("${app.queryFrequency.path}") String frequencyPath,
+			@Value("${app.queryFrequency.maxKeys}") int maxKeys,
+			@Value("${app.queryFrequency.popularMinCount}") long popularMinCount) {
+		this.session = session;
+		this.frequencyPath = Path.of(frequencyPath);
+		this.maxKeys = maxKeys;
+		this.popularMinCount = popularMinCount;
+	}
+
+	/**
+	 * 기동시 디스크에서 이전 집계 로드
+	 * 파일이 없거나 읽을 수 없는 경우는 빈 집계로 기동
+	 */
+	@PostConstruct
+	public void load() {
+		if (!Files.isReadable(frequencyPath)) {
+			return;
+		}
+		try {
+			for (String line : Files.readAllLines(frequencyPath, StandardCharsets.UTF_8)) {
+				// 검색 횟수, 검색어, 성인물 포함 세션 검색어 표시(선택)
+				String[] fields = line.split(SEPARATOR, 3);
+				if (fields.length < 2 || !StringUtils.isNumeric(fields[0]) || StringUtils.isBlank(fields[1])) {
+					continue;
+				}
+				String key = SearchQueryUtil.canonicalize(fields[1]);
+				if (counts.size() < maxKeys) {
+					QueryCount queryCount = counts.computeIfAbsent(key, k -> new QueryCount(fields[1], new LongAdder(), new AtomicBoolean()));
+					queryCount.count().add(Long.parseLong(fields[0]));
+					if (fields.length == 3 && ADULT_MARK.equals(fields[2])) {
+						queryCount.isAdult().set(true);
+					}
+				}
+			}
+			log.info("Query frequency loaded: {} keywords", counts.size());
+		} catch (IOException | NumberFormatException e) {
+			log.warn("Query frequency load failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 검색어 1회 집계
+	 * 성인물 포함 세션에서 검색된 검색어는 공개용 인기 검색어에서 제외하도록 표시
+	 *
+	 * @param keyword 검색어
+	 */
+	public void record(String keyword) {
+		String key = SearchQueryUtil.canonicalize(keyword);
+		if (key.isEmpty()) {
+			return;
+		}
+		QueryCount queryCount = counts.get(key);
+		if (queryCount == null) {
+			// 상한에 도달한 경우, 하위 항목을 정리하여 신규 검색어용 공간을 확보
+			if (counts.size() >= maxKeys) {
+				trim();
+			}
+			queryCount = counts.computeIfAbsent(key,
+					k -> new QueryCount(StringUtils.normalizeSpace(keyword), new LongAdder(), new AtomicBoolean()));
+		}
+		queryCount.count().increment();
+		if (session.isAdult()) {
+			queryCount.isAdult().set(true);
+		}
+	}
+
+	/**
+	 * 검색 횟수 상위 검색어 취득 (캐시 사전 적재용, 필터링 없음)
+	 *
+	 * @param limit 최대 반환 건수
+	 * @return 검색어 리스트 (검색 횟수 내림차순)
+	 */
+	public List<String> top(int limit) {
+		return sortedEntries().stream().limit(limit).map(e -> e.queryCount().keyword()).toList();
+	}
+
+	/**
+	 * 공개용 인기 검색어 취득
+	 * 최소 검색 횟수 미만의 검색어와 성인물 포함 세션에서 검색된 검색어는 제외
+	 *
+	 * @param limit 최대 반환 건수
+	 * @return 검색어 리스트 (검색 횟수 내림차순)
+	 */
+	public List<String> popular(int limit) {
+		return sortedEntries().stream()
+				.filter(e -> e.sum() >= popularMinCount && !e.queryCount().isAdult().get())
+				.limit(limit)
+				.map(e -> e.queryCount().keyword())
+				.toList();
+	}
+
+	/**
+	 * 검색 횟수 하위 항목 정리
+	 * 정리 후 상한의 일정 비율만 남겨, 신규 검색어 등록마다 정렬하지 않도록 함
+	 */
+	private synchronized void trim() {
+		// 다른 스레드가 이미 정리한 경우는 생략
+		if (counts.size() < maxKeys) {
+			return;
+		}
+		List<RankedQuery> sortedList = sortedEntries();
+		int keepCount = Math.min((int) (maxKeys * TRIM_RATIO), sortedList.size());
+		sortedList.subList(keepCount, sortedList.size()).stream().map(RankedQuery::queryCount)
+				.forEach(e -> counts.remove(SearchQueryUtil.canonicalize(e.keyword()), e));
+	}
+
+	/**
+	 * 집계를 주기적으로 디스크에 저장
+	 */
+	@Scheduled(initialDelayString = "${app.queryFrequency.persistIntervalMillis}", fixedDelayString = "${app.queryFrequency.persistIntervalMillis}")
+	public void persist() {
+		List<RankedQuery> sortedList = sortedEntries();
+		if (sortedList.isEmpty()) {
+			return;
+		}
+		try {
+			Path parent = frequencyPath.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempPath = Files.createTempFile(parent, frequencyPath.getFileName().toString(), ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+				for (RankedQuery rankedQuery : sortedList) {
+					writer.write(String.valueOf(rankedQuery.sum()));
+					writer.write(SEPARATOR);
+					writer.write(rankedQuery.queryCount().keyword());
+					if (rankedQuery.queryCount().isAdult().get()) {
+						writer.write(SEPARATOR);
+						writer.write(ADULT_MARK);
+					}
+					writer.newLine();
+				}
+			}
+			Files.move(tempPath, frequencyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Query frequency save failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 종료시 집계 저장
+	 */
+	@PreDestroy
+	public void shutdown() {
+		persist();
+	}
+
+	/**
+	 * 검색 횟수 내림차순으로 정렬된 집계 리스트
+	 *
+	 * @return 집계 리스트
+	 */
+	private List<RankedQuery> sortedEntries() {
+		return counts.values().stream()
+				.map(e -> new RankedQuery(e, e.count().sum())) // 정렬 중 값이 바뀌지 않도록 현재 합계를 고정
+				.sorted(Comparator.comparingLong(RankedQuery::sum).reversed())
+				.toList();
+	}
+
+	/**
+	 * 검색어 집계
+	 *
+	 * @param keyword 표시용 검색어 (최초 집계시의 표기)
+	 * @param count 검색 횟수
+	 * @param isAdult 성인물 포함 세션에서 검색된 적이 있는지 여부
+	 */
+	private record QueryCount(String keyword, LongAdder count, AtomicBoolean isAdult) {}
+
+	/**
+	 * 정렬용 집계 스냅샷
+	 *
+	 * @param queryCount 검색어 집계
+	 * @param sum 스냅샷 시점의 검색 횟수
+	 */
+	private record RankedQuery(QueryCount queryCount, long sum) {}
+}
@@ -0,0 +1,35 @@
+package com.cjy.contenthub.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어 정규화 유틸리티 클래스
+ * 표기만 다른 동일 검색어("Naruto", "naruto ", NFD로 분해된 한글 등)가
+ * 같은 캐시 키, 같은 외부 API 호출로 이어지도록 정규 형태로 변환
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchQueryUtil {
+
+	/**
+	 * 검색어를 정규 형태로 변환
+	 * Unicode NFC 정규화(분해된 한글 자모 결합) → 앞뒤 공백 제거, 연속 공백을 공백 1개로 축소 → 소문자화
+	 * 
+	 * @param query 검색어
+	 * @return 정규화된 검색어 (null인 경우 빈 문자열)
+	 */
+	public static String canonicalize(String query) {
+		if (StringUtils.isBlank(query)) {
+			return StringUtils.EMPTY;
+		}
+		String composed = Normalizer.isNormalized(query, Normalizer.Form.NFC)
+				? query
+				: Normalizer.normalize(query, Normalizer.Form.NFC);
+		return StringUtils.normalizeSpace(composed).toLowerCase(Locale.ROOT);
+	}
+}
@@ -1,9 +1,13 @@
 package com.cjy.contenthub.common.util;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Component;
 
+import com.cjy.contenthub.common.constants.CommonConstants;
+
 import jakarta.servlet.http.HttpSession;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,6 +21,9 @@ public class SessionUtil {
 	
 	/** 스레드 세이프를 위한 ThreadLocal */
 	private static final ThreadLocal<HttpSession> sessionHolder = new ThreadLocal<>();
+
+	/** 세션 없이 처리하는 스레드의 세션 값 (백그라운드 처리용, 세션 없이 처리하지 않는 경우 null) */
+	private static final ThreadLocal<Map<String, Boolean>> withoutSessionHolder = new ThreadLocal<>();
 	
 	/**
 	 * HttpSession 저장
@@ -49,13 +56,68 @@ public class SessionUtil {
 		HttpSession session = getSession();
 		// 세션이 null인 경우 false 반환
 		if (session == null) {
-			log.warn("Session is null for key: {}", key);
-			return false;
+			// 세션 없이 실행하는 백그라운드 처리는 경고 없이 지정된 값(없는 경우 false) 사용
+			Map<String, Boolean> values = withoutSessionHolder.get();
+			if (values == null) {
+				log.warn("Session is null for key: {}", key);
+				return false;
+			}
+			return values.getOrDefault(key, false);
 		}
 		// 세션에서 지정된 키에 해당하는 값을 Optional로 감싸고, 값이 없으면 false를 반환
 		return (boolean) Optional.ofNullable(session.getAttribute(key)).orElse(false);
 	}
 	
+	/**
+	 * 세션 없이 처리 실행
+	 * 요청 스레드가 아닌 백그라운드 처리(캐시 사전 적재 등)에서 사용하며,
+	 * 처리 중의 세션 값 조회는 경고 없이 기본값(성인물 미포함 등)을 반환
+	 * 
+	 * @param <T> 처리 결과 타입
+	 * @param call 처리
+	 * @return 처리 결과
+	 */
+	public <T> T callWithoutSession(Supplier<T> call) {
+		return callWithoutSession(Map.of(), call);
+	}
+
+	/**
+	 * 지정한 세션 값으로 세션 없이 처리 실행
+	 * 캐시 선행 갱신 등 원래 요청의 세션 값(성인물 포함 여부 등)을 캐시 키로부터 복원하여 실행하는 경우에 사용
+	 * 
+	 * @param <T> 처리 결과 타입
+	 * @param values 처리 중에 반환할 세션 값 (없는 키는 false)
+	 * @param call 처리
+	 * @return 처리 결과
+	 */
+	public <T> T callWithoutSession(Map<String, Boolean> values, Supplier<T> call) {
+		HttpSession currentSession = sessionHolder.get();
+		Map<String, Boolean> currentValues = withoutSessionHolder.get();
+		try {
+			sessionHolder.remove();
+			withoutSessionHolder.set(values);
+			return call.get();
+		} finally {
+			if (currentValues == null) {
+				withoutSessionHolder.remove();
+			} else {
+				withoutSessionHolder.set(currentValues);
+			}
+			if (currentSession != null) {
+				sessionHolder.set(currentSession);
+			}
+		}
+	}
+
+	/**
+	 * 성인물 포함 여부 취득 (캐시 키 생성용)
+	 * 
+	 * @return 성인물 포함 여부
+	 */
+	public boolean isAdult() {
+		return getSessionBooleanValue(CommonConstants.ADULT_FLG);
+	}
+
 	/**
 	 * 현재 스레드에 저장된 HttpSession을 제거하여 세션을 클리어
 	 */
@@ -0,0 +1,239 @@
+package com.cjy.contenthub.common.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import com.cjy.contenthub.common.api.dto.aniist.AniListMediaDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작품명 번역 사전 공통 클래스
+ * 번역 대상 검색어(한국어 작품명)를 AniList 작품명(title.native, 없는 경우 romaji)으로 변환하는 로컬 사전으로,
+ * 사전에 있는 검색어는 DeepL API 번역을 생략
+ * 번역 검색 결과 중 검색어와 일치하는 작품(별칭에 한국어 검색어가 있거나, 작품명이 번역 결과와 같은 작품)이 있는 경우에만
+ * 해당 작품의 AniList 작품명을 등록 (DeepL 번역 결과 자체는 번역 캐시에 저장되므로 등록하지 않음)
+ * 원문 그대로 AniList를 검색하는 검색어(일본어, 영어/로마자)는 사전을 조회하지 않으므로 등록하지 않음
+ * 기동시 디스크에서 읽은 사전은 불변 맵으로 보관하고, 실행 중 수집한 항목은 별도 맵에 추가한 후
+ * 주기적으로(및 종료시) 불변 맵과 병합하여 디스크에 저장
+ * 키는 정규화된 검색어(SearchQueryUtil.canonicalize)이므로 표기만 다른 동일 작품명도 적중
+ */
+@Component
+@Slf4j
+public class TitleDictionaryUtil {
+
+	/** 메트릭 이름 : 사전 조회 건수 */
+	private static final String METRIC_LOOKUP = "translation.dictionary.lookups";
+
+	/** 메트릭 태그 : 결과 */
+	private static final String TAG_RESULT = "result";
+
+	/** 사전 파일 항목 구분자 */
+	private static final String SEPARATOR = "\t";
+
+	/** 사전 파일 경로 */
+	private final Path dictionaryPath;
+
+	/** 실행 중 수집 항목 최대 개수 */
+	private final int maxLearnedSize;
+
+	/** 기동시 디스크에서 읽은 사전 (불변) */
+	private volatile Map<String, String> dictionary = Map.of();
+
+	/** 실행 중 수집한 사전 항목 */
+	private final Map<String, String> learned = new ConcurrentHashMap<>();
+
+	/** 사전 적중 건수 */
+	private final Counter hitCounter;
+
+	/** 사전 미적중 건수 */
+	private final Counter missCounter;
+
+	/**
+	 * 생성자
+	 *
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @param dictionaryPath 사전 파일 경로
+	 * @param maxLearnedSize 실행 중 수집 항목 최대 개수
+	 */
+	public TitleDictionaryUtil(MeterRegistry meterRegistry,
+			@Value("${app.titleDictionary.path}") String dictionaryPath,
+			@Value("${app.titleDictionary.maxLearnedSize}") int maxLearnedSize) {
+		this.dictionaryPath = Path.of(dictionaryPath);
+		this.maxLearnedSize = maxLearnedSize;
+		this.hitCounter = Counter.builder(METRIC_LOOKUP).tag(TAG_RESULT, "hit").register(meterRegistry);
+		this.missCounter = Counter.builder(METRIC_LOOKUP).tag(TAG_RESULT, "miss").register(meterRegistry);
+	}
+
+	/**
+	 * 기동시 디스크에서 사전 로드
+	 * 파일이 없거나 읽을 수 없는 경우는 빈 사전으로 기동
+	 */
+	@PostConstruct
+	public void load() {
+		if (!Files.isReadable(dictionaryPath)) {
+			log.info("Title dictionary not found: {}", dictionaryPath);
+			return;
+		}
+		try {
+			List<String> lines = Files.readAllLines(dictionaryPath, StandardCharsets.UTF_8);
+			Map<String, String> loaded = new HashMap<>(lines.size());
+			for (String line : lines) {
+				String[] fields = line.split(SEPARATOR, 2);
+				if (fields.length == 2 && StringUtils.isNoneBlank(fields[0], fields[1])) {
+					loaded.put(fields[0], fields[1]);
+				}
+			}
+			dictionary = Map.copyOf(loaded);
+			log.info("Title dictionary loaded: {} entries", dictionary.size());
+		} catch (IOException e) {
+			log.warn("Title dictionary load failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 실행 중 수집한 항목을 주기적으로 디스크에 저장 (비정상 종료시 잃는 항목을 저장 주기 이내로 제한)
+	 */
+	@Scheduled(initialDelayString = "${app.titleDictionary.saveIntervalMillis}", fixedDelayString = "${app.titleDictionary.saveIntervalMillis}")
+	public void persist() {
+		save();
+	}
+
+	/**
+	 * 종료시 사전을 디스크에 저장
+	 */
+	@PreDestroy
+	public void shutdown() {
+		save();
+	}
+
+	/**
+	 * 사전을 디스크에 저장
+	 * 임시 파일에 기록한 후 교체하여, 저장 도중 종료되어도 기존 사전을 유지
+	 * 저장에 성공한 항목은 불변 맵으로 옮겨, 실행 중 수집 항목 최대 개수를 다시 사용할 수 있도록 함
+	 */
+	private synchronized void save() {
+		if (learned.isEmpty()) {
+			return;
+		}
+		Map<String, String> saving = Map.copyOf(learned);
+		Map<String, String> merged = new HashMap<>(dictionary);
+		merged.putAll(saving);
+		try {
+			Path parent = dictionaryPath.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempPath = Files.createTempFile(parent, dictionaryPath.getFileName().toString(), ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, String> entry : merged.entrySet()) {
+					writer.write(entry.getKey());
+					writer.write(SEPARATOR);
+					writer.write(entry.getValue());
+					writer.newLine();
+				}
+			}
+			Files.move(tempPath, dictionaryPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			dictionary = Map.copyOf(merged);
+			saving.forEach(learned::remove);
+			log.info("Title dictionary saved: {} entries", merged.size());
+		} catch (IOException e) {
+			log.warn("Title dictionary save failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 검색어에 대응하는 일본어 작품명 조회
+	 *
+	 * @param keyword 검색어
+	 * @return 일본어 작품명 (사전에 없는 경우 empty)
+	 */
+	public Optional<String> lookup(String keyword) {
+		String key = SearchQueryUtil.canonicalize(keyword);
+		String title = key.isEmpty() ? null : Optional.ofNullable(learned.get(key)).orElseGet(() -> dictionary.get(key));
+		(title != null ? hitCounter : missCounter).increment();
+		return Optional.ofNullable(title);
+	}
+
+	/**
+	 * 번역 검색 결과에서 검색어와 일치하는 작품의 AniList 작품명(검색어 → title.native/romaji) 등록
+	 * 별칭에 검색어가 있는 작품을 우선하고, 없는 경우 작품명(native/romaji/english)이 번역 결과와 같은 작품을 사용
+	 * 일치하는 작품이 없는 경우는 번역이 작품명과 다를 수 있으므로 등록하지 않음
+	 *
+	 * @param keyword 검색어 (번역 전)
+	 * @param translated 번역된 검색어 (AniList 검색어)
+	 * @param mediaList AniList 검색 결과
+	 */
+	public void addAniListTitle(String keyword, String translated, List<AniListMediaDto> mediaList) {
+		if (CollectionUtils.isEmpty(mediaList)) {
+			return;
+		}
+		String keywordKey = SearchQueryUtil.canonicalize(keyword);
+		String translatedKey = SearchQueryUtil.canonicalize(translated);
+		mediaList.stream()
+				.filter(media -> containsCanonical(media.getSynonyms(), keywordKey))
+				.findFirst()
+				.or(() -> mediaList.stream()
+						.filter(media -> media.getTitle() != null)
+						.filter(media -> containsCanonical(Arrays.asList(media.getTitle().getNativeTitle(),
+								media.getTitle().getRomaji(), media.getTitle().getEnglish()), translatedKey))
+						.findFirst())
+				.map(AniListMediaDto::getTitle)
+				.map(title -> StringUtils.firstNonBlank(title.getNativeTitle(), title.getRomaji()))
+				.ifPresent(title -> put(keyword, title));
+	}
+
+	/**
+	 * 정규화한 작품명 리스트에 대상 키가 포함되는지 판단
+	 *
+	 * @param titles 작품명 리스트 (null 요소 허용)
+	 * @param key 정규화된 키
+	 * @return 포함 여부
+	 */
+	private boolean containsCanonical(List<String> titles, String key) {
+		if (titles == null || key.isEmpty()) {
+			return false;
+		}
+		return titles.stream()
+				.filter(StringUtils::isNotBlank)
+				.anyMatch(title -> key.equals(SearchQueryUtil.canonicalize(title)));
+	}
+
+	/**
+	 * 사전 항목 등록
+	 * 실행 중 수집 항목이 최대 개수에 도달한 경우는 등록하지 않음 (다음 저장시 디스크 사전에 병합된 후 다시 수집)
+	 *
+	 * @param source 원본 작품명
+	 * @param target 일본어 작품명
+	 */
+	private void put(String source, String target) {
+		String key = SearchQueryUtil.canonicalize(source);
+		String value = StringUtils.normalizeSpace(target);
+		if (key.isEmpty() || StringUtils.isEmpty(value)) {
+			return;
+		}
+		// 이미 등록된 항목은 덮어쓰지 않음
+		if (dictionary.containsKey(key) || learned.size() >= maxLearnedSize) {
+			return;
+		}
+		learned.putIfAbsent(key, value);
+	}
+}
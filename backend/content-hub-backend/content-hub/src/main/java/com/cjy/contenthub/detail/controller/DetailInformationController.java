@@ -11,15 +11,18 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.cjy.contenthub.common.api.dto.aniist.AniListCharactersDto;
 import com.cjy.contenthub.detail.controller.dto.DetailComicsResponseDto;
 import com.cjy.contenthub.detail.controller.dto.DetailMovieResponseDto;
 import com.cjy.contenthub.detail.controller.dto.DetailTvResponseDto;
+import com.cjy.contenthub.detail.mapper.DetailMapper;
 import com.cjy.contenthub.detail.service.DetailInformationService;
 
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * 상세 화면 API 컨트롤러 클래스
@@ -33,6 +36,9 @@ public class DetailInformationController {
 	/** 상세 정보 서비스 */
 	private final DetailInformationService informationService;
 
+	/** 상세 매퍼 */
+	private final DetailMapper mapper;
+
 	/** TMDB API 통신용 WebClient 클래스 */
 	@Qualifier("tmdbWebClient")
 	private final WebClient tmdbWebClient;
@@ -105,10 +111,10 @@ public class DetailInformationController {
 	 * @return TV 상세 응답 DTO
 	 */
 	@GetMapping(value = "/getTvDetail")
-	public ResponseEntity<DetailTvResponseDto> getTvDetail(
+	public Mono<ResponseEntity<DetailTvResponseDto>> getTvDetail(
 			@NotNull @RequestParam(PARAM_TV_SERIES_ID) Integer seriesId
 			) {
-		return ResponseEntity.ok(informationService.getTvDetail(seriesId));
+		return informationService.getTvDetail(seriesId).map(ResponseEntity::ok);
 	}
 
 	/**
@@ -116,28 +122,48 @@ public class DetailInformationController {
 	 * 
 	 * @param movieId 영화 ID
 	 * @param originalMediaType 원본 미디어 타입
-	 * @return ResponseEntity<DetailMovieResponseDto> 영화 상세 응답 DTO
+	 * @return Mono<ResponseEntity<DetailMovieResponseDto>> 영화 상세 응답 DTO
 	 */
 	@GetMapping(value = "/getMovieDetail")
-	public ResponseEntity<DetailMovieResponseDto> getMovieDetail(
+	public Mono<ResponseEntity<DetailMovieResponseDto>> getMovieDetail(
 			@NotNull @RequestParam(PARAM_MOVIE_ID) Integer movieId
 			) {
-		return ResponseEntity.ok(informationService.getMovieDetail(movieId));
+		return informationService.getMovieDetail(movieId).map(ResponseEntity::ok);
 	}
 
 	/**
 	 * AniList Comics 상세 조회 API
+	 * 작품 상세 정보(작품별 캐시)와 지정 페이지의 캐릭터 리스트(페이지별 캐시)를 병합하여 응답
 	 * 
 	 * @param comicsId Comics ID
-	 * @param page 페이지 번호
+	 * @param page 캐릭터 리스트 페이지 번호
 	 * @return Comics 상세 응답 DTO
 	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
 	 */
 	@GetMapping(value = "/getComicsDetail")
-	public ResponseEntity<DetailComicsResponseDto> getComicsDetail(
+	public Mono<ResponseEntity<DetailComicsResponseDto>> getComicsDetail(
+			@NotNull @RequestParam(PARAM_COMICS_ID) Integer comicsId,
+			@Nullable @RequestParam(PARAM_PAGE) Integer page
+			) throws IOException {
+		return Mono.zip(informationService.getComicsDetail(comicsId), informationService.getComicsCharacters(comicsId, page))
+				.map(tuple -> mapper.comicsDetailWithCharacters(tuple.getT1(), tuple.getT2()))
+				.map(ResponseEntity::ok);
+	}
+
+	/**
+	 * AniList Comics 캐릭터 리스트 조회 API
+	 * 캐릭터 리스트의 페이지 이동시 작품 상세 정보 없이 캐릭터 노드만 조회
+	 * 
+	 * @param comicsId Comics ID
+	 * @param page 페이지 번호
+	 * @return 캐릭터 리스트 DTO
+	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
+	 */
+	@GetMapping(value = "/getComicsCharacters")
+	public Mono<ResponseEntity<AniListCharactersDto>> getComicsCharacters(
 			@NotNull @RequestParam(PARAM_COMICS_ID) Integer comicsId,
 			@Nullable @RequestParam(PARAM_PAGE) Integer page
 			) throws IOException {
-		return ResponseEntity.ok(informationService.getComicsDetail(comicsId, page));
+		return informationService.getComicsCharacters(comicsId, page).map(ResponseEntity::ok);
 	}
 }
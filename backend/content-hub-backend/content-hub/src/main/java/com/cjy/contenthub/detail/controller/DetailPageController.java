@@ -0,0 +1,102 @@
+package com.cjy.contenthub.detail.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsMovieDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsTvDto;
+import com.cjy.contenthub.detail.controller.dto.DetailComicsRecommendationsResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailComicsResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailMovieResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailPageResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailTvResponseDto;
+import com.cjy.contenthub.detail.service.DetailPageService;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 상세 화면 일괄 조회 API 컨트롤러 클래스
+ * 상세 화면 표시에 필요한 상세 정보, 추천 작품, 코멘트 목록, 별점 평균을 한 번의 요청으로 응답
+ */
+@RestController
+@RequestMapping("/detail/page")
+@RequiredArgsConstructor
+@Slf4j
+public class DetailPageController {
+
+	/** 상세 화면 일괄 조회 서비스 */
+	private final DetailPageService pageService;
+
+	/** 리퀘스트 파라미터 키 : TV SERIES ID */
+	private static final String PARAM_TV_SERIES_ID = "series_id";
+
+	/** 리퀘스트 파라미터 키 : MOVIE ID */
+	private static final String PARAM_MOVIE_ID = "movie_id";
+
+	/** 리퀘스트 파라미터 키 : COMICS ID */
+	private static final String PARAM_COMICS_ID = "comics_id";
+
+	/** 리퀘스트 파라미터 키 : Original Media Type */
+	private static final String PARAM_ORIGINAL_MEDIATYPE = "originalMediaType";
+
+	/** 리퀘스트 파라미터 키 : 유저ID */
+	private static final String PARAM_USER_ID = "userId";
+
+	/**
+	 * TV 상세 화면 일괄 조회 API
+	 *
+	 * @param seriesId TV 시리즈 ID
+	 * @param originalMediaType 원본 미디어 타입 (애니/드라마)
+	 * @param userId 유저 ID (선택)
+	 * @return Mono<ResponseEntity<DetailPageResponseDto>> TV 상세 화면 일괄 응답 DTO
+	 */
+	@GetMapping(value = "/getTvPage")
+	public Mono<ResponseEntity<DetailPageResponseDto<DetailTvResponseDto, TmdbRecommendationsTvDto>>> getTvPage(
+			@NotNull @RequestParam(PARAM_TV_SERIES_ID) Integer seriesId,
+			@NotEmpty @RequestParam(PARAM_ORIGINAL_MEDIATYPE) String originalMediaType,
+			@Nullable @RequestParam(PARAM_USER_ID) String userId
+			) {
+		return pageService.getTvPage(seriesId, originalMediaType, userId).map(ResponseEntity::ok);
+	}
+
+	/**
+	 * 영화 상세 화면 일괄 조회 API
+	 *
+	 * @param movieId 영화 ID
+	 * @param userId 유저 ID (선택)
+	 * @return Mono<ResponseEntity<DetailPageResponseDto>> 영화 상세 화면 일괄 응답 DTO
+	 */
+	@GetMapping(value = "/getMoviePage")
+	public Mono<ResponseEntity<DetailPageResponseDto<DetailMovieResponseDto, TmdbRecommendationsMovieDto>>> getMoviePage(
+			@NotNull @RequestParam(PARAM_MOVIE_ID) Integer movieId,
+			@Nullable @RequestParam(PARAM_USER_ID) String userId
+			) {
+		return pageService.getMoviePage(movieId, userId).map(ResponseEntity::ok);
+	}
+
+	/**
+	 * 만화 상세 화면 일괄 조회 API
+	 *
+	 * @param comicsId 만화 ID
+	 * @param userId 유저 ID (선택)
+	 * @return Mono<ResponseEntity<DetailPageResponseDto>> 만화 상세 화면 일괄 응답 DTO
+	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
+	 */
+	@GetMapping(value = "/getComicsPage")
+	public Mono<ResponseEntity<DetailPageResponseDto<DetailComicsResponseDto, DetailComicsRecommendationsResponseDto>>> getComicsPage(
+			@NotNull @RequestParam(PARAM_COMICS_ID) Integer comicsId,
+			@Nullable @RequestParam(PARAM_USER_ID) String userId
+			) throws IOException {
+		return pageService.getComicsPage(comicsId, userId).map(ResponseEntity::ok);
+	}
+}
@@ -1,6 +1,7 @@
 package com.cjy.contenthub.detail.controller;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +14,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsMovieDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsTvDto;
+import com.cjy.contenthub.common.util.PrefetchUtil;
 import com.cjy.contenthub.detail.controller.dto.DetailComicsRecommendationsResponseDto;
 import com.cjy.contenthub.detail.service.DetailRecommendationService;
 
@@ -20,6 +22,7 @@ import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * 상세 화면 API 컨트롤러 클래스
@@ -33,6 +36,9 @@ public class DetailRecommendationController {
 	/** 상세 추천 서비스 */
 	private final DetailRecommendationService recommendationService;
 
+	/** 다음 페이지 선행 취득 공통 클래스 */
+	private final PrefetchUtil prefetch;
+
 	/** TMDB API 통신용 WebClient 클래스 */
 	@Qualifier("tmdbWebClient")
 	private final WebClient tmdbWebClient;
@@ -82,14 +88,18 @@ public class DetailRecommendationController {
 	 * 
 	 * @param seriesId TV 시리즈 ID
 	 * @param page 페이지 번호 (선택)
-	 * @return ResponseEntity<TmdbRecommendationsTvDto> 추천 작품 응답 DTO
+	 * @return Mono<ResponseEntity<TmdbRecommendationsTvDto>> 추천 작품 응답 DTO
 	 */
 	@GetMapping(value = "/getTvRecommendations")
-	public ResponseEntity<TmdbRecommendationsTvDto> getTvRecommendations(
+	public Mono<ResponseEntity<TmdbRecommendationsTvDto>> getTvRecommendations(
 			@NotNull @RequestParam(PARAM_TV_SERIES_ID) Integer seriesId,
 			@Nullable @RequestParam(PARAM_PAGE) Integer page
 			) {
-		return ResponseEntity.ok(recommendationService.getTvRecommendations(seriesId, page));
+		int currentPage = Optional.ofNullable(page).orElse(1);
+		return recommendationService.getTvRecommendations(seriesId, currentPage)
+				.doOnNext(prefetch.nextPage(response -> response.getPage() < response.getTotalPages(),
+						response -> recommendationService.getTvRecommendations(seriesId, currentPage + 1)))
+				.map(ResponseEntity::ok);
 	}
 
 	/**
@@ -97,14 +107,18 @@ public class DetailRecommendationController {
 	 * 
 	 * @param movieId 영화 ID
 	 * @param page 페이지 번호 (선택)
-	 * @return ResponseEntity<TmdbRecommendationsMovieDto> 추천 작품 응답 DTO
+	 * @return Mono<ResponseEntity<TmdbRecommendationsMovieDto>> 추천 작품 응답 DTO
 	 */
 	@GetMapping(value = "/getMovieRecommendations")
-	public ResponseEntity<TmdbRecommendationsMovieDto> getMovieRecommendations(
+	public Mono<ResponseEntity<TmdbRecommendationsMovieDto>> getMovieRecommendations(
 			@NotNull @RequestParam(PARAM_MOVIE_ID) Integer movieId,
 			@Nullable @RequestParam(PARAM_PAGE) Integer page
 			) {
-		return ResponseEntity.ok(recommendationService.getMovieRecommendations(movieId, page));
+		int currentPage = Optional.ofNullable(page).orElse(1);
+		return recommendationService.getMovieRecommendations(movieId, currentPage)
+				.doOnNext(prefetch.nextPage(response -> response.getPage() < response.getTotalPages(),
+						response -> recommendationService.getMovieRecommendations(movieId, currentPage + 1)))
+				.map(ResponseEntity::ok);
 	}
 
 	/**
@@ -112,14 +126,18 @@ public class DetailRecommendationController {
 	 * 
 	 * @param mediaId 미디어 추천 ID
 	 * @param page 페이지 번호 (선택)
-	 * @return ResponseEntity<DetailComicsRecommendationsResponseDto> 추천 작품 응답 DTO
+	 * @return Mono<ResponseEntity<DetailComicsRecommendationsResponseDto>> 추천 작품 응답 DTO
 	 */
 	@GetMapping(value = "/getComicsRecommendations")
-	public ResponseEntity<DetailComicsRecommendationsResponseDto> getComicsRecommendations(
+	public Mono<ResponseEntity<DetailComicsRecommendationsResponseDto>> getComicsRecommendations(
 			@NotNull @RequestParam(PARAM_MEDIA_ID) Integer mediaId,
 			@Nullable @RequestParam(PARAM_PAGE) Integer page
 			) throws IOException {
-		return ResponseEntity.ok(recommendationService.getComicsRecommendations(mediaId, page));
+		int currentPage = Optional.ofNullable(page).orElse(1);
+		return recommendationService.getComicsRecommendations(mediaId, currentPage)
+				.doOnNext(prefetch.nextPage(DetailComicsRecommendationsResponseDto::isHasNextPage,
+						response -> recommendationService.getComicsRecommendations(mediaId, currentPage + 1)))
+				.map(ResponseEntity::ok);
 	}
 
 }
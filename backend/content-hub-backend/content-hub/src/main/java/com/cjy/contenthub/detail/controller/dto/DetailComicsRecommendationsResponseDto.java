@@ -20,4 +20,7 @@ public class DetailComicsRecommendationsResponseDto {
 	/** 추천 결과 리스트 */
 	private List<DetailComicsRecommendationsResultDto> results;
 
+	/** 다음 페이지 존재 여부 */
+	private boolean hasNextPage;
+
 }
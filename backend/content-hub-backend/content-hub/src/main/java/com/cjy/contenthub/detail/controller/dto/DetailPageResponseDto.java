@@ -0,0 +1,38 @@
+package com.cjy.contenthub.detail.controller.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상세 화면 일괄 응답 DTO
+ * 상세 정보, 추천 작품, 코멘트 목록, 별점 평균을 하나의 응답으로 담고 있으며, 클라이언트 요청에 대한 응답으로 사용됨
+ * 상세 정보 이외의 섹션은 취득 실패시 null로 응답하며, 실패한 섹션 이름을 degradedSections에 설정
+ *
+ * @param <D> 상세 정보 DTO 타입
+ * @param <R> 추천 작품 DTO 타입
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class DetailPageResponseDto<D, R> {
+
+	/** 상세 정보 */
+	private D detail;
+
+	/** 추천 작품 (1페이지) */
+	private R recommendations;
+
+	/** 코멘트 목록 (1페이지) */
+	private DetailCommentGetResponseDto comments;
+
+	/** 별점 평균 */
+	private BigDecimal starRatingAverage;
+
+	/** 취득에 실패하여 생략된 섹션 이름 리스트 */
+	private List<String> degradedSections;
+
+}
@@ -0,0 +1,258 @@
+package com.cjy.contenthub.detail.helper;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * TMDB 추천 작품 조회 대체 경로(fallback) 헬퍼 클래스
+ * 추천 작품(한국어 → 404인 경우 영어)을 기본 경로로 조회하고, 기본 경로가 응답 시간 중앙값(p50)을 넘기거나
+ * 결과 없이 끝난 경우 비슷한 작품(similar)을 병렬로 조회하여 먼저 도착한 유효한 결과를 사용
+ * 작품 ID별로 결과를 반환한 경로를 기억하여, 재방문시에는 해당 경로를 바로 조회 (실패시 전체 경로로 재조회)
+ * 비슷한 작품 경로는 기본 경로에 유효한 결과가 없었던 경우에만 기억
+ */
+@Component
+public class DetailRecommendationFallbackHelper {
+
+	/** 메트릭 이름 : 기본 경로 응답 시간 */
+	private static final String METRIC_PRIMARY_LATENCY = "tmdb.recommendations.primary.latency";
+
+	/** 메트릭 이름 : 결과를 반환한 경로 */
+	private static final String METRIC_SOURCE = "tmdb.recommendations.source";
+
+	/** 메트릭 태그 : 미디어 타입 */
+	private static final String TAG_MEDIA = "media";
+
+	/** 메트릭 태그 : 경로 */
+	private static final String TAG_SOURCE = "source";
+
+	/** 응답 시간 중앙값 */
+	private static final double PERCENTILE_MEDIAN = 0.5;
+
+	/** 응답 시간 중앙값을 신뢰하기 위한 최소 표본 수 */
+	private static final long MIN_LATENCY_SAMPLES = 20;
+
+	/** 메트릭 레지스트리 */
+	private final MeterRegistry meterRegistry;
+
+	/** 작품별 결과 경로 기억 (키 : 미디어 타입 + 작품 ID) */
+	private final Cache<String, Source> sourceMemory;
+
+	/** 응답 시간 표본이 부족한 경우의 병렬 조회 시작 대기 시간 */
+	private final Duration initialHedgeDelay;
+
+	/** 병렬 조회 시작 최소 대기 시간 */
+	private final Duration minHedgeDelay;
+
+	/**
+	 * 추천 작품 조회 경로
+	 */
+	public enum Source {
+
+		/** 추천 작품 (한국어) */
+		RECOMMENDATIONS_KO,
+		/** 추천 작품 (영어) */
+		RECOMMENDATIONS_EN,
+		/** 비슷한 작품 */
+		SIMILAR
+	}
+
+	/**
+	 * 생성자
+	 *
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @param sourceMemorySize 작품별 결과 경로 기억 최대 건수
+	 * @param initialHedgeDelayMillis 응답 시간 표본이 부족한 경우의 병렬 조회 시작 대기 시간(밀리초)
+	 * @param minHedgeDelayMillis 병렬 조회 시작 최소 대기 시간(밀리초)
+	 */
+	public DetailRecommendationFallbackHelper(MeterRegistry meterRegistry,
+			@Value("${tmdb.custom.recommendationSourceMemorySize}") long sourceMemorySize,
+			@Value("${tmdb.custom.recommendationHedgeDelayMillis}") long initialHedgeDelayMillis,
+			@Value("${tmdb.custom.recommendationHedgeMinDelayMillis}") long minHedgeDelayMillis) {
+		this.meterRegistry = meterRegistry;
+		this.sourceMemory = Caffeine.newBuilder()
+				.maximumSize(sourceMemorySize)
+				.expireAfterWrite(Duration.ofDays(1))
+				.build();
+		this.initialHedgeDelay = Duration.ofMillis(initialHedgeDelayMillis);
+		this.minHedgeDelay = Duration.ofMillis(minHedgeDelayMillis);
+	}
+
+	/**
+	 * 추천 작품 조회
+	 * 기억된 경로가 있는 경우 해당 경로를 먼저 조회하고, 유효한 결과가 없으면 전체 경로로 조회
+	 *
+	 * @param <T> 추천 작품 응답 DTO 타입
+	 * @param mediaType 미디어 타입 (tv/movie)
+	 * @param id 작품 ID
+	 * @param korean 추천 작품(한국어) 조회 (404는 WebClientResponseException으로 발행할 것)
+	 * @param english 추천 작품(영어) 조회
+	 * @param similar 비슷한 작품 조회
+	 * @param totalResults 응답의 전체 작품 수 취득
+	 * @return 추천 작품 응답 DTO
+	 */
+	public <T> Mono<T> fetch(String mediaType, Integer id, Supplier<Mono<T>> korean, Supplier<Mono<T>> english,
+			Supplier<Mono<T>> similar, ToIntFunction<T> totalResults) {
+
+		String memoryKey = mediaType + ":" + id;
+		Source remembered = sourceMemory.getIfPresent(memoryKey);
+		if (remembered == null) {
+			return fetchHedged(mediaType, memoryKey, korean, english, similar, totalResults);
+		}
+		// 기억된 경로 조회 (유효한 결과가 없거나 실패한 경우 전체 경로로 조회)
+		Supplier<Mono<T>> branch = switch (remembered) {
+		case RECOMMENDATIONS_KO -> korean;
+		case RECOMMENDATIONS_EN -> english;
+		case SIMILAR -> similar;
+		};
+		return Mono.defer(branch)
+				.filter(response -> remembered == Source.SIMILAR || totalResults.applyAsInt(response) > 0)
+				.doOnNext(response -> countSource(mediaType, remembered))
+				.onErrorResume(e -> Mono.empty())
+				.switchIfEmpty(Mono.defer(() -> {
+					sourceMemory.invalidate(memoryKey);
+					return fetchHedged(mediaType, memoryKey, korean, english, similar, totalResults);
+				}));
+	}
+
+	/**
+	 * 기본 경로와 비슷한 작품 경로의 병렬 조회
+	 * 기본 경로 : 추천 작품(한국어) → 404인 경우 추천 작품(영어), 작품 수가 0건인 결과는 무효
+	 * 비슷한 작품 : 기본 경로가 병렬 조회 시작 대기 시간을 넘기거나 유효한 결과 없이 끝난 시점에 조회 시작
+	 * 먼저 도착한 유효한 결과를 반환하고 나머지 조회는 취소
+	 * 비슷한 작품 경로는 기본 경로가 유효한 결과 없이 끝난 경우에만 기억 (응답 속도로 이긴 경우는 다음 방문시 다시 병렬 조회)
+	 * 모든 경로가 실패한 경우 기본 경로의 에러를, 결과가 없는 경우 빈 Mono를 반환
+	 *
+	 * @param <T> 추천 작품 응답 DTO 타입
+	 * @param mediaType 미디어 타입
+	 * @param memoryKey 결과 경로 기억 키
+	 * @param korean 추천 작품(한국어) 조회
+	 * @param english 추천 작품(영어) 조회
+	 * @param similar 비슷한 작품 조회
+	 * @param totalResults 응답의 전체 작품 수 취득
+	 * @return 추천 작품 응답 DTO
+	 */
+	private <T> Mono<T> fetchHedged(String mediaType, String memoryKey, Supplier<Mono<T>> korean,
+			Supplier<Mono<T>> english, Supplier<Mono<T>> similar, ToIntFunction<T> totalResults) {
+
+		return Mono.defer(() -> {
+			Timer primaryTimer = primaryTimer(mediaType);
+			Duration hedgeDelay = hedgeDelay(primaryTimer);
+			// 기본 경로 종료 통지 (비슷한 작품 조회 시작 조건)
+			Sinks.Empty<Void> primaryDone = Sinks.empty();
+			// 기본 경로 에러 (모든 경로 실패시 반환)
+			AtomicReference<Throwable> primaryError = new AtomicReference<>();
+			// 기본 경로가 유효한 결과 없이 종료(0건/에러)했는지 여부 (비슷한 작품 경로 기억 조건)
+			AtomicBoolean isPrimaryExhausted = new AtomicBoolean();
+			long startNanos = System.nanoTime();
+
+			// 기본 경로 : 추천 작품(한국어) → 404인 경우 추천 작품(영어)
+			Mono<Candidate<T>> primary = Mono.defer(korean)
+					.map(response -> new Candidate<>(Source.RECOMMENDATIONS_KO, response))
+					.onErrorResume(WebClientResponseException.class, ex -> ex.getStatusCode() == HttpStatus.NOT_FOUND
+							? Mono.defer(english).map(response -> new Candidate<>(Source.RECOMMENDATIONS_EN, response))
+							: Mono.error(ex))
+					.doOnSuccess(candidate -> primaryTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS))
+					.doOnError(ex -> {
+						primaryError.set(ex);
+						isPrimaryExhausted.set(true);
+					})
+					.filter(candidate -> totalResults.applyAsInt(candidate.response()) > 0)
+					.switchIfEmpty(Mono.fromRunnable(() -> isPrimaryExhausted.set(true)))
+					.doFinally(signal -> primaryDone.tryEmitEmpty());
+
+			// 비슷한 작품 : 대기 시간 경과 또는 기본 경로 종료 중 빠른 시점에 시작
+			Mono<Candidate<T>> hedge = Mono.firstWithSignal(Mono.delay(hedgeDelay).then(), primaryDone.asMono())
+					.then(Mono.defer(similar))
+					.map(response -> new Candidate<>(Source.SIMILAR, response));
+
+			return Mono.firstWithValue(primary, hedge)
+					.onErrorResume(NoSuchElementException.class, e -> Mono.justOrEmpty(primaryError.get()).flatMap(Mono::error))
+					.doOnNext(candidate -> {
+						// 비슷한 작품이 응답 속도만으로 이긴 경우(기본 경로 취소)는 경로를 기억하지 않음
+						if (candidate.source() != Source.SIMILAR || isPrimaryExhausted.get()) {
+							sourceMemory.put(memoryKey, candidate.source());
+						}
+						countSource(mediaType, candidate.source());
+					});
+		})
+				.map(Candidate::response);
+	}
+
+	/**
+	 * 병렬 조회 시작 대기 시간 계산
+	 * 기본 경로 응답 시간의 중앙값(표본 부족시 초기값), 최소 대기 시간 이상
+	 *
+	 * @param primaryTimer 기본 경로 응답 시간 타이머
+	 * @return 대기 시간
+	 */
+	private Duration hedgeDelay(Timer primaryTimer) {
+		if (primaryTimer.count() < MIN_LATENCY_SAMPLES) {
+			return initialHedgeDelay;
+		}
+		for (ValueAtPercentile percentile : primaryTimer.takeSnapshot().percentileValues()) {
+			if (percentile.percentile() == PERCENTILE_MEDIAN) {
+				Duration median = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+				return median.compareTo(minHedgeDelay) < 0 ? minHedgeDelay : median;
+			}
+		}
+		return initialHedgeDelay;
+	}
+
+	/**
+	 * 기본 경로 응답 시간 타이머 취득
+	 *
+	 * @param mediaType 미디어 타입
+	 * @return 타이머
+	 */
+	private Timer primaryTimer(String mediaType) {
+		return Timer.builder(METRIC_PRIMARY_LATENCY)
+				.tag(TAG_MEDIA, mediaType)
+				.publishPercentiles(PERCENTILE_MEDIAN)
+				.description("Latency of the primary TMDB recommendations chain")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 결과를 반환한 경로 집계
+	 *
+	 * @param mediaType 미디어 타입
+	 * @param source 경로
+	 */
+	private void countSource(String mediaType, Source source) {
+		Counter.builder(METRIC_SOURCE)
+		.tag(TAG_MEDIA, mediaType)
+		.tag(TAG_SOURCE, source.name())
+		.register(meterRegistry)
+		.increment();
+	}
+
+	/**
+	 * 경로별 조회 결과
+	 *
+	 * @param <T> 추천 작품 응답 DTO 타입
+	 * @param source 경로
+	 * @param response 응답 DTO
+	 */
+	private record Candidate<T>(Source source, T response) {
+	}
+}
@@ -7,8 +7,10 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import com.cjy.contenthub.common.api.dto.aniist.AniListCharactersDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbMovieDetailsDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbTvDetailsDto;
+import com.cjy.contenthub.detail.controller.dto.DetailComicsResponseDto;
 import com.cjy.contenthub.detail.controller.dto.DetailCommentGetDataDto;
 import com.cjy.contenthub.detail.controller.dto.DetailCommentSaveRequestDto;
 import com.cjy.contenthub.detail.controller.dto.DetailCommentUpdateRequestDto;
@@ -102,5 +104,15 @@ public interface DetailMapper {
 	@Mapping(target = "link", ignore = true)
 	@Mapping(target = "starRatingAverage", ignore = true)
 	DetailMovieResponseDto detailMovieToDetailMovieResponse(TmdbMovieDetailsDto apiResponse);
+	
+	/**
+	 * 캐시된 만화 상세 응답 DTO와 캐릭터 리스트를 새 DetailComicsResponseDto로 병합
+	 * 캐시 값을 변경하지 않도록 복사하여 캐릭터 리스트를 설정
+	 * 
+	 * @param comicsDetail 만화 상세 응답 DTO (캐릭터 리스트 제외)
+	 * @param characters 캐릭터 리스트 DTO
+	 */
+	@Mapping(target = "characters", source = "characters")
+	DetailComicsResponseDto comicsDetailWithCharacters(DetailComicsResponseDto comicsDetail, AniListCharactersDto characters);
 
 }
@@ -10,6 +10,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * 상세 페이지 코멘트 관련 서비스 구현 클래스
+ * 코멘트 목록과 별점 평균은 캐시하고, 코멘트 등록/갱신/삭제시 두 캐시를 모두 삭제
  * 
  * @see DetailCommentService
  */
@@ -67,7 +69,9 @@ public class DetailCommentServiceImpl implements DetailCommentService {
 	 * @return boolean 등록 성공 여부
 	 */
 	@Override
-	@CacheEvict(value = "commentList", allEntries = true)
+	@Caching(evict = {
+			@CacheEvict(value = "commentList", allEntries = true),
+			@CacheEvict(value = "starRatingAverage", allEntries = true)})
 	public boolean saveComment(DetailCommentDataServiceDto commentDto) {
 
 		// 서비스 DTO를 엔티티로 변환
@@ -97,7 +101,9 @@ public class DetailCommentServiceImpl implements DetailCommentService {
 	 * @return boolean 갱신 성공 여부
 	 */
 	@Override
-	@CacheEvict(value = "commentList", allEntries = true)
+	@Caching(evict = {
+			@CacheEvict(value = "commentList", allEntries = true),
+			@CacheEvict(value = "starRatingAverage", allEntries = true)})
 	public boolean updateComment(DetailCommentDataServiceDto commentDto) {
 		
 		// 서비스 DTO를 엔티티로 변환
@@ -127,7 +133,9 @@ public class DetailCommentServiceImpl implements DetailCommentService {
 	 * @return boolean 삭제 성공 여부
 	 */
 	@Override
-	@CacheEvict(value = "commentList", allEntries = true)
+	@Caching(evict = {
+			@CacheEvict(value = "commentList", allEntries = true),
+			@CacheEvict(value = "starRatingAverage", allEntries = true)})
 	public boolean deleteComment(Long commentNo) {
 		
 		// 해당 코멘트 삭제
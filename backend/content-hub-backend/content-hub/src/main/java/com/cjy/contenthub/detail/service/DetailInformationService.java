@@ -2,10 +2,13 @@ package com.cjy.contenthub.detail.service;
 
 import java.io.IOException;
 
+import com.cjy.contenthub.common.api.dto.aniist.AniListCharactersDto;
 import com.cjy.contenthub.detail.controller.dto.DetailComicsResponseDto;
 import com.cjy.contenthub.detail.controller.dto.DetailMovieResponseDto;
 import com.cjy.contenthub.detail.controller.dto.DetailTvResponseDto;
 
+import reactor.core.publisher.Mono;
+
 public interface DetailInformationService {
 	
 	/**
@@ -14,7 +17,7 @@ public interface DetailInformationService {
 	 * @param seriesId TV 시리즈 ID
 	 * @return TV 상세 응답 DTO
 	 */
-	DetailTvResponseDto	getTvDetail(Integer seriesId);
+	Mono<DetailTvResponseDto> getTvDetail(Integer seriesId);
 	
 	/**
 	 * 영화 상세 정보 조회
@@ -22,14 +25,23 @@ public interface DetailInformationService {
 	 * @param movieId 영화 ID
 	 * @return 영화 상세 응답 DTO
 	 */
-	DetailMovieResponseDto getMovieDetail(Integer movieId);
+	Mono<DetailMovieResponseDto> getMovieDetail(Integer movieId);
 	
 	/**
-	 * 만화 상세 정보 조회
+	 * 만화 상세 정보 조회 (캐릭터 리스트 제외)
 	 *
 	 * @param comicsId Comics ID
 	 * @return Comics 상세 응답 DTO
 	 */
-	DetailComicsResponseDto getComicsDetail(Integer comicsId, Integer page) throws IOException;
+	Mono<DetailComicsResponseDto> getComicsDetail(Integer comicsId) throws IOException;
+	
+	/**
+	 * 만화 캐릭터 리스트 조회
+	 *
+	 * @param comicsId Comics ID
+	 * @param page 페이지 번호
+	 * @return 캐릭터 리스트 DTO
+	 */
+	Mono<AniListCharactersDto> getComicsCharacters(Integer comicsId, Integer page) throws IOException;
 
 }
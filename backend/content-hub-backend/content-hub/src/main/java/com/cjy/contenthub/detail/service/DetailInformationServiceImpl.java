@@ -2,6 +2,7 @@ package com.cjy.contenthub.detail.service;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -12,19 +13,25 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.cjy.contenthub.common.api.dto.aniist.AniListCharactersDto;
 import com.cjy.contenthub.common.api.dto.aniist.AniListMediaDto;
 import com.cjy.contenthub.common.api.dto.aniist.AniListResponseDto;
-import com.cjy.contenthub.common.api.dto.tmdb.TmdbMovieDetailsDto;
-import com.cjy.contenthub.common.api.dto.tmdb.TmdbTvDetailsDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbGenreDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbMovieDetailsAppendedDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbTvDetailsAppendedDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbWatchProvidersDto;
 import com.cjy.contenthub.common.constants.CommonConstants;
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
+import com.cjy.contenthub.common.util.CacheRefreshUtil;
 import com.cjy.contenthub.common.util.GraphqlUtil;
+import com.cjy.contenthub.common.util.KeywordIndexUtil;
 import com.cjy.contenthub.common.util.SessionUtil;
 import com.cjy.contenthub.detail.controller.dto.DetailComicsResponseDto;
 import com.cjy.contenthub.detail.controller.dto.DetailMovieResponseDto;
 import com.cjy.contenthub.detail.controller.dto.DetailTvResponseDto;
 import com.cjy.contenthub.detail.mapper.DetailMapper;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
@@ -40,9 +47,18 @@ public class DetailInformationServiceImpl implements DetailInformationService {
 	/** 상세 매퍼 */
 	private final DetailMapper mapper;
 
+	/** 상세 추천 서비스 (추천 작품 캐시 등록용) */
+	private final DetailRecommendationService recommendationService;
+
+	/** 캐시 선행 갱신 공통 클래스 */
+	private final CacheRefreshUtil cacheRefresh;
+
 	/** 공통 세션 유팅 */
 	private final SessionUtil session;
 
+	/** 자동완성 작품명 색인 */
+	private final KeywordIndexUtil keywordIndex;
+
 	/** TMDB API 통신용 WebClient 클래스 */
 	@Qualifier("tmdbWebClient")
 	private final WebClient tmdbWebClient;
@@ -63,14 +79,6 @@ public class DetailInformationServiceImpl implements DetailInformationService {
 	@Value("${tmdb.url.movieDetailPath}")
 	private String movieDetailPath;
 
-	/** TMDB API TV Watch Providers API 패스 */
-	@Value("${tmdb.url.tvWatchProvidersPath}")
-	private String tvWatchProvidersPath;
-
-	/** TMDB API Movie Watch Providers API 패스 */
-	@Value("${tmdb.url.movieWatchProvidersPath}")
-	private String movieWatchProvidersPath;
-
 	/** TMDB API TV 추천 작품 API 패스 */
 	@Value("${tmdb.url.tvRecommendationsPath}")
 	private String tvRecommendationsPath;
@@ -128,132 +136,166 @@ public class DetailInformationServiceImpl implements DetailInformationService {
 	/** 종합 크레딧 : aggregate credits */
 	private static final String AGGREGATE_CREDITS = "aggregate_credits";
 
+	/** 시청 제공자 : watch/providers */
+	private static final String WATCH_PROVIDERS = "watch/providers";
+
+	/** 추천 작품 : recommendations */
+	private static final String RECOMMENDATIONS = "recommendations";
+
+	/** 비슷한 작품 : similar */
+	private static final String SIMILAR = "similar";
+
 	/** 첫번째 페이지 번호 */
 	private static final int FIRST_PAGE_NO = 1;
 
+	/**
+	 * 장르 리스트에서 장르 ID 리스트 추출
+	 * 
+	 * @param genres 장르 리스트
+	 * @return 장르 ID 리스트
+	 */
+	private List<Integer> getGenreIds(List<TmdbGenreDto> genres) {
+		return Optional.ofNullable(genres).orElse(List.of()).stream()
+				.map(TmdbGenreDto::getId)
+				.toList();
+	}
+
+	/**
+	 * 상세 캐시의 선행 갱신 처리 등록
+	 * 캐시 프록시를 거치지 않도록 자신의 메소드를 직접 호출
+	 * 만화 캐시는 키의 성인물 포함 여부로 재조회 (성인물은 성인물 포함 조건으로만 조회 가능)
+	 */
+	@PostConstruct
+	public void registerCacheReloaders() {
+		cacheRefresh.register("tvDetailCache", key -> getTvDetail((Integer) key));
+		cacheRefresh.register("movieDetailCache", key -> getMovieDetail((Integer) key));
+		cacheRefresh.register("comicsDetailCache", 1, key ->
+		getComicsDetail(CacheRefreshUtil.keyPart(key, 0)));
+		cacheRefresh.register("comicsCharactersCache", 2, key ->
+		getComicsCharacters(CacheRefreshUtil.keyPart(key, 0), CacheRefreshUtil.keyPart(key, 1)));
+	}
+
 	/**
 	 * TMDB TV 상세 조회
+	 * 상세, 종합 크레딧, 시청 제공자, 추천/비슷한 작품(1페이지)을 append_to_response로 한 번에 조회하고,
+	 * 추천 작품(없는 경우 비슷한 작품)은 추천 작품 캐시에 등록 (상세 화면 표시시 업스트림 호출 1회)
 	 * 
 	 * @param seriesId TV 시리즈 ID
-	 * @param originalMediaType 원본 미디어 타입
 	 * @return TV 상세 응답 DTO
 	 */
 	@Override
 	@Cacheable(value = "tvDetailCache", key = "#seriesId", unless = "#result == null")
-	public DetailTvResponseDto getTvDetail(Integer seriesId) {
+	public Mono<DetailTvResponseDto> getTvDetail(Integer seriesId) {
 
 		// TMDB TV 상세 조회
-		Mono<TmdbTvDetailsDto> detailMono = tmdbWebClient.get()
+		return tmdbWebClient.get()
 				.uri(builder -> builder
 						.path(String.format(tvDetailPath, seriesId))
 						.queryParam(PARAM_TV_SERIES_ID, seriesId)
-						.queryParam(PARAM_APPEND_TO_RESPONSE, AGGREGATE_CREDITS)
+						.queryParam(PARAM_APPEND_TO_RESPONSE, String.join(CommonConstants.COMMA,
+								AGGREGATE_CREDITS, WATCH_PROVIDERS, RECOMMENDATIONS, SIMILAR))
 						.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
 						.build())
 				.retrieve()
-				.bodyToMono(TmdbTvDetailsDto.class);
-		// TMDB 시청 제공자 조회
-		Mono<TmdbWatchProvidersDto> watchProvidersMono = tmdbWebClient.get()
-				.uri(builder -> builder
-						.path(String.format(tvWatchProvidersPath, seriesId))
-						.queryParam(PARAM_TV_SERIES_ID, seriesId)
-						.build())
-				.retrieve()
-				.bodyToMono(TmdbWatchProvidersDto.class);
-
-		// TV 상세 조회 결과와 시청 제공자 조회 결과를 병합하여 반환
-		return Mono.zip(detailMono, watchProvidersMono).map(tuple -> {
-			// TMDB TV 상세 DTO
-			TmdbTvDetailsDto detailResponse = tuple.getT1();
-			// TMDB 시청 제공자 DTO
-			TmdbWatchProvidersDto watchProvidersResponse = tuple.getT2();
-			// 시청 제공자 링크 취득
-			String link = Optional.ofNullable(watchProvidersResponse.getResults())
-					.map(results -> results.getKr())
-					.map(getKr -> getKr.getLink())
-					.orElse(null);
-
-			// 반환값 설정
-			// TMDB TV 상세 DTO를 응답 DTO로 변환
-			DetailTvResponseDto response = mapper.detailTvToDetailTvResponse(detailResponse);
-			response.setLink(link);
-
-			// 응답 DTO 반환
-			return response;
-		}).block();
+				.bodyToMono(TmdbTvDetailsAppendedDto.class)
+				.flatMap(detailResponse -> {
+
+					// 작품명을 자동완성 색인에 등록
+					keywordIndex.add(detailResponse.getName(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue(),
+							getGenreIds(detailResponse.getGenres()), detailResponse.getPopularity(), detailResponse.isAdult());
+
+					// 반환값 설정
+					// TMDB TV 상세 DTO를 응답 DTO로 변환
+					DetailTvResponseDto response = mapper.detailTvToDetailTvResponse(detailResponse);
+					response.setLink(getWatchLink(detailResponse.getWatchProviders()));
+
+					// 추천 작품이 존재하지 않는 경우, 비슷한 작품을 추천 작품 캐시에 등록
+					return Optional.ofNullable(detailResponse.getRecommendations())
+							.filter(recommendations -> recommendations.getTotalResults() > 0)
+							.or(() -> Optional.ofNullable(detailResponse.getSimilar()))
+							.map(recommendations -> recommendationService
+									.putTvRecommendations(seriesId, FIRST_PAGE_NO, recommendations)
+									.thenReturn(response))
+							.orElseGet(() -> Mono.just(response));
+				});
 	}
 
 	/**
 	 * TMDB 영화 상세 조회
+	 * 상세, 크레딧, 시청 제공자, 추천/비슷한 작품(1페이지)을 append_to_response로 한 번에 조회하고,
+	 * 추천 작품(없는 경우 비슷한 작품)은 추천 작품 캐시에 등록 (상세 화면 표시시 업스트림 호출 1회)
 	 * 
 	 * @param movieId 영화 ID
-	 * @param originalMediaType 원본 미디어 타입
-	 * @return ResponseEntity<DetailMovieResponseDto> 영화 상세 응답 DTO
+	 * @return 영화 상세 응답 DTO
 	 */
 	@Override
 	@Cacheable(value = "movieDetailCache", key = "#movieId", unless = "#result == null")
-	public DetailMovieResponseDto getMovieDetail(Integer movieId) {
+	public Mono<DetailMovieResponseDto> getMovieDetail(Integer movieId) {
 
 		// TMDB 영화 상세 조회
-		Mono<TmdbMovieDetailsDto> detailMono = tmdbWebClient.get()
+		return tmdbWebClient.get()
 				.uri(builder -> builder
 						.path(String.format(movieDetailPath, movieId))
 						.queryParam(PARAM_MOVIE_ID, movieId)
-						.queryParam(PARAM_APPEND_TO_RESPONSE, CREDITS)
+						.queryParam(PARAM_APPEND_TO_RESPONSE, String.join(CommonConstants.COMMA,
+								CREDITS, WATCH_PROVIDERS, RECOMMENDATIONS, SIMILAR))
 						.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
 						.build())
 				.retrieve()
-				.bodyToMono(TmdbMovieDetailsDto.class);
+				.bodyToMono(TmdbMovieDetailsAppendedDto.class)
+				.flatMap(detailResponse -> {
+
+					// 작품명을 자동완성 색인에 등록
+					keywordIndex.add(detailResponse.getTitle(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue(),
+							getGenreIds(detailResponse.getGenres()), detailResponse.getPopularity(), detailResponse.isAdult());
+
+					// 반환값 설정
+					// TMDB 영화 상세 DTO를 응답 DTO로 변환
+					DetailMovieResponseDto response = mapper.detailMovieToDetailMovieResponse(detailResponse);
+					response.setLink(getWatchLink(detailResponse.getWatchProviders()));
+
+					// 추천 작품이 존재하지 않는 경우, 비슷한 작품을 추천 작품 캐시에 등록
+					return Optional.ofNullable(detailResponse.getRecommendations())
+							.filter(recommendations -> recommendations.getTotalResults() > 0)
+							.or(() -> Optional.ofNullable(detailResponse.getSimilar()))
+							.map(recommendations -> recommendationService
+									.putMovieRecommendations(movieId, FIRST_PAGE_NO, recommendations)
+									.thenReturn(response))
+							.orElseGet(() -> Mono.just(response));
+				});
+	}
 
-		// TMDB 시청 제공자 취득
-		Mono<TmdbWatchProvidersDto> watchProvidersMono = tmdbWebClient.get()
-				.uri(builder -> builder
-						.path(String.format(movieWatchProvidersPath, movieId))
-						.queryParam(PARAM_TV_SERIES_ID, movieId)
-						.build())
-				.retrieve()
-				.bodyToMono(TmdbWatchProvidersDto.class);
-
-		// 영화 상세 조회 결과와 시청 제공자 조회 결과를 병합하여 반환 
-		return Mono.zip(detailMono, watchProvidersMono).map(tuple -> {
-			// TMDB 영화 상세 DTO
-			TmdbMovieDetailsDto detailResponse = tuple.getT1();
-			// TMDB 시청 제공자 DTO
-			TmdbWatchProvidersDto watchProvidersResponse = tuple.getT2();
-			// 시청 제공자 링크 취득
-			String link = Optional.ofNullable(watchProvidersResponse.getResults())
-					.map(results -> results.getKr())
-					.map(getKr -> getKr.getLink())
-					.orElse(null);
-			// 반환값 설정
-			// TMDB 영화 상세 DTO를 응답 DTO로 변환
-			DetailMovieResponseDto respoonse = mapper.detailMovieToDetailMovieResponse(detailResponse);
-			respoonse.setLink(link);
-
-			// 응답 DTO 반환
-			return respoonse;
-		}).block();
+	/**
+	 * 시청 제공자 정보에서 한국 시청 링크 취득
+	 * 
+	 * @param watchProviders 시청 제공자 DTO
+	 * @return 시청 링크 (없는 경우 null)
+	 */
+	private String getWatchLink(TmdbWatchProvidersDto watchProviders) {
+		return Optional.ofNullable(watchProviders)
+				.map(TmdbWatchProvidersDto::getResults)
+				.map(results -> results.getKr())
+				.map(getKr -> getKr.getLink())
+				.orElse(null);
 	}
 
 	/**
 	 * AniList Comics 상세 조회
+	 * 캐릭터 리스트는 포함하지 않으며, 작품별로 1회만 조회하여 캐시 (캐릭터 리스트는 getComicsCharacters로 페이지별 조회)
 	 * 
 	 * @param comicsId Comics ID
-	 * @param page 페이지 번호
 	 * @return Comics 상세 응답 DTO
 	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
 	 */
 	@Override
-	@Cacheable(value = "comicsDetailCache", key = "#comicsId + '-' + #page", unless = "#result == null")
-	public DetailComicsResponseDto getComicsDetail(Integer comicsId, Integer page) throws IOException {
+	@Cacheable(value = "comicsDetailCache", key = "#comicsId + '-' + @sessionUtil.isAdult()", unless = "#result == null")
+	public Mono<DetailComicsResponseDto> getComicsDetail(Integer comicsId) throws IOException {
 
 		// GraphQL 쿼리 파일 불러오기
 		String query = GraphqlUtil.loadQuery("comics.graphql");
 		// 리퀘스트 파라미터 작성
 		Map<String, Object> variables = new HashMap<>(Map.of(
-				PARAM_MEDIA_ID, comicsId,
-				PARAM_PAGE, Optional.ofNullable(page).orElse(FIRST_PAGE_NO),
-				PARAM_PER_PAGE, anilistPerCharacterPage
+				PARAM_MEDIA_ID, comicsId
 				));
 		// 성인물 포함 플래그
 		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
@@ -266,6 +308,7 @@ public class DetailInformationServiceImpl implements DetailInformationService {
 
 		// AniList API 조회
 		return anilistWebClient.post()
+				.attribute(CommonConstants.WEBCLIENT_COALESCING_KEY, requestBody) // 동일 요청 병합 키
 				.bodyValue(requestBody)
 				.retrieve()
 				.bodyToMono(AniListResponseDto.class)
@@ -292,12 +335,50 @@ public class DetailInformationServiceImpl implements DetailInformationService {
 							.title(media.getTitle().getUserPreferred())
 							.backdropPath(media.getCoverImage().getLarge())
 							.posterPath(media.getCoverImage().getExtraLarge())
-							.characters(media.getCharacters())
 							.startDate(startDate)
 							.build();
 
 					// 응답 DTO 반환
 					return comicsResponse;
-				}).block();
+				});
+	}
+
+	/**
+	 * AniList Comics 캐릭터 리스트 조회
+	 * 작품 상세 정보 없이 캐릭터 노드만 페이지별로 조회하여 캐시
+	 * 
+	 * @param comicsId Comics ID
+	 * @param page 페이지 번호
+	 * @return 캐릭터 리스트 DTO
+	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
+	 */
+	@Override
+	@Cacheable(value = "comicsCharactersCache", key = "#comicsId + '-' + #page + '-' + @sessionUtil.isAdult()", unless = "#result == null")
+	public Mono<AniListCharactersDto> getComicsCharacters(Integer comicsId, Integer page) throws IOException {
+
+		// GraphQL 쿼리 파일 불러오기
+		String query = GraphqlUtil.loadQuery("comicsCharacters.graphql");
+		// 리퀘스트 파라미터 작성
+		Map<String, Object> variables = new HashMap<>(Map.of(
+				PARAM_MEDIA_ID, comicsId,
+				PARAM_PAGE, Optional.ofNullable(page).orElse(FIRST_PAGE_NO),
+				PARAM_PER_PAGE, anilistPerCharacterPage
+				));
+		// 성인물 포함 플래그
+		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
+		// 성인물 플래그가 false인 경우, 파라미터 추가
+		if (!isAdult) {
+			variables.put(PARAM_IS_ADULT, isAdult);
+		}
+		// 쿼리에 리퀘스트 파라미터 적용하여 문자열 생성
+		String requestBody = GraphqlUtil.buildRequestBody(query, variables);
+
+		// AniList API 조회
+		return anilistWebClient.post()
+				.attribute(CommonConstants.WEBCLIENT_COALESCING_KEY, requestBody) // 동일 요청 병합 키
+				.bodyValue(requestBody)
+				.retrieve()
+				.bodyToMono(AniListResponseDto.class)
+				.map(response -> response.getData().getMedia().getCharacters());
 	}
 }
@@ -0,0 +1,52 @@
+package com.cjy.contenthub.detail.service;
+
+import java.io.IOException;
+
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsMovieDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsTvDto;
+import com.cjy.contenthub.detail.controller.dto.DetailComicsRecommendationsResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailComicsResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailMovieResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailPageResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailTvResponseDto;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 상세 화면 일괄 조회 서비스 인터페이스
+ */
+public interface DetailPageService {
+
+	/**
+	 * TV 상세 화면 일괄 조회
+	 *
+	 * @param seriesId TV 시리즈 ID
+	 * @param originalMediaType 원본 미디어 타입 (애니/드라마)
+	 * @param userId 유저 ID
+	 * @return TV 상세 화면 일괄 응답 DTO
+	 */
+	Mono<DetailPageResponseDto<DetailTvResponseDto, TmdbRecommendationsTvDto>> getTvPage(Integer seriesId,
+			String originalMediaType, String userId);
+
+	/**
+	 * 영화 상세 화면 일괄 조회
+	 *
+	 * @param movieId 영화 ID
+	 * @param userId 유저 ID
+	 * @return 영화 상세 화면 일괄 응답 DTO
+	 */
+	Mono<DetailPageResponseDto<DetailMovieResponseDto, TmdbRecommendationsMovieDto>> getMoviePage(Integer movieId,
+			String userId);
+
+	/**
+	 * 만화 상세 화면 일괄 조회
+	 *
+	 * @param comicsId 만화 ID
+	 * @param userId 유저 ID
+	 * @return 만화 상세 화면 일괄 응답 DTO
+	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
+	 */
+	Mono<DetailPageResponseDto<DetailComicsResponseDto, DetailComicsRecommendationsResponseDto>> getComicsPage(
+			Integer comicsId, String userId) throws IOException;
+
+}
@@ -0,0 +1,268 @@
+package com.cjy.contenthub.detail.service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cjy.contenthub.common.api.dto.aniist.AniListCharactersDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsMovieDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsTvDto;
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
+import com.cjy.contenthub.detail.controller.dto.DetailComicsRecommendationsResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailComicsResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailCommentGetResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailMovieResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailPageResponseDto;
+import com.cjy.contenthub.detail.controller.dto.DetailTvResponseDto;
+import com.cjy.contenthub.detail.mapper.DetailMapper;
+import com.cjy.contenthub.detail.service.dto.DetailCommentServiceDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 상세 화면 일괄 조회 서비스 구현 클래스
+ * 상세 정보, 추천 작품(1페이지), 코멘트 목록(1페이지), 별점 평균을 서버에서 동시에 조회하여 하나의 응답으로 병합
+ * 각 섹션은 기존 서비스 메소드(프록시 경유)를 호출하므로 섹션별 캐시가 그대로 적용되며
+ * (코멘트 목록/별점 평균은 DB 조회 결과를 캐시하고, 코멘트 등록/갱신/삭제시 캐시 삭제),
+ * 상세 정보 이외의 섹션은 실패/타임아웃시 생략하여 응답 (화면 전체 응답 시간은 가장 느린 섹션에 맞춰짐)
+ *
+ * @see DetailPageService
+ */
+@Service
+@Slf4j
+public class DetailPageServiceImpl implements DetailPageService {
+
+	/** 섹션 이름 : 추천 작품 */
+	private static final String SECTION_RECOMMENDATIONS = "recommendations";
+
+	/** 섹션 이름 : 코멘트 목록 */
+	private static final String SECTION_COMMENTS = "comments";
+
+	/** 섹션 이름 : 캐릭터 리스트 */
+	private static final String SECTION_CHARACTERS = "characters";
+
+	/** 섹션 이름 : 별점 평균 */
+	private static final String SECTION_STAR_RATING = "starRatingAverage";
+
+	/** 메트릭 이름 : 생략된 섹션 건수 */
+	private static final String METRIC_DEGRADED = "detail.page.degraded";
+
+	/** 메트릭 태그 : 섹션 */
+	private static final String TAG_SECTION = "section";
+
+	/** 첫번째 페이지 번호 */
+	private static final int FIRST_PAGE_NO = 1;
+
+	/** 상세 정보 서비스 */
+	private final DetailInformationService informationService;
+
+	/** 상세 추천 서비스 */
+	private final DetailRecommendationService recommendationService;
+
+	/** 코멘트 서비스 */
+	private final DetailCommentService commentService;
+
+	/** 상세 매퍼 */
+	private final DetailMapper mapper;
+
+	/** 메트릭 레지스트리 */
+	private final MeterRegistry meterRegistry;
+
+	/** 섹션별 응답 대기 시간 */
+	private final Duration sectionTimeout;
+
+	/**
+	 * 생성자
+	 *
+	 * @param informationService 상세 정보 서비스
+	 * @param recommendationService 상세 추천 서비스
+	 * @param commentService 코멘트 서비스
+	 * @param mapper 상세 매퍼
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @param sectionTimeoutMillis 섹션별 응답 대기 시간(밀리초)
+	 */
+	public DetailPageServiceImpl(DetailInformationService informationService,
+			DetailRecommendationService recommendationService, DetailCommentService commentService,
+			DetailMapper mapper, MeterRegistry meterRegistry,
+			@Value("${app.detailPage.sectionTimeoutMillis}") long sectionTimeoutMillis) {
+		this.informationService = informationService;
+		this.recommendationService = recommendationService;
+		this.commentService = commentService;
+		this.mapper = mapper;
+		this.meterRegistry = meterRegistry;
+		this.sectionTimeout = Duration.ofMillis(sectionTimeoutMillis);
+	}
+
+	/**
+	 * TV 상세 화면 일괄 조회
+	 *
+	 * @param seriesId TV 시리즈 ID
+	 * @param originalMediaType 원본 미디어 타입 (애니/드라마)
+	 * @param userId 유저 ID
+	 * @return TV 상세 화면 일괄 응답 DTO
+	 */
+	@Override
+	public Mono<DetailPageResponseDto<DetailTvResponseDto, TmdbRecommendationsTvDto>> getTvPage(Integer seriesId,
+			String originalMediaType, String userId) {
+		// 추천 작품은 상세 조회에서 캐시에 등록되므로, 상세 조회 완료 후 캐시에서 취득
+		// (섹션 응답 대기 시간에 상세 조회 시간이 포함되지 않도록 상세 조회 완료 후 섹션 조회 시작)
+		Mono<DetailTvResponseDto> detailMono = informationService.getTvDetail(seriesId).cache();
+		return assemble(
+				detailMono,
+				detailMono.then(Mono.defer(() -> section(SECTION_RECOMMENDATIONS,
+						recommendationService.getTvRecommendations(seriesId, FIRST_PAGE_NO)))),
+				originalMediaType, String.valueOf(seriesId), userId);
+	}
+
+	/**
+	 * 영화 상세 화면 일괄 조회
+	 *
+	 * @param movieId 영화 ID
+	 * @param userId 유저 ID
+	 * @return 영화 상세 화면 일괄 응답 DTO
+	 */
+	@Override
+	public Mono<DetailPageResponseDto<DetailMovieResponseDto, TmdbRecommendationsMovieDto>> getMoviePage(Integer movieId,
+			String userId) {
+		// 추천 작품은 상세 조회에서 캐시에 등록되므로, 상세 조회 완료 후 캐시에서 취득
+		// (섹션 응답 대기 시간에 상세 조회 시간이 포함되지 않도록 상세 조회 완료 후 섹션 조회 시작)
+		Mono<DetailMovieResponseDto> detailMono = informationService.getMovieDetail(movieId).cache();
+		return assemble(
+				detailMono,
+				detailMono.then(Mono.defer(() -> section(SECTION_RECOMMENDATIONS,
+						recommendationService.getMovieRecommendations(movieId, FIRST_PAGE_NO)))),
+				CommonMediaTypeEnum.MEDIA_TYPE_MOVIE.getMediaTypeCode(), String.valueOf(movieId), userId);
+	}
+
+	/**
+	 * 만화 상세 화면 일괄 조회
+	 *
+	 * @param comicsId 만화 ID
+	 * @param userId 유저 ID
+	 * @return 만화 상세 화면 일괄 응답 DTO
+	 * @throws IOException 쿼리 파일 로딩 중 발생하는 예외
+	 */
+	@Override
+	public Mono<DetailPageResponseDto<DetailComicsResponseDto, DetailComicsRecommendationsResponseDto>> getComicsPage(
+			Integer comicsId, String userId) throws IOException {
+		Mono<DetailPageResponseDto<DetailComicsResponseDto, DetailComicsRecommendationsResponseDto>> pageMono = assemble(
+				informationService.getComicsDetail(comicsId),
+				section(SECTION_RECOMMENDATIONS, recommendationService.getComicsRecommendations(comicsId, FIRST_PAGE_NO)),
+				CommonMediaTypeEnum.MEDIA_TYPE_COMICS.getMediaTypeCode(), String.valueOf(comicsId), userId);
+		// 캐릭터 리스트는 다른 섹션과 동시에 조회하고, 실패/타임아웃시 캐릭터 없이 상세 정보에 병합
+		return Mono.zip(pageMono, section(SECTION_CHARACTERS, informationService.getComicsCharacters(comicsId, FIRST_PAGE_NO)))
+				.map(tuple -> {
+					DetailPageResponseDto<DetailComicsResponseDto, DetailComicsRecommendationsResponseDto> response = tuple.getT1();
+					Section<AniListCharactersDto> characters = tuple.getT2();
+					response.setDetail(mapper.comicsDetailWithCharacters(response.getDetail(), characters.value()));
+					if (characters.degraded()) {
+						response.getDegradedSections().add(characters.name());
+					}
+					return response;
+				});
+	}
+
+	/**
+	 * 상세 화면 섹션 동시 조회 및 병합
+	 * 업스트림 API 섹션(상세, 추천)과 DB 섹션(코멘트, 별점)을 동시에 구독
+	 * DB 섹션은 캐시 미스시 블로킹 호출이므로 boundedElastic 스케줄러에서 실행
+	 * 상세 정보의 실패는 그대로 전파하고, 그 외 섹션의 실패는 생략하여 응답
+	 *
+	 * @param <D> 상세 정보 DTO 타입
+	 * @param <R> 추천 작품 DTO 타입
+	 * @param detailMono 상세 정보 Mono
+	 * @param recommendationsSection 추천 작품 섹션 Mono (섹션 변환 완료)
+	 * @param originalMediaType 원본 미디어 타입
+	 * @param apiId API ID
+	 * @param userId 유저 ID
+	 * @return 상세 화면 일괄 응답 DTO
+	 */
+	private <D, R> Mono<DetailPageResponseDto<D, R>> assemble(Mono<D> detailMono, Mono<Section<R>> recommendationsSection,
+			String originalMediaType, String apiId, String userId) {
+
+		// 코멘트 목록 (1페이지)
+		Mono<DetailCommentGetResponseDto> commentsMono = Mono
+				.fromCallable(() -> commentService.getCommentList(originalMediaType, apiId, null, userId))
+				.subscribeOn(Schedulers.boundedElastic())
+				.map(this::toCommentResponse);
+		// 별점 평균
+		Mono<BigDecimal> starRatingMono = Mono
+				.fromCallable(() -> commentService.getStarRatingAverage(originalMediaType, apiId))
+				.subscribeOn(Schedulers.boundedElastic());
+
+		return Mono.zip(
+				detailMono,
+				recommendationsSection,
+				section(SECTION_COMMENTS, commentsMono),
+				section(SECTION_STAR_RATING, starRatingMono))
+				.map(tuple -> {
+					DetailPageResponseDto<D, R> response = new DetailPageResponseDto<>();
+					response.setDetail(tuple.getT1());
+					response.setRecommendations(tuple.getT2().value());
+					response.setComments(tuple.getT3().value());
+					response.setStarRatingAverage(tuple.getT4().value());
+					// 생략된 섹션 이름 설정
+					List<String> degradedSections = new ArrayList<>();
+					Stream.of(tuple.getT2(), tuple.getT3(), tuple.getT4())
+					.filter(Section::degraded)
+					.forEach(section -> degradedSections.add(section.name()));
+					response.setDegradedSections(degradedSections);
+					return response;
+				});
+	}
+
+	/**
+	 * 섹션 조회 결과를 실패 허용 결과로 변환
+	 * 응답 대기 시간 초과 또는 에러 발생시 값 없이 생략 상태로 변환하고, 로그 출력 및 메트릭 집계
+	 *
+	 * @param <T> 섹션 값 타입
+	 * @param name 섹션 이름
+	 * @param source 섹션 조회 Mono
+	 * @return 섹션 결과 Mono (에러를 발행하지 않음)
+	 */
+	private <T> Mono<Section<T>> section(String name, Mono<T> source) {
+		return source
+				.timeout(sectionTimeout)
+				.map(value -> new Section<>(name, value, false))
+				.defaultIfEmpty(new Section<>(name, null, false))
+				.onErrorResume(e -> {
+					log.warn("Detail page section '{}' degraded: {}", name, e.toString());
+					Counter.builder(METRIC_DEGRADED).tag(TAG_SECTION, name).register(meterRegistry).increment();
+					return Mono.just(new Section<>(name, null, true));
+				});
+	}
+
+	/**
+	 * 코멘트 서비스 DTO를 코멘트 응답 DTO로 변환
+	 *
+	 * @param serviceResult 상세 코멘트 서비스 DTO
+	 * @return 상세 코멘트 응답 DTO
+	 */
+	private DetailCommentGetResponseDto toCommentResponse(DetailCommentServiceDto serviceResult) {
+		DetailCommentGetResponseDto response = new DetailCommentGetResponseDto();
+		response.setResponseList(mapper.commentServiceDtoListToCommentGetResponseDtoList(serviceResult.getDataList()));
+		response.setTotalElements(serviceResult.getTotalElements());
+		return response;
+	}
+
+	/**
+	 * 섹션 조회 결과
+	 *
+	 * @param <T> 섹션 값 타입
+	 * @param name 섹션 이름
+	 * @param value 섹션 값 (생략된 경우 null)
+	 * @param degraded 생략 여부
+	 */
+	private record Section<T>(String name, T value, boolean degraded) {
+	}
+}
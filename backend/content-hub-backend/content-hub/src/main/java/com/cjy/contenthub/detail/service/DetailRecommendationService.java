@@ -6,6 +6,8 @@ import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsMovieDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsTvDto;
 import com.cjy.contenthub.detail.controller.dto.DetailComicsRecommendationsResponseDto;
 
+import reactor.core.publisher.Mono;
+
 /**
  * 상세 정보 추천 서비스 인터페이스
  */
@@ -18,7 +20,7 @@ public interface DetailRecommendationService {
 	 * @param page     페이지 번호
 	 * @return 추천 TV 시리즈 정보
 	 */
-	TmdbRecommendationsTvDto getTvRecommendations(Integer seriesId, Integer page);
+	Mono<TmdbRecommendationsTvDto> getTvRecommendations(Integer seriesId, Integer page);
 	
 	/**
 	 * 영화 추천 정보 조회
@@ -27,7 +29,29 @@ public interface DetailRecommendationService {
 	 * @param page    페이지 번호
 	 * @return 추천 영화 정보
 	 */
-	TmdbRecommendationsMovieDto getMovieRecommendations(Integer movieId, Integer page);
+	Mono<TmdbRecommendationsMovieDto> getMovieRecommendations(Integer movieId, Integer page);
+	
+	/**
+	 * TV 시리즈 추천 정보 캐시 등록
+	 * 상세 조회에 포함된 추천 작품을 추천 정보 조회와 같은 캐시 키로 등록
+	 *
+	 * @param seriesId TV 시리즈 ID
+	 * @param page     페이지 번호
+	 * @param recommendations 추천 TV 시리즈 정보
+	 * @return 등록된 추천 TV 시리즈 정보
+	 */
+	Mono<TmdbRecommendationsTvDto> putTvRecommendations(Integer seriesId, Integer page, TmdbRecommendationsTvDto recommendations);
+	
+	/**
+	 * 영화 추천 정보 캐시 등록
+	 * 상세 조회에 포함된 추천 작품을 추천 정보 조회와 같은 캐시 키로 등록
+	 *
+	 * @param movieId 영화 ID
+	 * @param page    페이지 번호
+	 * @param recommendations 추천 영화 정보
+	 * @return 등록된 추천 영화 정보
+	 */
+	Mono<TmdbRecommendationsMovieDto> putMovieRecommendations(Integer movieId, Integer page, TmdbRecommendationsMovieDto recommendations);
 	
 	/**
 	 * 만화 추천 정보 조회
@@ -36,6 +60,6 @@ public interface DetailRecommendationService {
 	 * @param page     페이지 번호
 	 * @return 추천 만화 정보
 	 */
-	DetailComicsRecommendationsResponseDto getComicsRecommendations(Integer comicsId, Integer page) throws IOException;
+	Mono<DetailComicsRecommendationsResponseDto> getComicsRecommendations(Integer comicsId, Integer page) throws IOException;
 
 }
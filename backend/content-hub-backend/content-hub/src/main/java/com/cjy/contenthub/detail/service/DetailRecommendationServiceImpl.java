@@ -10,24 +10,33 @@ import java.util.Optional;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import com.cjy.contenthub.common.api.dto.aniist.AniListMediaDto;
 import com.cjy.contenthub.common.api.dto.aniist.AniListResponseDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsMovieDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsMovieResultsDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsTvDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbRecommendationsTvResultsDto;
 import com.cjy.contenthub.common.constants.CommonConstants;
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
+import com.cjy.contenthub.common.util.CacheRefreshUtil;
 import com.cjy.contenthub.common.util.GraphqlUtil;
+import com.cjy.contenthub.common.util.KeywordIndexUtil;
 import com.cjy.contenthub.common.util.SessionUtil;
 import com.cjy.contenthub.detail.controller.dto.DetailComicsRecommendationsResponseDto;
 import com.cjy.contenthub.detail.controller.dto.DetailComicsRecommendationsResultDto;
+import com.cjy.contenthub.detail.helper.DetailRecommendationFallbackHelper;
 import com.cjy.contenthub.detail.helper.DetailRecoommendationHelper;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
@@ -46,6 +55,15 @@ public class DetailRecommendationServiceImpl implements DetailRecommendationServ
 	/** 상세 헬퍼 */
 	private final DetailRecoommendationHelper helper;
 
+	/** TMDB 추천 작품 대체 경로 헬퍼 */
+	private final DetailRecommendationFallbackHelper fallbackHelper;
+
+	/** 자동완성 작품명 색인 */
+	private final KeywordIndexUtil keywordIndex;
+
+	/** 캐시 선행 갱신 공통 클래스 */
+	private final CacheRefreshUtil cacheRefresh;
+
 	/** TMDB API 통신용 WebClient 클래스 */
 	@Qualifier("tmdbWebClient")
 	private final WebClient tmdbWebClient;
@@ -117,6 +135,47 @@ public class DetailRecommendationServiceImpl implements DetailRecommendationServ
 	/** AniList API Error */
 	private static final String ANILIST_API_ERROR_MSG = "AniList API Error";
 
+	/**
+	 * TV 추천 작품을 자동완성 색인에 등록
+	 * 
+	 * @param results TV 추천 작품 리스트
+	 */
+	private void indexTvResults(List<TmdbRecommendationsTvResultsDto> results) {
+		if (CollectionUtils.isEmpty(results)) {
+			return;
+		}
+		results.forEach(e -> keywordIndex.add(e.getName(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue(),
+				e.getGenreIds(), e.getPopularity(), e.isAdult()));
+	}
+
+	/**
+	 * 영화 추천 작품을 자동완성 색인에 등록
+	 * 
+	 * @param results 영화 추천 작품 리스트
+	 */
+	private void indexMovieResults(List<TmdbRecommendationsMovieResultsDto> results) {
+		if (CollectionUtils.isEmpty(results)) {
+			return;
+		}
+		results.forEach(e -> keywordIndex.add(e.getTitle(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue(),
+				e.getGenreIds(), e.getPopularity(), e.isAdult()));
+	}
+
+	/**
+	 * 추천 작품 캐시의 선행 갱신 처리 등록
+	 * 캐시 프록시를 거치지 않도록 자신의 메소드를 직접 호출
+	 * 만화 추천 작품 캐시는 키의 성인물 포함 여부로 재조회
+	 */
+	@PostConstruct
+	public void registerCacheReloaders() {
+		cacheRefresh.register("tmdbTvRecommendations", key ->
+		getTvRecommendations(CacheRefreshUtil.keyPart(key, 0), CacheRefreshUtil.keyPart(key, 1)));
+		cacheRefresh.register("tmdbMovieRecommendations", key ->
+		getMovieRecommendations(CacheRefreshUtil.keyPart(key, 0), CacheRefreshUtil.keyPart(key, 1)));
+		cacheRefresh.register("anilistComicsRecommendations", 2, key ->
+		getComicsRecommendations(CacheRefreshUtil.keyPart(key, 0), CacheRefreshUtil.keyPart(key, 1)));
+	}
+
 	/**
 	 * TMDB TV 추천 작품 조회 API
 	 * 
@@ -126,55 +185,69 @@ public class DetailRecommendationServiceImpl implements DetailRecommendationServ
 	 */
 	@Override
 	@Cacheable(value = "tmdbTvRecommendations", key = "#seriesId + '-' + #page", unless = "#result == null")
-	public TmdbRecommendationsTvDto getTvRecommendations(Integer seriesId, Integer page) {
+	public Mono<TmdbRecommendationsTvDto> getTvRecommendations(Integer seriesId, Integer page) {
 
-		// TMDB TV 추천 작품 조회
-		return tmdbWebClient.get()
+		// TMDB TV 추천 작품 조회 (한국어 → 404인 경우 영어, 응답 지연/결과 없음의 경우 비슷한 작품을 병렬 조회)
+		return fallbackHelper.fetch(CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue(), seriesId,
+				// 추천 작품 (한국어) : 404는 대체 경로 판정을 위해 그대로 전달
+				() -> tmdbWebClient.get()
 				.uri(helper.getTVRecommendationUri(seriesId, page, LANGUAGE_KOREAN))
 				.retrieve()
 				.bodyToMono(TmdbRecommendationsTvDto.class)
 				.onErrorResume(WebClientResponseException.class, ex -> {
-					// 404의 경우 재시도
 					if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
 						// 로그 출력
 						log.warn("TMDB TV Recommendations not found then retry for seriesId: {}", seriesId);
-						// 영어로 재시도
-						return tmdbWebClient.get()
-								.uri(helper.getTVRecommendationUri(seriesId, page, LANGUAGE_ENGLISH))
-								.retrieve()
-								.onStatus(HttpStatusCode::isError, response ->
-								response.bodyToMono(String.class).flatMap(body -> {
-									// 404의 경우는 무시하고 빈 응답 반환
-									if (response.statusCode() == HttpStatus.NOT_FOUND) {
-										log.warn("TMDB TV Recommendations not found for seriesId: {}", seriesId);
-										return Mono.empty(); 
-									}
-									// 나머지는 공통 예외 처리로 보냄
-									return Mono.error(new WebClientResponseException(
-											TMDB_TV_API_ERROR_MSG, response.statusCode().value(), null, null, body.getBytes(), null));
-								}))
-								.bodyToMono(TmdbRecommendationsTvDto.class);
+						return Mono.error(ex);
 					}
 					return Mono.error(new WebClientResponseException(TMDB_TV_API_ERROR_MSG, ex.getStatusCode().value(),
 							null, null, ex.getResponseBodyAsByteArray(), null));
-				})
-				.flatMap(response -> {
-					// 추천 작품이 존재하지 않는 경우, 유사한 작품으로 재시도
-					if (response.getTotalResults() == 0) {
-						return tmdbWebClient.get()
-								.uri(builder -> builder
-										.path(String.format(tvSimilarPath, seriesId))
-										.queryParam(PARAM_TV_SERIES_ID, seriesId)
-										.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
-										.queryParam(PARAM_PAGE, Optional.ofNullable(page).orElse(1))
-										.build())
-								.retrieve()
-								.bodyToMono(TmdbRecommendationsTvDto.class);
-					} else {
-						// 추천 작품이 존재하는 경우, 그대로 응답 반환
-						return Mono.just(response);
+				}),
+				// 추천 작품 (영어)
+				() -> tmdbWebClient.get()
+				.uri(helper.getTVRecommendationUri(seriesId, page, LANGUAGE_ENGLISH))
+				.retrieve()
+				.onStatus(HttpStatusCode::isError, response ->
+				response.bodyToMono(String.class).flatMap(body -> {
+					// 404의 경우는 무시하고 빈 응답 반환
+					if (response.statusCode() == HttpStatus.NOT_FOUND) {
+						log.warn("TMDB TV Recommendations not found for seriesId: {}", seriesId);
+						return Mono.empty(); 
 					}
-				}).block();
+					// 나머지는 공통 예외 처리로 보냄
+					return Mono.error(new WebClientResponseException(
+							TMDB_TV_API_ERROR_MSG, response.statusCode().value(), null, null, body.getBytes(), null));
+				}))
+				.bodyToMono(TmdbRecommendationsTvDto.class),
+				// 비슷한 작품
+				() -> tmdbWebClient.get()
+				.uri(builder -> builder
+						.path(String.format(tvSimilarPath, seriesId))
+						.queryParam(PARAM_TV_SERIES_ID, seriesId)
+						.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
+						.queryParam(PARAM_PAGE, Optional.ofNullable(page).orElse(1))
+						.build())
+				.retrieve()
+				.bodyToMono(TmdbRecommendationsTvDto.class),
+				TmdbRecommendationsTvDto::getTotalResults)
+				.doOnNext(response -> indexTvResults(response.getResults()));
+	}
+
+	/**
+	 * TMDB TV 추천 작품 캐시 등록
+	 * TV 상세 조회(append_to_response)에 포함된 추천 작품을 getTvRecommendations와 같은 캐시 키로 등록
+	 * 
+	 * @param seriesId TV 시리즈 ID
+	 * @param page 페이지 번호
+	 * @param recommendations 추천 작품 응답 DTO
+	 * @return 추천 작품 응답 DTO
+	 */
+	@Override
+	@CachePut(value = "tmdbTvRecommendations", key = "#seriesId + '-' + #page")
+	public Mono<TmdbRecommendationsTvDto> putTvRecommendations(Integer seriesId, Integer page,
+			TmdbRecommendationsTvDto recommendations) {
+		return Mono.just(recommendations)
+				.doOnNext(response -> indexTvResults(response.getResults()));
 	}
 
 	/**
@@ -186,55 +259,69 @@ public class DetailRecommendationServiceImpl implements DetailRecommendationServ
 	 */
 	@Override
 	@Cacheable(value = "tmdbMovieRecommendations", key = "#movieId + '-' + #page", unless = "#result == null")
-	public TmdbRecommendationsMovieDto getMovieRecommendations(Integer movieId, Integer page) {
+	public Mono<TmdbRecommendationsMovieDto> getMovieRecommendations(Integer movieId, Integer page) {
 
-		// TMDB 영화 추천 작품 조회
-		return tmdbWebClient.get()
+		// TMDB 영화 추천 작품 조회 (한국어 → 404인 경우 영어, 응답 지연/결과 없음의 경우 비슷한 작품을 병렬 조회)
+		return fallbackHelper.fetch(CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue(), movieId,
+				// 추천 작품 (한국어) : 404는 대체 경로 판정을 위해 그대로 전달
+				() -> tmdbWebClient.get()
 				.uri(helper.getMovieRecommendationUri(movieId, page, LANGUAGE_KOREAN))
 				.retrieve()
 				.bodyToMono(TmdbRecommendationsMovieDto.class)
 				.onErrorResume(WebClientResponseException.class, ex -> {
-					// 404의 경우 재시도
 					if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
 						// 로그 출력
 						log.warn("TMDB Movie Recommendations not found then retry for movieId: {}", movieId);
-						// 영어로 재시도
-						return tmdbWebClient.get()
-								.uri(helper.getMovieRecommendationUri(movieId, page, LANGUAGE_ENGLISH))
-								.retrieve()
-								.onStatus(HttpStatusCode::isError, response ->
-								response.bodyToMono(String.class).flatMap(body -> {
-									// 404의 경우는 무시하고 빈 응답 반환
-									if (response.statusCode() == HttpStatus.NOT_FOUND) {
-										log.warn("TMDB Movie Recommendations not found for movieId: {}", movieId);
-										return Mono.empty(); 
-									}
-									// 나머지는 공통 예외 처리로 보냄
-									return Mono.error(new WebClientResponseException(
-											TMDB_MOVIE_API_ERROR_MSG, response.statusCode().value(), null, null, body.getBytes(), null));
-								}))
-								.bodyToMono(TmdbRecommendationsMovieDto.class);
+						return Mono.error(ex);
 					}
 					return Mono.error(new WebClientResponseException(TMDB_MOVIE_API_ERROR_MSG, ex.getStatusCode().value(),
 							null, null, ex.getResponseBodyAsByteArray(), null));
-				})
-				.flatMap(response -> {
-					// 추천 작품이 존재하지 않는 경우, 유사한 작품으로 재시도
-					if (response.getTotalResults() == 0) {
-						return tmdbWebClient.get()
-								.uri(builder -> builder
-										.path(String.format(movieSimilarPath, movieId))
-										.queryParam(PARAM_MOVIE_ID, movieId)
-										.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
-										.queryParam(PARAM_PAGE, Optional.ofNullable(page).orElse(1))
-										.build())
-								.retrieve()
-								.bodyToMono(TmdbRecommendationsMovieDto.class);
-					} else {
-						// 추천 작품이 존재하는 경우, 그대로 응답 반환
-						return Mono.just(response);
+				}),
+				// 추천 작품 (영어)
+				() -> tmdbWebClient.get()
+				.uri(helper.getMovieRecommendationUri(movieId, page, LANGUAGE_ENGLISH))
+				.retrieve()
+				.onStatus(HttpStatusCode::isError, response ->
+				response.bodyToMono(String.class).flatMap(body -> {
+					// 404의 경우는 무시하고 빈 응답 반환
+					if (response.statusCode() == HttpStatus.NOT_FOUND) {
+						log.warn("TMDB Movie Recommendations not found for movieId: {}", movieId);
+						return Mono.empty(); 
 					}
-				}).block();
+					// 나머지는 공통 예외 처리로 보냄
+					return Mono.error(new WebClientResponseException(
+							TMDB_MOVIE_API_ERROR_MSG, response.statusCode().value(), null, null, body.getBytes(), null));
+				}))
+				.bodyToMono(TmdbRecommendationsMovieDto.class),
+				// 비슷한 작품
+				() -> tmdbWebClient.get()
+				.uri(builder -> builder
+						.path(String.format(movieSimilarPath, movieId))
+						.queryParam(PARAM_MOVIE_ID, movieId)
+						.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
+						.queryParam(PARAM_PAGE, Optional.ofNullable(page).orElse(1))
+						.build())
+				.retrieve()
+				.bodyToMono(TmdbRecommendationsMovieDto.class),
+				TmdbRecommendationsMovieDto::getTotalResults)
+				.doOnNext(response -> indexMovieResults(response.getResults()));
+	}
+
+	/**
+	 * TMDB 영화 추천 작품 캐시 등록
+	 * 영화 상세 조회(append_to_response)에 포함된 추천 작품을 getMovieRecommendations와 같은 캐시 키로 등록
+	 * 
+	 * @param movieId 영화 ID
+	 * @param page 페이지 번호
+	 * @param recommendations 추천 작품 응답 DTO
+	 * @return 추천 작품 응답 DTO
+	 */
+	@Override
+	@CachePut(value = "tmdbMovieRecommendations", key = "#movieId + '-' + #page")
+	public Mono<TmdbRecommendationsMovieDto> putMovieRecommendations(Integer movieId, Integer page,
+			TmdbRecommendationsMovieDto recommendations) {
+		return Mono.just(recommendations)
+				.doOnNext(response -> indexMovieResults(response.getResults()));
 	}
 
 	/**
@@ -245,8 +332,8 @@ public class DetailRecommendationServiceImpl implements DetailRecommendationServ
 	 * @return ResponseEntity<DetailComicsRecommendationsResponseDto> 추천 작품 응답 DTO
 	 */
 	@Override
-	@Cacheable(value = "anilistComicsRecommendations", key = "#mediaId + '-' + #page", unless = "#result == null")
-	public DetailComicsRecommendationsResponseDto getComicsRecommendations(Integer mediaId, Integer page) throws IOException {
+	@Cacheable(value = "anilistComicsRecommendations", key = "#mediaId + '-' + #page + '-' + @sessionUtil.isAdult()", unless = "#result == null")
+	public Mono<DetailComicsRecommendationsResponseDto> getComicsRecommendations(Integer mediaId, Integer page) throws IOException {
 
 		// 성인콘텐츠 포함 여부
 		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
@@ -266,6 +353,7 @@ public class DetailRecommendationServiceImpl implements DetailRecommendationServ
 		String requestBody = GraphqlUtil.buildRequestBody(query, variables);
 		// AniList API 실행
 		return anilistWebClient.post()
+				.attribute(CommonConstants.WEBCLIENT_COALESCING_KEY, requestBody) // 동일 요청 병합 키
 				.bodyValue(requestBody)
 				.retrieve()
 				.onStatus(HttpStatusCode::isError, response ->
@@ -301,12 +389,15 @@ public class DetailRecommendationServiceImpl implements DetailRecommendationServ
 						// 추천 작품 응답 DTO 설정
 						recommendationResponse = DetailComicsRecommendationsResponseDto.builder()
 								.results(results)
+								.hasNextPage(ObjectUtils.isNotEmpty(media.getRecommendations())
+										&& ObjectUtils.isNotEmpty(media.getRecommendations().getPageInfo())
+										&& media.getRecommendations().getPageInfo().isHasNextPage())
 								.build();
 					}
 
 					// 추천 작품 응답 DTO 반환
 					return recommendationResponse;
-				}).block();
+				});
 	}
 
 }
@@ -0,0 +1,120 @@
+package com.cjy.contenthub.image.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.cjy.contenthub.common.util.ImageDiskCacheUtil.CachedImage;
+import com.cjy.contenthub.image.service.ImageService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 이미지 프록시 API 컨트롤러 클래스
+ */
+@RestController
+@RequestMapping("/image")
+@RequiredArgsConstructor
+public class ImageController {
+
+	/** 이미지 프록시 서비스 */
+	private final ImageService imageService;
+
+	/** 브라우저 캐시 유지 시간 */
+	@Value("${app.imageProxy.maxAge}")
+	private Duration maxAge;
+
+	/** 리퀘스트 파라미터 키 : 원본 이미지 URL */
+	private static final String PARAM_URL = "url";
+
+	/** 리퀘스트 파라미터 키 : 썸네일 리사이즈 폭 */
+	private static final String PARAM_WIDTH = "width";
+
+	/**
+	 * 외부 CDN 이미지 프록시 API
+	 * 디스크 캐시 파일을 FileChannel.transferTo로 응답 채널에 직접 전송
+	 * If-None-Match에 일치하는 태그가 있는 경우는 본문 없이 304 응답
+	 *
+	 * @param url 원본 이미지 URL (TMDB/AniList CDN)
+	 * @param width 썸네일 리사이즈 폭 (선택)
+	 * @param ifNoneMatch If-None-Match 헤더 (선택)
+	 * @return 이미지 응답
+	 */
+	@GetMapping("/proxy")
+	public Mono<ResponseEntity<StreamingResponseBody>> getImage(
+			@RequestParam(PARAM_URL) String url,
+			@RequestParam(name = PARAM_WIDTH, required = false) Integer width,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+		return imageService.getImage(url, width).map(image -> {
+			// 캐시 파일은 URL별로 바뀌지 않으므로 장기 캐시
+			CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic().immutable();
+			if (isNotModified(image.etag(), ifNoneMatch)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+						.eTag(image.etag())
+						.cacheControl(cacheControl)
+						.build();
+			}
+			return ResponseEntity.ok()
+					.contentType(image.contentType())
+					.contentLength(image.size())
+					.eTag(image.etag())
+					.cacheControl(cacheControl)
+					.body(output -> transfer(image, Channels.newChannel(output)));
+		});
+	}
+
+	/**
+	 * If-None-Match 조건 판정
+	 * 쉼표로 구분된 복수 태그, 와일드카드(*), 약한 검증자(W/)를 포함하여 약한 비교로 판정 (RFC 9110)
+	 *
+	 * @param etag 캐시 파일의 엔티티 태그
+	 * @param ifNoneMatch If-None-Match 헤더
+	 * @return 일치하는 태그가 있는 경우 true
+	 */
+	private boolean isNotModified(String etag, String ifNoneMatch) {
+		if (StringUtils.isBlank(ifNoneMatch)) {
+			return false;
+		}
+		ETag current = ETag.create(etag);
+		return ETag.parse(ifNoneMatch).stream()
+				.anyMatch(requested -> requested.isWildcard() || requested.compare(current, false));
+	}
+
+	/**
+	 * 캐시 파일을 응답 채널로 전송
+	 * 파일 내용을 힙 바이트 배열로 읽지 않고 FileChannel.transferTo로 전송
+	 *
+	 * @param image 캐시된 이미지 파일
+	 * @param target 응답 채널
+	 * @throws IOException 파일 읽기/응답 쓰기 에러
+	 */
+	private void transfer(CachedImage image, WritableByteChannel target) throws IOException {
+		try (FileChannel channel = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+			long position = 0;
+			long size = channel.size();
+			while (position < size) {
+				position += channel.transferTo(position, size - position, target);
+			}
+		}
+	}
+
+}
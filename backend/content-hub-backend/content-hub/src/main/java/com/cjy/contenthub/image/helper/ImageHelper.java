@@ -0,0 +1,83 @@
+package com.cjy.contenthub.image.helper;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.cjy.contenthub.common.util.ImageDiskCacheUtil.ImageData;
+
+/**
+ * 이미지 프록시 헬퍼 클래스
+ */
+@Component
+public class ImageHelper {
+
+	/**
+	 * 썸네일용 이미지 리사이즈
+	 * 지정한 폭보다 큰 JPEG/PNG 이미지만 비율을 유지하여 축소하고, 그 외(WebP/GIF 등 읽을 수 없는 형식, 이미 작은 이미지)는 원본 반환
+	 *
+	 * @param original 원본 이미지 데이터
+	 * @param width 리사이즈 폭
+	 * @return 리사이즈한 이미지 데이터
+	 */
+	public ImageData resize(ImageData original, int width) {
+
+		// 리사이즈 대상 형식 판정
+		String format = getWritableFormat(original.contentType());
+		if (format == null) {
+			return original;
+		}
+		try {
+			BufferedImage source = ImageIO.read(new ByteArrayInputStream(original.bytes()));
+			// 읽을 수 없거나 이미 작은 이미지는 원본 반환
+			if (source == null || source.getWidth() <= width) {
+				return original;
+			}
+			int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+			// JPEG는 알파 채널을 기록할 수 없으므로 RGB로 변환
+			int imageType = MediaType.IMAGE_JPEG.isCompatibleWith(original.contentType())
+					? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+			BufferedImage resized = new BufferedImage(width, height, imageType);
+			Graphics2D graphics = resized.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				graphics.drawImage(source, 0, 0, width, height, null);
+			} finally {
+				graphics.dispose();
+			}
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			if (!ImageIO.write(resized, format, output)) {
+				return original;
+			}
+			return new ImageData(original.contentType(), output.toByteArray());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 리사이즈 후 기록할 수 있는 ImageIO 형식 이름 취득
+	 *
+	 * @param contentType 콘텐츠 타입
+	 * @return 형식 이름 (리사이즈 대상이 아닌 경우 null)
+	 */
+	private String getWritableFormat(MediaType contentType) {
+		if (MediaType.IMAGE_JPEG.isCompatibleWith(contentType)) {
+			return "jpg";
+		}
+		if (MediaType.IMAGE_PNG.isCompatibleWith(contentType)) {
+			return "png";
+		}
+		return null;
+	}
+}
@@ -0,0 +1,21 @@
+package com.cjy.contenthub.image.service;
+
+import com.cjy.contenthub.common.util.ImageDiskCacheUtil.CachedImage;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 이미지 프록시 서비스 인터페이스
+ */
+public interface ImageService {
+
+	/**
+	 * 외부 CDN 이미지 취득 (디스크 캐시 경유)
+	 *
+	 * @param url 원본 이미지 URL
+	 * @param width 썸네일 리사이즈 폭 (원본인 경우 null)
+	 * @return 캐시된 이미지 파일
+	 */
+	Mono<CachedImage> getImage(String url, Integer width);
+
+}
@@ -0,0 +1,127 @@
+package com.cjy.contenthub.image.service;
+
+import java.net.URI;
+import java.util.List;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.cjy.contenthub.common.exception.CommonBusinessException;
+import com.cjy.contenthub.common.util.ImageDiskCacheUtil;
+import com.cjy.contenthub.common.util.ImageDiskCacheUtil.CachedImage;
+import com.cjy.contenthub.common.util.ImageDiskCacheUtil.ImageData;
+import com.cjy.contenthub.image.helper.ImageHelper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 이미지 프록시 서비스
+ * TMDB/AniList 작품 이미지를 1회만 다운로드하여 디스크 캐시에 저장하고, 이후 요청은 캐시 파일로 응답
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageServiceImpl implements ImageService {
+
+	/** 이미지 디스크 캐시 */
+	private final ImageDiskCacheUtil imageDiskCache;
+
+	/** 이미지 프록시 헬퍼 */
+	private final ImageHelper helper;
+
+	/** 외부 CDN 이미지 다운로드용 WebClient 클래스 */
+	@Qualifier("imageWebClient")
+	private final WebClient imageWebClient;
+
+	/** 프록시 허용 호스트 리스트 */
+	@Value("${app.imageProxy.allowedHosts}")
+	private List<String> allowedHosts;
+
+	/** 썸네일 리사이즈 허용 폭 리스트 */
+	@Value("${app.imageProxy.widths}")
+	private List<Integer> allowedWidths;
+
+	/** 허용하지 않는 이미지 URL 에러 메시지 */
+	private static final String INVALID_URL_MESSAGE = "허용되지 않는 이미지 URL입니다.";
+
+	/** 허용하지 않는 리사이즈 폭 에러 메시지 */
+	private static final String INVALID_WIDTH_MESSAGE = "허용되지 않는 이미지 폭입니다.";
+
+	/** 이미지가 아닌 응답 에러 메시지 */
+	private static final String NOT_IMAGE_MESSAGE = "이미지가 아닌 응답입니다.";
+
+	/** 허용 스킴 */
+	private static final String SCHEME_HTTPS = "https";
+
+	/**
+	 * 외부 CDN 이미지 취득 (디스크 캐시 경유)
+	 *
+	 * @param url 원본 이미지 URL
+	 * @param width 썸네일 리사이즈 폭 (원본인 경우 null)
+	 * @return 캐시된 이미지 파일
+	 */
+	@Override
+	public Mono<CachedImage> getImage(String url, Integer width) {
+
+		// 임의 URL 중계 방지를 위해 허용 호스트의 https URL만 처리
+		URI uri = validateUrl(url);
+		// 캐시 파일 수 증가 방지를 위해 허용 폭만 리사이즈
+		if (ObjectUtils.isNotEmpty(width) && !allowedWidths.contains(width)) {
+			throw new CommonBusinessException(INVALID_WIDTH_MESSAGE, HttpStatus.BAD_REQUEST.value());
+		}
+		// 리사이즈(디코드/축소/인코드)는 CPU 처리이므로 WebClient 이벤트 루프가 아닌 boundedElastic 스케줄러에서 실행
+		return imageDiskCache.get(imageDiskCache.key(uri.toString(), width), () -> download(uri)
+				.publishOn(Schedulers.boundedElastic())
+				.map(original -> ObjectUtils.isEmpty(width) ? original : helper.resize(original, width)));
+	}
+
+	/**
+	 * 원본 이미지 다운로드
+	 *
+	 * @param uri 원본 이미지 URI
+	 * @return 이미지 데이터
+	 */
+	private Mono<ImageData> download(URI uri) {
+		return imageWebClient.get()
+				.uri(uri)
+				.retrieve()
+				.toEntity(byte[].class)
+				.flatMap(response -> {
+					MediaType contentType = response.getHeaders().getContentType();
+					if (contentType == null || !"image".equals(contentType.getType()) || response.getBody() == null) {
+						log.warn("Image proxy received non-image response: {} {}", uri, contentType);
+						return Mono.error(new CommonBusinessException(NOT_IMAGE_MESSAGE, HttpStatus.BAD_GATEWAY.value()));
+					}
+					return Mono.just(new ImageData(new MediaType(contentType.getType(), contentType.getSubtype()),
+							response.getBody()));
+				});
+	}
+
+	/**
+	 * 이미지 URL 검증
+	 *
+	 * @param url 원본 이미지 URL
+	 * @return 검증된 URI
+	 */
+	private URI validateUrl(String url) {
+		try {
+			URI uri = URI.create(url).normalize();
+			if (SCHEME_HTTPS.equalsIgnoreCase(uri.getScheme()) && uri.getUserInfo() == null
+					&& uri.getPort() == -1 && allowedHosts.contains(uri.getHost())) {
+				return uri;
+			}
+		} catch (IllegalArgumentException e) {
+			// URL 형식 오류는 아래의 공통 에러로 처리
+		}
+		throw new CommonBusinessException(INVALID_URL_MESSAGE, HttpStatus.BAD_REQUEST.value());
+	}
+
+}
@@ -14,6 +14,7 @@ import com.cjy.contenthub.person.service.PersonService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * 인물 정보 API 컨트롤러 클래스
@@ -45,9 +46,9 @@ public class PersonController {
 	 * @return 인물 상세 정보 DTO
 	 */
 	@GetMapping("/details")
-	public ResponseEntity<PersonResponseDto> getPersonDetails(
+	public Mono<ResponseEntity<PersonResponseDto>> getPersonDetails(
 			@RequestParam(PARAM_PERSON_ID) int personId) {
-		return ResponseEntity.ok(personService.getPersonDetails(personId));
+		return personService.getPersonDetails(personId).map(ResponseEntity::ok);
 	}
 
 }
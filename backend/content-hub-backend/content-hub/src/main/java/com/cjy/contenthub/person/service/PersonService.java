@@ -2,6 +2,8 @@ package com.cjy.contenthub.person.service;
 
 import com.cjy.contenthub.person.controller.dto.PersonResponseDto;
 
+import reactor.core.publisher.Mono;
+
 /**
  * 인물 정보 서비스 인터페이스
  */
@@ -13,6 +15,6 @@ public interface PersonService {
 	 * @param personId 인물 ID
 	 * @return PersonResponseDto 인물 상세 정보 DTO
 	 */
-	PersonResponseDto getPersonDetails(int personId);
+	Mono<PersonResponseDto> getPersonDetails(int personId);
 
 }
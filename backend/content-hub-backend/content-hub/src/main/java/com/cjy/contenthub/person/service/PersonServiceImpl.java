@@ -1,6 +1,8 @@
 package com.cjy.contenthub.person.service;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -13,7 +15,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbPersonMovieCreditsDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbPersonTvCreditsDto;
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
 import com.cjy.contenthub.common.constants.CommonEnum.TmdbGenderEnum;
+import com.cjy.contenthub.common.util.CacheRefreshUtil;
+import com.cjy.contenthub.common.util.KeywordIndexUtil;
 import com.cjy.contenthub.person.controller.dto.PersonCreditsCastDto;
 import com.cjy.contenthub.person.controller.dto.PersonCreditsCrewDto;
 import com.cjy.contenthub.person.controller.dto.PersonDto;
@@ -21,8 +26,10 @@ import com.cjy.contenthub.person.controller.dto.PersonResponseDto;
 import com.cjy.contenthub.person.helper.PersonHelper;
 import com.cjy.contenthub.person.mapper.PersonMapper;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * 인물 정보 API 컨트롤러 클래스
@@ -46,6 +53,12 @@ public class PersonServiceImpl implements PersonService {
 	/** TMDB API 인물 상세 정보 헬퍼 클래스 */
 	private final PersonHelper helper;
 
+	/** 자동완성 작품명 색인 */
+	private final KeywordIndexUtil keywordIndex;
+
+	/** 캐시 선행 갱신 공통 클래스 */
+	private final CacheRefreshUtil cacheRefresh;
+
 	/** 리퀘스트 파라미터 키 : 인물 ID */
 	private static final String PARAM_PERSON_ID = "personId";
 
@@ -61,6 +74,38 @@ public class PersonServiceImpl implements PersonService {
 	/** 언어 : 한국어 */
 	private static final String LANGUAGE_KOREAN = "ko-KR";
 
+	/**
+	 * 인물 크레딧 작품명을 자동완성 색인에 등록
+	 * 
+	 * @param tvCredits TV 프로그램 크레딧
+	 * @param movieCredits 영화 크레딧
+	 */
+	private void indexCredits(TmdbPersonTvCreditsDto tvCredits, TmdbPersonMovieCreditsDto movieCredits) {
+		String tvMediaType = CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue();
+		String movieMediaType = CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue();
+		if (ObjectUtils.isNotEmpty(tvCredits)) {
+			Optional.ofNullable(tvCredits.getCast()).orElse(List.of()).forEach(e -> 
+			keywordIndex.add(e.getName(), tvMediaType, e.getGenreIds(), e.getPopularity(), e.isAdult()));
+			Optional.ofNullable(tvCredits.getCrew()).orElse(List.of()).forEach(e -> 
+			keywordIndex.add(e.getName(), tvMediaType, e.getGenreIds(), e.getPopularity(), e.isAdult()));
+		}
+		if (ObjectUtils.isNotEmpty(movieCredits)) {
+			Optional.ofNullable(movieCredits.getCast()).orElse(List.of()).forEach(e -> 
+			keywordIndex.add(e.getTitle(), movieMediaType, e.getGenreIds(), e.getPopularity(), e.isAdult()));
+			Optional.ofNullable(movieCredits.getCrew()).orElse(List.of()).forEach(e -> 
+			keywordIndex.add(e.getTitle(), movieMediaType, e.getGenreIds(), e.getPopularity(), e.isAdult()));
+		}
+	}
+
+	/**
+	 * 인물 상세 캐시의 선행 갱신 처리 등록
+	 * 캐시 프록시를 거치지 않도록 자신의 메소드를 직접 호출
+	 */
+	@PostConstruct
+	public void registerCacheReloaders() {
+		cacheRefresh.register("personDetails", key -> getPersonDetails((Integer) key));
+	}
+
 	/**
 	 * 인물 상세 정보 조회
 	 * 
@@ -69,7 +114,7 @@ public class PersonServiceImpl implements PersonService {
 	 */
 	@Override
 	@Cacheable(value = "personDetails", key = "#personId", unless = "#result == null")
-	public PersonResponseDto getPersonDetails(int personId) {
+	public Mono<PersonResponseDto> getPersonDetails(int personId) {
 
 		// TMDB 인물 상세 정보 조회
 		return tmdbWebClient.get()
@@ -101,6 +146,8 @@ public class PersonServiceImpl implements PersonService {
 					TmdbPersonTvCreditsDto tvCredits = response.getTvCredits();
 					// 영화 크레딧 
 					TmdbPersonMovieCreditsDto movieCredits = response.getMovieCredits();		
+					// 크레딧 작품명을 자동완성 색인에 등록
+					indexCredits(tvCredits, movieCredits);
 
 					// 출연작 정보 설정
 					if (ObjectUtils.isNotEmpty(tvCredits)) {
@@ -148,7 +195,7 @@ public class PersonServiceImpl implements PersonService {
 
 					// 응답 반환
 					return personResponse;
-				}).block();
+				});
 	}
 
 }
@@ -1,9 +1,11 @@
 package com.cjy.contenthub.search.controller;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -13,14 +15,23 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchMovieDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvDto;
+import com.cjy.contenthub.common.util.PrefetchUtil;
+import com.cjy.contenthub.common.util.QueryFrequencyUtil;
+import com.cjy.contenthub.search.controller.dto.SearchAniFeedResponseDto;
 import com.cjy.contenthub.search.controller.dto.SearchComicsResponseDto;
+import com.cjy.contenthub.search.controller.dto.SearchFederatedResponseDto;
+import com.cjy.contenthub.search.controller.dto.SearchSectionResponseDto;
 import com.cjy.contenthub.search.controller.dto.SearchVideoResponseDto;
 import com.cjy.contenthub.search.service.SearchService;
+import com.cjy.contenthub.search.service.SearchSectionService;
+import com.cjy.contenthub.search.service.SearchWarmupService;
 
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * 검색 컨텐츠 API 컨트롤러 클래스
@@ -34,6 +45,18 @@ public class SearchController {
 	/** 검색 서비스 클래스 */
 	private final SearchService searchService;
 
+	/** 검색 섹션 일괄 검색 서비스 클래스 */
+	private final SearchSectionService searchSectionService;
+
+	/** 검색 캐시 사전 적재 서비스 클래스 */
+	private final SearchWarmupService searchWarmupService;
+
+	/** 다음 페이지 선행 취득 공통 클래스 */
+	private final PrefetchUtil prefetch;
+
+	/** 검색어 빈도 집계 공통 클래스 */
+	private final QueryFrequencyUtil queryFrequency;
+
 	/** TMDB API 통신용 WebClient 클래스 */
 	@Qualifier("tmdbWebClient")
 	private final WebClient tmdbWebClient;
@@ -70,12 +93,22 @@ public class SearchController {
 	@Value("${anilist.custom.perMorePage}")
 	private int anilistPerMorePage;
 
+	/** 인기 검색어 표시 개수 */
+	@Value("${app.queryFrequency.popularCount}")
+	private int popularCount;
+
 	/** 리퀘스트 파라미터 키 : 검색어 */
 	private static final String PARAM_QUERY = "query";
 
 	/** 리퀘스트 파라미터 키 : 페이지 */
 	private static final String PARAM_PAGE = "page";
 
+	/** 리퀘스트 파라미터 키 : 커서 */
+	private static final String PARAM_CURSOR = "cursor";
+
+	/** 리퀘스트 파라미터 키 : 건수 */
+	private static final String PARAM_SIZE = "size";
+
 	/** API 입구 판단용 파라미터 키 문자열  */
 	private static final String PARAM_IS_MAIN_PAGE = "isMainPage";
 
@@ -83,22 +116,23 @@ public class SearchController {
 	 * 애니메이션/드라마/영화 검색 API
 	 * 
 	 * @param keyword 검색어
-	 * @return ResponseEntity<List<String>> 검색어 리스트
+	 * @return Mono<ResponseEntity<List<String>>> 검색어 리스트
 	 */
 	@GetMapping(value = "/searchKeyword")
-	public ResponseEntity<List<String>> searchKeyword(@NotEmpty @RequestParam(PARAM_QUERY) String keyword) {
-		return ResponseEntity.ok(searchService.searchKeyword(keyword));
+	public Mono<ResponseEntity<List<String>>> searchKeyword(@NotEmpty @RequestParam(PARAM_QUERY) String keyword) {
+		return searchService.searchKeyword(keyword).map(ResponseEntity::ok);
 	}
 
 	/**
 	 * 애니메이션/드라마/영화 검색 API
 	 * 
 	 * @param keyword 검색어
-	 * @return ResponseEntity<SearchVideoResponseDto> 애니메이션/드라마/영화 검색 결과 응답 오브젝트
+	 * @return Mono<ResponseEntity<SearchVideoResponseDto>> 애니메이션/드라마/영화 검색 결과 응답 오브젝트
 	 */
 	@GetMapping(value = "/searchVideo")
-	public ResponseEntity<SearchVideoResponseDto> searchVideo(@NotEmpty @RequestParam(PARAM_QUERY) String keyword) {
-		return ResponseEntity.ok(searchService.searchVideo(keyword));
+	public Mono<ResponseEntity<SearchVideoResponseDto>> searchVideo(@NotEmpty @RequestParam(PARAM_QUERY) String keyword) {
+		queryFrequency.record(keyword);
+		return searchService.searchVideo(keyword).map(ResponseEntity::ok);
 	}
 
 	/**
@@ -106,14 +140,37 @@ public class SearchController {
 	 * 
 	 * @param keyword 검색어
 	 * @param page 페이지
-	 * @return ResponseEntity<TmdbSearchTvDto> 애니 정보 응답 오브젝트
+	 * @return Mono<ResponseEntity<TmdbSearchTvDto>> 애니 정보 응답 오브젝트
 	 */
 	@GetMapping(value = "/searchAni")
-	public ResponseEntity<TmdbSearchTvDto> searchAni(
+	public Mono<ResponseEntity<TmdbSearchTvDto>> searchAni(
 			@NotEmpty @RequestParam(PARAM_QUERY) String keyword,
 			@Nullable @RequestParam(PARAM_PAGE) Integer page
 			) {
-		return ResponseEntity.ok(searchService.searchAni(keyword, page));
+		int currentPage = Optional.ofNullable(page).orElse(1);
+		return searchService.searchAni(keyword, currentPage)
+				.doOnNext(prefetch.nextPage(response -> response.getPage() < response.getTotalPages(),
+						response -> searchService.searchAni(keyword, currentPage + 1)))
+				.map(ResponseEntity::ok);
+	}
+
+	/**
+	 * 애니 피드 검색 API
+	 * TV 애니와 애니 영화를 인기도순으로 병합한 고정 크기 페이지를 커서로 페이지네이션
+	 * 
+	 * @param keyword 검색어
+	 * @param cursor 커서 (첫 페이지인 경우 생략)
+	 * @return Mono<ResponseEntity<SearchAniFeedResponseDto>> 애니 피드 응답 오브젝트
+	 */
+	@GetMapping(value = "/searchAniFeed")
+	public Mono<ResponseEntity<SearchAniFeedResponseDto>> searchAniFeed(
+			@NotEmpty @RequestParam(PARAM_QUERY) String keyword,
+			@Nullable @RequestParam(PARAM_CURSOR) String cursor
+			) {
+		return searchService.searchAniFeed(keyword, cursor)
+				.doOnNext(prefetch.nextPage(SearchAniFeedResponseDto::isHasNextPage,
+						response -> searchService.searchAniFeed(keyword, response.getNextCursor())))
+				.map(ResponseEntity::ok);
 	}
 
 	/**
@@ -121,13 +178,17 @@ public class SearchController {
 	 * 
 	 * @param keyword 검색어
 	 * @param page 페이지
-	 * @return ResponseEntity<TmdbSearchTvDto> 드라마 정보 응답 오브젝트
+	 * @return Mono<ResponseEntity<TmdbSearchTvDto>> 드라마 정보 응답 오브젝트
 	 */
 	@GetMapping(value = "/searchDrama")
-	public ResponseEntity<TmdbSearchTvDto> searchDrama(
+	public Mono<ResponseEntity<TmdbSearchTvDto>> searchDrama(
 			@NotEmpty @RequestParam(PARAM_QUERY) String keyword, 
 			@Nullable @RequestParam(PARAM_PAGE) Integer page) {
-		return ResponseEntity.ok(searchService.searchDrama(keyword, page));
+		int currentPage = Optional.ofNullable(page).orElse(1);
+		return searchService.searchDrama(keyword, currentPage)
+				.doOnNext(prefetch.nextPage(response -> response.getPage() < response.getTotalPages(),
+						response -> searchService.searchDrama(keyword, currentPage + 1)))
+				.map(ResponseEntity::ok);
 	}
 
 	/**
@@ -135,14 +196,18 @@ public class SearchController {
 	 * 
 	 * @param keyword 검색어
 	 * @param page 페이지
-	 * @return ResponseEntity<TmdbSearchMovieDto> 영화 정보 응답 오브젝트
+	 * @return Mono<ResponseEntity<TmdbSearchMovieDto>> 영화 정보 응답 오브젝트
 	 */
 	@GetMapping(value = "/searchMovie")
-	public ResponseEntity<TmdbSearchMovieDto> searchMovie(
+	public Mono<ResponseEntity<TmdbSearchMovieDto>> searchMovie(
 			@NotEmpty @RequestParam(PARAM_QUERY) String keyword, 
 			@Nullable @RequestParam(PARAM_PAGE) Integer page
 			) {
-		return ResponseEntity.ok(searchService.searchMovie(keyword, page));
+		int currentPage = Optional.ofNullable(page).orElse(1);
+		return searchService.searchMovie(keyword, currentPage)
+				.doOnNext(prefetch.nextPage(response -> response.getPage() < response.getTotalPages(),
+						response -> searchService.searchMovie(keyword, currentPage + 1)))
+				.map(ResponseEntity::ok);
 	}
 
 	/**
@@ -150,15 +215,60 @@ public class SearchController {
 	 * 
 	 * @param keyword 검색어
 	 * @param page 페이지
-	 * @return ResponseEntity<SearchComicsResponseDto> 만화 정보 응답 오브젝트
+	 * @return Mono<ResponseEntity<SearchComicsResponseDto>> 만화 정보 응답 오브젝트
 	 */
 	@GetMapping(value = "/searchComics")
-	public ResponseEntity<SearchComicsResponseDto> searchComics(
+	public Mono<ResponseEntity<SearchComicsResponseDto>> searchComics(
 			@NotEmpty @RequestParam(PARAM_QUERY) String keyword, 
 			@Nullable @RequestParam(PARAM_PAGE) Integer page,
 			@RequestParam(PARAM_IS_MAIN_PAGE) boolean isMainPage
 			) {
-		return ResponseEntity.ok(searchService.searchComics(keyword, page, isMainPage));
+		int currentPage = Optional.ofNullable(page).orElse(1);
+		// 전체보기 화면(무한 스크롤)인 경우에만 다음 페이지 선행 취득
+		return searchService.searchComics(keyword, currentPage, isMainPage)
+				.doOnNext(prefetch.nextPage(response -> !isMainPage && response.getPage() < response.getTotalPages(),
+						response -> searchService.searchComics(keyword, currentPage + 1, isMainPage)))
+				.map(ResponseEntity::ok);
+	}
+
+	/**
+	 * 애니메이션/드라마/영화/만화 스트리밍 검색 API
+	 * 각 섹션을 준비되는 순서대로 Server-Sent Events 또는 NDJSON(Accept 헤더 기준)으로 전송
+	 * 
+	 * @param keyword 검색어
+	 * @return Flux<SearchSectionResponseDto> 섹션별 검색 결과 응답 오브젝트
+	 */
+	@GetMapping(value = "/stream", produces = { MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	public Flux<SearchSectionResponseDto> searchStream(@NotEmpty @RequestParam(PARAM_QUERY) String keyword) {
+		queryFrequency.record(keyword);
+		return searchSectionService.searchStream(keyword);
+	}
+
+	/**
+	 * 애니메이션/드라마/영화/만화 일괄 검색 API
+	 * 소스별 제한 시간 내에 도착한 결과만으로 응답하며, 섹션별 완료 여부를 함께 반환
+	 * 
+	 * @param keyword 검색어
+	 * @return Mono<ResponseEntity<SearchFederatedResponseDto>> 일괄 검색 결과 응답 오브젝트
+	 */
+	@GetMapping(value = "/searchAll")
+	public Mono<ResponseEntity<SearchFederatedResponseDto>> searchAll(@NotEmpty @RequestParam(PARAM_QUERY) String keyword) {
+		queryFrequency.record(keyword);
+		return searchSectionService.searchFederated(keyword).map(ResponseEntity::ok);
+	}
+
+	/**
+	 * 인기 검색어 API
+	 * 검색어 입력 전(빈 입력)에 표시할 인기 검색어를 검색 횟수 내림차순으로 반환
+	 * 최소 검색 횟수 미만의 검색어와 성인물 포함 세션에서 검색된 검색어는 제외
+	 * 
+	 * @param size 최대 반환 건수 (생략시 및 상한 초과시 설정값)
+	 * @return ResponseEntity<List<String>> 인기 검색어 리스트
+	 */
+	@GetMapping(value = "/popularKeywords")
+	public ResponseEntity<List<String>> popularKeywords(@Nullable @RequestParam(PARAM_SIZE) Integer size) {
+		int popularSize = Optional.ofNullable(size).filter(e -> e > 0).map(e -> Math.min(e, popularCount)).orElse(popularCount);
+		return ResponseEntity.ok(searchWarmupService.getPopularKeywords(popularSize));
 	}
 
 }
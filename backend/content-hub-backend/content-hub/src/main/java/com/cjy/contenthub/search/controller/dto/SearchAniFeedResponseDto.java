@@ -0,0 +1,33 @@
+package com.cjy.contenthub.search.controller.dto;
+
+import java.util.List;
+
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvResultsDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 검색 컨텐츠 애니 피드 응답 DTO
+ * TMDB TV 애니와 애니 영화를 인기도순으로 병합한 고정 크기 페이지
+ */
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchAniFeedResponseDto {
+
+	/** 애니 결과 리스트 */
+	private List<TmdbSearchTvResultsDto> results;
+
+	/** 다음 페이지 커서 (다음 페이지가 없는 경우 null) */
+	private String nextCursor;
+
+	/** 다음 페이지 존재 여부 */
+	private boolean hasNextPage;
+
+}
@@ -0,0 +1,35 @@
+package com.cjy.contenthub.search.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 검색 컨텐츠 일괄 검색 응답 DTO
+ * 제한 시간 내에 응답하지 못한 섹션은 결과가 비어있고 완료 여부가 false
+ */
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchFederatedResponseDto {
+
+	/** 애니 섹션 */
+	private SearchSectionResponseDto ani;
+
+	/** 드라마 섹션 */
+	private SearchSectionResponseDto drama;
+
+	/** 영화 섹션 */
+	private SearchSectionResponseDto movie;
+
+	/** 만화 섹션 */
+	private SearchSectionResponseDto comics;
+
+	/** 모든 섹션 완료 여부 */
+	private boolean isComplete;
+
+}
@@ -0,0 +1,34 @@
+package com.cjy.contenthub.search.controller.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 검색 컨텐츠 섹션 응답 DTO
+ * 스트리밍 검색, 일괄 검색에서 애니/드라마/영화/만화 섹션별로 사용
+ */
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSectionResponseDto {
+
+	/** 섹션명 (ani, drama, movie, comics) */
+	private String section;
+
+	/** 섹션 검색 결과 리스트 */
+	private List<?> results;
+
+	/** 전체보기 여부 */
+	private boolean isViewMore;
+
+	/** 섹션 완료 여부 (소스 일부가 제한 시간 초과/에러인 경우 false) */
+	private boolean isComplete;
+
+}
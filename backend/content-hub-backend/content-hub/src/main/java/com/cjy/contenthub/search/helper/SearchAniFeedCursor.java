@@ -0,0 +1,82 @@
+package com.cjy.contenthub.search.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+
+import com.cjy.contenthub.common.exception.CommonBusinessException;
+
+/**
+ * 애니 피드 커서
+ * TMDB TV/영화 검색 결과 스트림별 위치(페이지, 애니 분류 결과 내 오프셋, 종료 여부)를 보관하며,
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로 전달
+ *
+ * @param tvPage TV 검색 페이지
+ * @param tvOffset TV 검색 페이지 내 애니 결과 오프셋
+ * @param isTvDone TV 검색 결과 종료 여부
+ * @param moviePage 영화 검색 페이지
+ * @param movieOffset 영화 검색 페이지 내 애니 영화 결과 오프셋
+ * @param isMovieDone 영화 검색 결과 종료 여부
+ */
+public record SearchAniFeedCursor(
+		int tvPage, int tvOffset, boolean isTvDone,
+		int moviePage, int movieOffset, boolean isMovieDone) {
+
+	/** 첫 페이지 커서 */
+	public static final SearchAniFeedCursor FIRST = new SearchAniFeedCursor(1, 0, false, 1, 0, false);
+
+	/** 커서 형식 버전 */
+	private static final String VERSION = "v1";
+
+	/** 커서 항목 구분자 */
+	private static final String SEPARATOR = ":";
+
+	/** 커서 항목 개수 (버전 + 6항목) */
+	private static final int FIELD_COUNT = 7;
+
+	/** 잘못된 커서 에러 메세지 */
+	private static final String INVALID_CURSOR_MESSAGE = "잘못된 커서입니다.";
+
+	/**
+	 * 커서를 불투명 문자열로 인코딩
+	 *
+	 * @return 인코딩된 커서
+	 */
+	public String encode() {
+		String raw = String.join(SEPARATOR, VERSION,
+				String.valueOf(tvPage), String.valueOf(tvOffset), isTvDone ? "1" : "0",
+				String.valueOf(moviePage), String.valueOf(movieOffset), isMovieDone ? "1" : "0");
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 불투명 문자열을 커서로 디코딩
+	 * 커서가 없는 경우 첫 페이지 커서를 반환
+	 *
+	 * @param cursor 인코딩된 커서
+	 * @return 커서
+	 */
+	public static SearchAniFeedCursor decode(String cursor) {
+		if (StringUtils.isBlank(cursor)) {
+			return FIRST;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] fields = raw.split(SEPARATOR);
+			if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+				throw new IllegalArgumentException(raw);
+			}
+			SearchAniFeedCursor decoded = new SearchAniFeedCursor(
+					Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), "1".equals(fields[3]),
+					Integer.parseInt(fields[4]), Integer.parseInt(fields[5]), "1".equals(fields[6]));
+			if (decoded.tvPage() < 1 || decoded.tvOffset() < 0 || decoded.moviePage() < 1 || decoded.movieOffset() < 0) {
+				throw new IllegalArgumentException(raw);
+			}
+			return decoded;
+		} catch (IllegalArgumentException e) {
+			throw new CommonBusinessException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST.value());
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package com.cjy.contenthub.search.helper;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvResultsDto;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 애니 피드 병합용 검색 결과 스트림 (TMDB TV 또는 영화)
+ * 커서 위치의 페이지부터 애니 분류 결과를 순서대로 꺼내며, 현재 페이지를 모두 소비한 경우에만 다음 페이지를 취득
+ * 1회의 피드 요청 안에서만 사용하므로 스레드 세이프하지 않음
+ */
+public class SearchAniFeedSource {
+
+	/** 페이지 취득 처리 (페이지 번호 → 애니 분류 결과 페이지) */
+	private final IntFunction<Mono<FeedPage>> pageLoader;
+
+	/** 페이지 취득 상한 (1회 요청당) */
+	private final int maxPageLoads;
+
+	/** 현재 페이지 */
+	private int page;
+
+	/** 현재 페이지 내 오프셋 */
+	private int offset;
+
+	/** 스트림 종료 여부 */
+	private boolean isDone;
+
+	/** 현재 페이지의 애니 분류 결과 (미취득인 경우 null) */
+	private List<TmdbSearchTvResultsDto> buffer;
+
+	/** 전체 페이지 수 */
+	private int totalPages;
+
+	/** 이번 요청에서 취득한 페이지 수 */
+	private int pageLoadCount;
+
+	/**
+	 * 생성자
+	 *
+	 * @param page 시작 페이지
+	 * @param offset 시작 페이지 내 오프셋
+	 * @param isDone 스트림 종료 여부
+	 * @param maxPageLoads 페이지 취득 상한 (1회 요청당)
+	 * @param pageLoader 페이지 취득 처리
+	 */
+	public SearchAniFeedSource(int page, int offset, boolean isDone, int maxPageLoads,
+			IntFunction<Mono<FeedPage>> pageLoader) {
+		this.page = page;
+		this.offset = offset;
+		this.isDone = isDone;
+		this.maxPageLoads = maxPageLoads;
+		this.pageLoader = pageLoader;
+	}
+
+	/**
+	 * 선두 요소가 준비되도록 필요한 경우에만 페이지를 취득
+	 * 애니 분류 결과가 없는 페이지는 건너뛰며, 마지막 페이지를 모두 소비한 경우 종료
+	 * 페이지 취득 상한에 도달한 경우는 선두 요소 없이 완료 (다음 요청에서 이어서 취득)
+	 *
+	 * @return 완료 Mono
+	 */
+	public Mono<Void> fill() {
+		return Mono.defer(() -> {
+			if (isDone || hasHead()) {
+				return Mono.empty();
+			}
+			if (buffer != null) {
+				// 마지막 페이지를 모두 소비한 경우 종료
+				if (page >= totalPages) {
+					isDone = true;
+					return Mono.empty();
+				}
+				if (pageLoadCount >= maxPageLoads) {
+					return Mono.empty();
+				}
+				page++;
+				offset = 0;
+			} else if (pageLoadCount >= maxPageLoads) {
+				return Mono.empty();
+			}
+			pageLoadCount++;
+			return pageLoader.apply(page)
+					.doOnNext(feedPage -> {
+						buffer = feedPage.results();
+						totalPages = feedPage.totalPages();
+					})
+					.switchIfEmpty(Mono.fromRunnable(() -> isDone = true))
+					.then(fill());
+		});
+	}
+
+	/**
+	 * 선두 요소 존재 여부
+	 *
+	 * @return 존재 여부
+	 */
+	public boolean hasHead() {
+		return buffer != null && offset < buffer.size();
+	}
+
+	/**
+	 * 선두 요소 참조
+	 *
+	 * @return 선두 요소 (없는 경우 null)
+	 */
+	public TmdbSearchTvResultsDto peek() {
+		return hasHead() ? buffer.get(offset) : null;
+	}
+
+	/**
+	 * 선두 요소를 꺼내고 오프셋 이동
+	 *
+	 * @return 선두 요소
+	 */
+	public TmdbSearchTvResultsDto poll() {
+		return buffer.get(offset++);
+	}
+
+	/**
+	 * 페이지 취득 상한 도달로 선두 요소를 준비하지 못한 상태인지 판단
+	 *
+	 * @return 정체 여부
+	 */
+	public boolean isStalled() {
+		return !isDone && !hasHead();
+	}
+
+	/**
+	 * 남은 요소(또는 남은 페이지)가 있는지 판단
+	 *
+	 * @return 잔여 여부
+	 */
+	public boolean hasMore() {
+		if (isDone) {
+			return false;
+		}
+		return buffer == null || offset < buffer.size() || page < totalPages;
+	}
+
+	/**
+	 * 현재 페이지
+	 * 현재 페이지를 모두 소비한 경우는 다음 페이지 (다음 요청에서 소비한 페이지를 다시 취득하지 않도록 함)
+	 *
+	 * @return 현재 페이지
+	 */
+	public int getPage() {
+		return isPageConsumed() ? page + 1 : page;
+	}
+
+	/**
+	 * 현재 페이지 내 오프셋
+	 * 현재 페이지를 모두 소비한 경우는 다음 페이지의 선두
+	 *
+	 * @return 오프셋
+	 */
+	public int getOffset() {
+		return isPageConsumed() ? 0 : offset;
+	}
+
+	/**
+	 * 현재 페이지를 모두 소비했는지 판단
+	 *
+	 * @return 소비 완료 여부
+	 */
+	private boolean isPageConsumed() {
+		return buffer != null && offset >= buffer.size();
+	}
+
+	/**
+	 * 애니 분류 결과 페이지
+	 *
+	 * @param results 애니 분류 결과 (페이지 안에서 병합 순서로 정렬된 리스트)
+	 * @param totalPages 전체 페이지 수
+	 */
+	public record FeedPage(List<TmdbSearchTvResultsDto> results, int totalPages) {}
+}
@@ -0,0 +1,91 @@
+package com.cjy.contenthub.search.helper;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만화 검색 쿼리 계획 클래스
+ * 검색어의 문자 체계(한글, 일본어 가나/한자, 라틴 문자, 혼합)를 판정하여 DeepL 번역 필요 여부를 결정
+ * AniList는 일본어/로마자/영어 작품명으로 검색 가능하므로, 한글이 포함된 경우에만 번역
+ */
+@Component
+public class SearchComicsQueryPlanner {
+
+	/**
+	 * 검색어의 문자 체계 판정
+	 * 숫자, 공백, 기호 등 공통 문자는 판정에서 제외
+	 * 
+	 * @param keyword 검색어
+	 * @return 문자 체계
+	 */
+	public QueryScript classify(String keyword) {
+		if (StringUtils.isBlank(keyword)) {
+			return QueryScript.OTHER;
+		}
+		boolean hasHangul = false;
+		boolean hasJapanese = false;
+		boolean hasLatin = false;
+		for (int i = 0; i < keyword.length(); ) {
+			int codePoint = keyword.codePointAt(i);
+			switch (Character.UnicodeScript.of(codePoint)) {
+			case HANGUL -> hasHangul = true;
+			case HIRAGANA, KATAKANA, HAN -> hasJapanese = true;
+			case LATIN -> hasLatin = true;
+			default -> {
+				// 공통 문자는 판정 대상 외
+			}
+			}
+			i += Character.charCount(codePoint);
+		}
+		if (hasHangul) {
+			return hasJapanese || hasLatin ? QueryScript.MIXED : QueryScript.HANGUL;
+		}
+		if (hasJapanese) {
+			return QueryScript.JAPANESE;
+		}
+		return hasLatin ? QueryScript.LATIN : QueryScript.OTHER;
+	}
+
+	/**
+	 * 검색어의 쿼리 계획 결정
+	 * 한글만 → 번역 후 검색, 한글 + 그 외 문자 → 원문/번역 검색 경쟁, 그 외 → 원문 검색
+	 * 
+	 * @param keyword 검색어
+	 * @return 쿼리 계획
+	 */
+	public QueryPlan plan(String keyword) {
+		return switch (classify(keyword)) {
+		case HANGUL -> QueryPlan.TRANSLATE;
+		case MIXED -> QueryPlan.RACE;
+		default -> QueryPlan.ORIGINAL;
+		};
+	}
+
+	/**
+	 * 검색어 문자 체계
+	 */
+	public enum QueryScript {
+		/** 한글 */
+		HANGUL,
+		/** 일본어 (가나, 한자) */
+		JAPANESE,
+		/** 라틴 문자 */
+		LATIN,
+		/** 한글 + 그 외 문자 혼합 */
+		MIXED,
+		/** 판정 대상 문자 없음 (숫자, 기호만) */
+		OTHER
+	}
+
+	/**
+	 * 만화 검색 쿼리 계획
+	 */
+	public enum QueryPlan {
+		/** 원문 그대로 검색 */
+		ORIGINAL,
+		/** 번역 후 검색 */
+		TRANSLATE,
+		/** 원문 검색과 번역 검색을 병렬 실행하여, 먼저 결과가 있는 쪽을 사용 */
+		RACE
+	}
+}
@@ -0,0 +1,188 @@
+package com.cjy.contenthub.search.helper;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
+import com.cjy.contenthub.common.constants.CommonEnum.TmdbGenreEnum;
+
+/**
+ * 검색 결과 장르 분류기 클래스
+ * TMDB TV/영화 장르 맵에서 판정에 필요한 장르 ID를 한 번만 조회하여 BitSet으로 컴파일하고,
+ * 검색 결과 1건당 장르 ID 리스트를 한 번만 순회하여 애니/드라마/영화 분류를 판정
+ * 생성 후에는 변경되지 않으므로 스레드간 공유 가능
+ */
+public final class SearchGenreClassifier {
+
+	/**
+	 * 분류 결과
+	 */
+	public enum Bucket {
+		/** 애니 (TV) */
+		ANI,
+		/** 드라마 (TV) */
+		DRAMA,
+		/** 애니 영화 */
+		ANI_MOVIE,
+		/** 영화 (애니 제외) */
+		MOVIE,
+		/** 분류 대상 외 */
+		NONE
+	}
+
+	/** 원본 TV 장르 맵 (재컴파일 판정용) */
+	private final Map<String, Integer> tvGenreMap;
+
+	/** 원본 영화 장르 맵 (재컴파일 판정용) */
+	private final Map<String, Integer> movieGenreMap;
+
+	/** TV 애니 장르 */
+	private final BitSet tvAni;
+
+	/** TV 드라마 제외 장르 (애니, 다큐, 어린이, 뉴스, 리얼리티, 토크쇼) */
+	private final BitSet tvDramaExcluded;
+
+	/** TV 자동완성 대상 장르 (애니, 드라마, 연속극) */
+	private final BitSet tvKeywordTarget;
+
+	/** 영화 애니 장르 */
+	private final BitSet movieAni;
+
+	/**
+	 * 생성자
+	 *
+	 * @param tvGenreMap TV 장르 맵
+	 * @param movieGenreMap 영화 장르 맵
+	 */
+	private SearchGenreClassifier(Map<String, Integer> tvGenreMap, Map<String, Integer> movieGenreMap) {
+		this.tvGenreMap = tvGenreMap;
+		this.movieGenreMap = movieGenreMap;
+		this.tvAni = toBitSet(tvGenreMap, TmdbGenreEnum.GENRE_ANI);
+		this.tvDramaExcluded = toBitSet(tvGenreMap, TmdbGenreEnum.GENRE_ANI, TmdbGenreEnum.GENRE_DOCUMENTARY,
+				TmdbGenreEnum.GENRE_KIDS, TmdbGenreEnum.GENRE_NEWS, TmdbGenreEnum.GENRE_REALITY, TmdbGenreEnum.GENRE_TALK);
+		this.tvKeywordTarget = toBitSet(tvGenreMap, TmdbGenreEnum.GENRE_ANI, TmdbGenreEnum.GENRE_DRAMA, TmdbGenreEnum.GENRE_SOAP);
+		this.movieAni = toBitSet(movieGenreMap, TmdbGenreEnum.GENRE_ANI);
+	}
+
+	/**
+	 * TV/영화 장르 맵으로 분류기 생성
+	 *
+	 * @param tvGenreMap TV 장르 맵
+	 * @param movieGenreMap 영화 장르 맵
+	 * @return 분류기
+	 */
+	public static SearchGenreClassifier compile(Map<String, Integer> tvGenreMap, Map<String, Integer> movieGenreMap) {
+		return new SearchGenreClassifier(tvGenreMap, movieGenreMap);
+	}
+
+	/**
+	 * 동일한 장르 맵 인스턴스로 컴파일된 분류기인지 판단
+	 *
+	 * @param tvGenreMap TV 장르 맵
+	 * @param movieGenreMap 영화 장르 맵
+	 * @return 동일 여부
+	 */
+	public boolean isCompiledFrom(Map<String, Integer> tvGenreMap, Map<String, Integer> movieGenreMap) {
+		return this.tvGenreMap == tvGenreMap && this.movieGenreMap == movieGenreMap;
+	}
+
+	/**
+	 * TV 검색 결과 분류
+	 * 애니 장르를 포함하면 애니, 드라마 제외 장르를 하나도 포함하지 않으면 드라마
+	 *
+	 * @param genreIds 장르 ID 리스트
+	 * @return 분류 결과 (ANI, DRAMA, NONE)
+	 */
+	public Bucket classifyTv(List<Integer> genreIds) {
+		if (genreIds == null || genreIds.isEmpty()) {
+			return Bucket.NONE;
+		}
+		boolean isAni = false;
+		boolean isExcluded = false;
+		for (int i = 0, size = genreIds.size(); i < size; i++) {
+			int genreId = toIndex(genreIds.get(i));
+			isAni |= tvAni.get(genreId);
+			isExcluded |= tvDramaExcluded.get(genreId);
+		}
+		if (isAni) {
+			return Bucket.ANI;
+		}
+		return isExcluded ? Bucket.NONE : Bucket.DRAMA;
+	}
+
+	/**
+	 * 영화 검색 결과 분류
+	 * 애니 장르를 포함하면 애니 영화, 그 외(장르가 빈 리스트인 경우 포함)는 영화
+	 *
+	 * @param genreIds 장르 ID 리스트
+	 * @return 분류 결과 (ANI_MOVIE, MOVIE, NONE)
+	 */
+	public Bucket classifyMovie(List<Integer> genreIds) {
+		if (genreIds == null) {
+			return Bucket.NONE;
+		}
+		for (int i = 0, size = genreIds.size(); i < size; i++) {
+			if (movieAni.get(toIndex(genreIds.get(i)))) {
+				return Bucket.ANI_MOVIE;
+			}
+		}
+		return Bucket.MOVIE;
+	}
+
+	/**
+	 * 자동완성 대상 작품인지 판단
+	 * 장르가 존재하고, TV(애니/드라마/연속극 장르) 또는 영화인 경우 대상
+	 *
+	 * @param mediaType 미디어 타입
+	 * @param genreIds 장르 ID 리스트
+	 * @return 자동완성 대상 여부
+	 */
+	public boolean isKeywordTarget(String mediaType, List<Integer> genreIds) {
+		if (genreIds == null || genreIds.isEmpty()) {
+			return false;
+		}
+		if (CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue().equals(mediaType)) {
+			return true;
+		}
+		if (!CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue().equals(mediaType)) {
+			return false;
+		}
+		for (int i = 0, size = genreIds.size(); i < size; i++) {
+			if (tvKeywordTarget.get(toIndex(genreIds.get(i)))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 장르 맵에서 대상 장르 ID를 조회하여 BitSet 생성
+	 * 장르 맵에 존재하지 않는 장르는 무시
+	 *
+	 * @param genreMap 장르 맵 (키 : 영어 장르명, 값 : 장르 ID)
+	 * @param genres 대상 장르
+	 * @return 장르 ID BitSet
+	 */
+	private static BitSet toBitSet(Map<String, Integer> genreMap, TmdbGenreEnum... genres) {
+		BitSet bitSet = new BitSet();
+		for (TmdbGenreEnum genre : genres) {
+			Integer genreId = genreMap.get(genre.getGenreEnglish());
+			if (Objects.nonNull(genreId) && genreId >= 0) {
+				bitSet.set(genreId);
+			}
+		}
+		return bitSet;
+	}
+
+	/**
+	 * 장르 ID를 BitSet 인덱스로 변환 (null, 음수는 어떤 장르에도 해당하지 않는 인덱스로 변환)
+	 *
+	 * @param genreId 장르 ID
+	 * @return BitSet 인덱스
+	 */
+	private static int toIndex(Integer genreId) {
+		return genreId == null || genreId < 0 ? Integer.MAX_VALUE : genreId;
+	}
+}
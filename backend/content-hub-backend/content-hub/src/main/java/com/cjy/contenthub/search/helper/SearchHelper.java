@@ -13,8 +13,8 @@ import com.cjy.contenthub.common.api.dto.aniist.AniListMediaDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchMovieResultsDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvResultsDto;
 import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
-import com.cjy.contenthub.common.constants.CommonEnum.TmdbGenreEnum;
 import com.cjy.contenthub.search.controller.dto.SearchComicsMediaResultDto;
+import com.cjy.contenthub.search.controller.dto.SearchSectionResponseDto;
 import com.cjy.contenthub.search.controller.dto.SearchVideoResponseDto;
 
 /**
@@ -27,6 +27,9 @@ public class SearchHelper {
 	@Value("${tmdb.custom.perMainPage}")
 	private int tmdbPerMainPage;
 
+	/** 마지막으로 컴파일된 장르 분류기 (장르 맵 캐시가 갱신될 때까지 재사용) */
+	private volatile SearchGenreClassifier classifier;
+
 	/**
 	 * private 생성자로 외부에서 인스턴스 생성을 막음
 	 */
@@ -112,6 +115,29 @@ public class SearchHelper {
 				.build();
 	}
 
+	/**
+	 * 섹션 검색 결과 DTO를 설정
+	 * 페이지당 작품 표시 개수를 초과하는 경우 잘라내고, 전체보기 여부를 설정
+	 *
+	 * @param section     섹션명
+	 * @param resultList  섹션 검색 결과 리스트
+	 * @param hasNextPage 다음 페이지 존재 여부
+	 * @param isComplete  섹션 완료 여부
+	 * @return 설정된 섹션 검색 결과 DTO
+	 */
+	public SearchSectionResponseDto setSectionResponse(String section, List<?> resultList, boolean hasNextPage,
+			boolean isComplete) {
+		// 설정된 페이지당 작품 표시 개수 이상의 정보가 있는지 여부
+		boolean isMore = resultList.size() > tmdbPerMainPage;
+		// 응답값 생성
+		return SearchSectionResponseDto.builder()
+				.section(section)
+				.results(isMore ? resultList.stream().limit(tmdbPerMainPage).toList() : resultList)
+				.isViewMore(hasNextPage || isMore)
+				.isComplete(isComplete)
+				.build();
+	}
+
 	/**
 	 * 영화 정보 DTO -> 애니 정보 DTO로 변환
 	 * 
@@ -138,90 +164,97 @@ public class SearchHelper {
 	}
 
 	/**
-	 * 애니 리스트를 추출
+	 * 현재 장르 맵에 대응하는 검색 결과 장르 분류기 취득
+	 * 장르 맵 인스턴스가 바뀐 경우(캐시 갱신)에만 다시 컴파일
 	 * 
-	 * @param resultList 검색 결과 리스트
-	 * @param tvGenreMap TV 장르 맵
-	 * @return 애니 리스트
+	 * @param tvGenreMap    TV 장르 맵
+	 * @param movieGenreMap 영화 장르 맵
+	 * @return 장르 분류기
 	 */
-	public List<TmdbSearchTvResultsDto> getAniList(List<TmdbSearchTvResultsDto> resultList, 
-			Map<String, Integer> tvGenreMap) {
-		List<TmdbSearchTvResultsDto> aniList = new ArrayList<>();
-		resultList.stream()
-		.filter(result -> !CollectionUtils.isEmpty(result.getGenreIds())
-				&& result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish())))
-		.forEach(result -> {
-			result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_ANI.getMediaTypeCode());
-			aniList.add(result);
-		});
-		return aniList;
+	public SearchGenreClassifier getClassifier(Map<String, Integer> tvGenreMap, Map<String, Integer> movieGenreMap) {
+		SearchGenreClassifier current = classifier;
+		if (current == null || !current.isCompiledFrom(tvGenreMap, movieGenreMap)) {
+			current = SearchGenreClassifier.compile(tvGenreMap, movieGenreMap);
+			classifier = current;
+		}
+		return current;
 	}
 
 	/**
-	 * 드라마 리스트를 추출
+	 * TV 검색 결과를 애니/드라마 리스트로 분배 (1회 순회)
 	 * 
-	 * @param resultList 검색 결과 리스트
-	 * @param tvGenreMap TV 장르 맵
-	 * @return 드라마 리스트
+	 * @param resultList TV 검색 결과 리스트
+	 * @param classifier 장르 분류기
+	 * @return 애니/드라마 분배 결과
 	 */
-	public List<TmdbSearchTvResultsDto> getDramaList(List<TmdbSearchTvResultsDto> resultList, 
-			Map<String, Integer> tvGenreMap) {
+	public TvPartition partitionTv(List<TmdbSearchTvResultsDto> resultList, SearchGenreClassifier classifier) {
+		List<TmdbSearchTvResultsDto> aniList = new ArrayList<>();
 		List<TmdbSearchTvResultsDto> dramaList = new ArrayList<>();
-		resultList.stream()
-		.filter(result -> !CollectionUtils.isEmpty(result.getGenreIds())
-				&& (!result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish()))
-						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_DOCUMENTARY.getGenreEnglish()))
-						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_KIDS.getGenreEnglish()))
-						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_NEWS.getGenreEnglish()))
-						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_REALITY.getGenreEnglish()))
-						&& !result.getGenreIds().contains(tvGenreMap.get(TmdbGenreEnum.GENRE_TALK.getGenreEnglish())))
-				)
-		.forEach(result -> {
-			result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_DRAMA.getMediaTypeCode());
-			dramaList.add(result);
-		});
-		return dramaList;
+		if (CollectionUtils.isEmpty(resultList)) {
+			return new TvPartition(aniList, dramaList);
+		}
+		for (TmdbSearchTvResultsDto result : resultList) {
+			switch (classifier.classifyTv(result.getGenreIds())) {
+			case ANI -> {
+				result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_ANI.getMediaTypeCode());
+				aniList.add(result);
+			}
+			case DRAMA -> {
+				result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_DRAMA.getMediaTypeCode());
+				dramaList.add(result);
+			}
+			default -> {
+				// 분류 대상 외
+			}
+			}
+		}
+		return new TvPartition(aniList, dramaList);
 	}
 
 	/**
-	 * 애니 영화 리스트를 추출
+	 * 영화 검색 결과를 애니 영화/영화 리스트로 분배 (1회 순회)
+	 * 애니 영화는 애니 정보 DTO로 변환
 	 * 
-	 * @param resultList    검색 결과 리스트
-	 * @param movieGenreMap 영화 장르 맵
-	 * @return 애니 영화 리스트
+	 * @param resultList 영화 검색 결과 리스트
+	 * @param classifier 장르 분류기
+	 * @return 애니 영화/영화 분배 결과
 	 */
-	public List<TmdbSearchTvResultsDto> getAniMovieList(List<TmdbSearchMovieResultsDto> resultList, 
-			Map<String, Integer> movieGenreMap) {
+	public MoviePartition partitionMovie(List<TmdbSearchMovieResultsDto> resultList, SearchGenreClassifier classifier) {
 		List<TmdbSearchTvResultsDto> aniMovieList = new ArrayList<>();
-		resultList.stream()
-		.filter(result -> !CollectionUtils.isEmpty(result.getGenreIds())
-				&& result.getGenreIds().contains(movieGenreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish())))
-		.forEach(result -> 
-		aniMovieList.add(convertMovieToAni(result))
-				);
-		return aniMovieList;
+		List<TmdbSearchMovieResultsDto> movieList = new ArrayList<>();
+		if (CollectionUtils.isEmpty(resultList)) {
+			return new MoviePartition(aniMovieList, movieList);
+		}
+		for (TmdbSearchMovieResultsDto result : resultList) {
+			switch (classifier.classifyMovie(result.getGenreIds())) {
+			case ANI_MOVIE -> aniMovieList.add(convertMovieToAni(result));
+			case MOVIE -> {
+				result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_MOVIE.getMediaTypeCode());
+				movieList.add(result);
+			}
+			default -> {
+				// 분류 대상 외
+			}
+			}
+		}
+		return new MoviePartition(aniMovieList, movieList);
 	}
 
 	/**
-	 * 애니 영화를 제외한 영화 리스트를 추출
+	 * TV 검색 결과 분배 결과
 	 * 
-	 * @param resultList    검색 결과 리스트
-	 * @param movieGenreMap 영화 장르 맵
-	 * @return 영화 리스트
+	 * @param aniList   애니 리스트
+	 * @param dramaList 드라마 리스트
 	 */
-	public List<TmdbSearchMovieResultsDto> getMovieList(List<TmdbSearchMovieResultsDto> resultList, 
-			Map<String, Integer> movieGenreMap) {
-		List<TmdbSearchMovieResultsDto> movieList = new ArrayList<>();
-		resultList.stream()
-		.filter(result -> result.getGenreIds() != null && result.getGenreIds().isEmpty()
-		|| (!CollectionUtils.isEmpty(result.getGenreIds())
-				&& !result.getGenreIds().contains(movieGenreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish()))))
-		.forEach(result -> {
-			result.setOriginalMediaType(CommonMediaTypeEnum.MEDIA_TYPE_MOVIE.getMediaTypeCode());
-			movieList.add(result);
-		});
-		return movieList;
-	}
+	public record TvPartition(List<TmdbSearchTvResultsDto> aniList, List<TmdbSearchTvResultsDto> dramaList) {}
+
+	/**
+	 * 영화 검색 결과 분배 결과
+	 * 
+	 * @param aniMovieList 애니 영화 리스트 (애니 정보 DTO로 변환됨)
+	 * @param movieList    영화 리스트
+	 */
+	public record MoviePartition(List<TmdbSearchTvResultsDto> aniMovieList, List<TmdbSearchMovieResultsDto> movieList) {}
 
 	/**
 	 * 만화 검색 결과를 설정
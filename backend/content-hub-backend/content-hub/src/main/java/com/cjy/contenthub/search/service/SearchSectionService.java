@@ -0,0 +1,29 @@
+package com.cjy.contenthub.search.service;
+
+import com.cjy.contenthub.search.controller.dto.SearchFederatedResponseDto;
+import com.cjy.contenthub.search.controller.dto.SearchSectionResponseDto;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 검색 컨텐츠 섹션(애니/드라마/영화/만화) 일괄 검색 서비스 인터페이스
+ */
+public interface SearchSectionService {
+
+	/**
+	 * 애니/드라마/영화/만화 검색 결과를 섹션별로 준비되는 순서대로 조회
+	 * 
+	 * @param keyword 검색어
+	 * @return 섹션별 검색 결과 DTO
+	 */
+	Flux<SearchSectionResponseDto> searchStream(String keyword);
+
+	/**
+	 * 애니/드라마/영화/만화 검색 결과를 소스별 제한 시간 내에 일괄 조회
+	 * 
+	 * @param keyword 검색어
+	 * @return 섹션별 검색 결과 + 섹션별 완료 여부 DTO
+	 */
+	Mono<SearchFederatedResponseDto> searchFederated(String keyword);
+}
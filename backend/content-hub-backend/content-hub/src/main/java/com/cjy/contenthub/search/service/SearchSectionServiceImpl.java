@@ -0,0 +1,262 @@
+package com.cjy.contenthub.search.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchMovieDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvDto;
+import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvResultsDto;
+import com.cjy.contenthub.common.client.TmdbApiSearchClient;
+import com.cjy.contenthub.common.client.TmdbGenreRegistry;
+import com.cjy.contenthub.common.constants.CommonConstants;
+import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
+import com.cjy.contenthub.common.util.SessionUtil;
+import com.cjy.contenthub.search.controller.dto.SearchFederatedResponseDto;
+import com.cjy.contenthub.search.controller.dto.SearchSectionResponseDto;
+import com.cjy.contenthub.search.helper.SearchGenreClassifier;
+import com.cjy.contenthub.search.helper.SearchHelper;
+import com.cjy.contenthub.search.helper.SearchHelper.MoviePartition;
+import com.cjy.contenthub.search.helper.SearchHelper.TvPartition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+/**
+ * 검색 컨텐츠 섹션(애니/드라마/영화/만화) 일괄 검색 서비스 클래스
+ * TMDB TV/영화 검색과 만화 검색(DeepL 번역 + AniList)을 병렬로 실행하여 섹션별 결과를 생성
+ * TMDB 검색 페이지 캐시(TmdbApiSearchClient)와 만화 검색 캐시(SearchService)를 그대로 재사용
+ * 소스 호출이 실패(또는 제한 시간 초과)한 섹션은 완료 여부 false로 응답
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchSectionServiceImpl implements SearchSectionService {
+
+	/** 검색 서비스 (만화 검색 캐시를 사용하기 위해 프록시 경유로 호출) */
+	private final SearchService searchService;
+
+	/** TMDB 장르 레지스트리 클래스 */
+	private final TmdbGenreRegistry genreRegistry;
+
+	/** TMDB API 검색 페이지 취득용 클라이언트 */
+	private final TmdbApiSearchClient tmdbApiSearchClient;
+
+	/** 세션 유틸 */
+	private final SessionUtil session;
+
+	/** 검색 헬퍼 */
+	private final SearchHelper helper;
+
+	/** TMDB API 페이지당 작품 표시 개수 */
+	@Value("${tmdb.custom.perMainPage}")
+	private int tmdbPerMainPage;
+
+	/** 일괄 검색시 TMDB 검색(TV, 영화 각각) 제한 시간 (밀리초) */
+	@Value("${tmdb.custom.searchTimeoutMillis}")
+	private long tmdbSearchTimeoutMillis;
+
+	/** 일괄 검색시 만화 검색(DeepL 번역 + AniList) 제한 시간 (밀리초) */
+	@Value("${anilist.custom.searchTimeoutMillis}")
+	private long comicsSearchTimeoutMillis;
+
+	/** 언어 : 한국어 */
+	private static final String LANGUAGE_KOREAN = "ko-KR";
+
+	/**
+	 * 애니/드라마/영화/만화 검색 결과를 섹션별로 준비되는 순서대로 조회
+	 * 드라마는 TV 검색, 영화는 영화 검색, 애니는 TV + 영화 검색, 만화는 번역 + AniList 검색 완료 시점에 전송
+	 *
+	 * @param keyword 검색어
+	 * @return 섹션별 검색 결과 DTO
+	 */
+	@Override
+	public Flux<SearchSectionResponseDto> searchStream(String keyword) {
+		// 스트리밍은 섹션별로 전송하므로 제한 시간 없음
+		Sections sections = buildSections(keyword, null, null);
+		// 완료된 섹션부터 순서대로 전송
+		return Flux.merge(sections.drama(), sections.movie(), sections.ani(), sections.comics());
+	}
+
+	/**
+	 * 애니/드라마/영화/만화 검색 결과를 소스별 제한 시간 내에 일괄 조회
+	 * TMDB TV, TMDB 영화, 만화 검색을 병렬로 실행하고, 제한 시간 내에 도착한 결과만으로 응답
+	 *
+	 * @param keyword 검색어
+	 * @return 섹션별 검색 결과 + 섹션별 완료 여부 DTO
+	 */
+	@Override
+	public Mono<SearchFederatedResponseDto> searchFederated(String keyword) {
+		Sections sections = buildSections(keyword,
+				Duration.ofMillis(tmdbSearchTimeoutMillis), Duration.ofMillis(comicsSearchTimeoutMillis));
+		return Mono.zip(sections.ani(), sections.drama(), sections.movie(), sections.comics())
+				.map(tuple -> SearchFederatedResponseDto.builder()
+						.ani(tuple.getT1())
+						.drama(tuple.getT2())
+						.movie(tuple.getT3())
+						.comics(tuple.getT4())
+						.isComplete(tuple.getT1().isComplete() && tuple.getT2().isComplete()
+								&& tuple.getT3().isComplete() && tuple.getT4().isComplete())
+						.build());
+	}
+
+	/**
+	 * 섹션별 검색 파이프라인 생성
+	 * 소스(TMDB TV, TMDB 영화, 만화)는 섹션간 공유하며, 각 섹션 Mono는 에러 없이 반드시 1건을 발행
+	 *
+	 * @param keyword 검색어
+	 * @param tmdbTimeout TMDB 검색 제한 시간 (null인 경우 제한 없음)
+	 * @param comicsTimeout 만화 검색 제한 시간 (null인 경우 제한 없음)
+	 * @return 섹션별 검색 파이프라인
+	 */
+	private Sections buildSections(String keyword, Duration tmdbTimeout, Duration comicsTimeout) {
+
+		// 성인물 포함 플래그 (세션은 ThreadLocal로 관리되므로 요청 스레드에서 미리 취득)
+		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
+
+		// 장르 분류기 (TV/영화 소스에서 공유)
+		Mono<SearchGenreClassifier> classifierMono = Mono.just(genreRegistry.withGenres(helper::getClassifier));
+
+		// TV 검색 결과 + 애니/드라마 분배 결과 (드라마/애니 섹션에서 공유, 실패시 빈 Optional)
+		Mono<Optional<Tuple2<TmdbSearchTvDto, TvPartition>>> tvMono = recover(withDeadline(classifierMono
+				.zipWith(tmdbApiSearchClient.searchTv(keyword, 1, isAdult, LANGUAGE_KOREAN), // 첫번째 페이지 고정(기본값)
+						(classifier, response) -> Tuples.of(response, helper.partitionTv(response.getResults(), classifier))),
+				tmdbTimeout), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV);
+
+		// 영화 검색 결과 + 애니 영화/영화 분배 결과 (영화/애니 섹션에서 공유, 실패시 빈 Optional)
+		Mono<Optional<Tuple2<TmdbSearchMovieDto, MoviePartition>>> movieMono = recover(withDeadline(classifierMono
+				.zipWith(tmdbApiSearchClient.searchMovie(keyword, 1, isAdult, LANGUAGE_KOREAN), // 첫번째 페이지 고정(기본값)
+						(classifier, response) -> Tuples.of(response, helper.partitionMovie(response.getResults(), classifier))),
+				tmdbTimeout), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE);
+
+		// 만화 검색 결과 (메인 화면 기준 첫번째 페이지, 실패시 빈 Optional)
+		Mono<Optional<SearchSectionResponseDto>> comicsSourceMono = recover(withDeadline(searchService
+				.searchComics(keyword, 1, true)
+				.map(response -> SearchSectionResponseDto.builder()
+						.section(CommonMediaTypeEnum.MEDIA_TYPE_COMICS.getMediaTypeValue())
+						.results(Optional.ofNullable(response.getComicsResults()).orElse(List.of()))
+						.isViewMore(response.isComicsViewMore())
+						.isComplete(true)
+						.build()),
+				comicsTimeout), CommonMediaTypeEnum.MEDIA_TYPE_COMICS);
+
+		// 드라마 섹션
+		Mono<SearchSectionResponseDto> dramaMono = tvMono.map(tvOptional -> tvOptional
+				.map(tv -> helper.setSectionResponse(
+						CommonMediaTypeEnum.MEDIA_TYPE_DRAMA.getMediaTypeValue(),
+						tv.getT2().dramaList(),
+						tv.getT1().getPage() < tv.getT1().getTotalPages(),
+						true))
+				.orElseGet(() -> incompleteSection(CommonMediaTypeEnum.MEDIA_TYPE_DRAMA)));
+
+		// 영화 섹션
+		Mono<SearchSectionResponseDto> movieSectionMono = movieMono.map(movieOptional -> movieOptional
+				.map(movie -> helper.setSectionResponse(
+						CommonMediaTypeEnum.MEDIA_TYPE_MOVIE.getMediaTypeValue(),
+						movie.getT2().movieList(),
+						movie.getT1().getPage() < movie.getT1().getTotalPages(),
+						true))
+				.orElseGet(() -> incompleteSection(CommonMediaTypeEnum.MEDIA_TYPE_MOVIE)));
+
+		// 애니 섹션 (TV 애니 + 애니 영화, 한쪽만 도착한 경우 도착한 결과만으로 미완료 응답)
+		Mono<SearchSectionResponseDto> aniMono = Mono.zip(tvMono, movieMono).map(tuple -> {
+			Optional<Tuple2<TmdbSearchTvDto, TvPartition>> tvOptional = tuple.getT1();
+			Optional<Tuple2<TmdbSearchMovieDto, MoviePartition>> movieOptional = tuple.getT2();
+			if (tvOptional.isEmpty() && movieOptional.isEmpty()) {
+				return incompleteSection(CommonMediaTypeEnum.MEDIA_TYPE_ANI);
+			}
+			List<TmdbSearchTvResultsDto> aniList = new ArrayList<>();
+			boolean hasNextPage = false;
+			if (tvOptional.isPresent()) {
+				TmdbSearchTvDto tvResponse = tvOptional.get().getT1();
+				aniList.addAll(tvOptional.get().getT2().aniList());
+				hasNextPage = tvResponse.getPage() < tvResponse.getTotalPages();
+			}
+			if (movieOptional.isPresent()) {
+				// 전체보기 여부는 비디오 검색과 동일한 조건
+				TmdbSearchMovieDto movieResponse = movieOptional.get().getT1();
+				MoviePartition moviePartition = movieOptional.get().getT2();
+				aniList.addAll(moviePartition.aniMovieList());
+				hasNextPage = hasNextPage || movieResponse.getPage() < movieResponse.getTotalPages()
+						|| moviePartition.movieList().size() > tmdbPerMainPage;
+			}
+			return helper.setSectionResponse(CommonMediaTypeEnum.MEDIA_TYPE_ANI.getMediaTypeValue(),
+					aniList, hasNextPage, tvOptional.isPresent() && movieOptional.isPresent());
+		});
+
+		// 만화 섹션
+		Mono<SearchSectionResponseDto> comicsMono = comicsSourceMono.map(comicsOptional -> comicsOptional
+				.orElseGet(() -> incompleteSection(CommonMediaTypeEnum.MEDIA_TYPE_COMICS)));
+
+		return new Sections(aniMono, dramaMono, movieSectionMono, comicsMono);
+	}
+
+	/**
+	 * 제한 시간 적용
+	 *
+	 * @param <T> 결과 타입
+	 * @param source 소스 Mono
+	 * @param timeout 제한 시간 (null인 경우 제한 없음)
+	 * @return 제한 시간이 적용된 Mono
+	 */
+	private <T> Mono<T> withDeadline(Mono<T> source, Duration timeout) {
+		return timeout == null ? source : source.timeout(timeout);
+	}
+
+	/**
+	 * 소스 호출 실패(에러, 제한 시간 초과, 빈 응답)시 로그를 출력하고 빈 Optional로 변환
+	 * 여러 섹션에서 공유하므로 결과를 캐시
+	 *
+	 * @param <T> 결과 타입
+	 * @param source 소스 Mono
+	 * @param mediaType 소스 미디어 타입 (로그용)
+	 * @return 결과 Optional을 발행하는 Mono
+	 */
+	private <T> Mono<Optional<T>> recover(Mono<T> source, CommonMediaTypeEnum mediaType) {
+		return source
+				.map(Optional::of)
+				.onErrorResume(ex -> {
+					log.warn("Search section source skipped: {} - {}", mediaType.getMediaTypeValue(), ex.toString());
+					return Mono.just(Optional.empty());
+				})
+				.defaultIfEmpty(Optional.empty())
+				.cache();
+	}
+
+	/**
+	 * 미완료 섹션 응답 생성 (빈 결과)
+	 *
+	 * @param mediaType 섹션 미디어 타입
+	 * @return 미완료 섹션 DTO
+	 */
+	private SearchSectionResponseDto incompleteSection(CommonMediaTypeEnum mediaType) {
+		return SearchSectionResponseDto.builder()
+				.section(mediaType.getMediaTypeValue())
+				.results(List.of())
+				.isViewMore(false)
+				.isComplete(false)
+				.build();
+	}
+
+	/**
+	 * 섹션별 검색 파이프라인
+	 *
+	 * @param ani 애니 섹션
+	 * @param drama 드라마 섹션
+	 * @param movie 영화 섹션
+	 * @param comics 만화 섹션
+	 */
+	private record Sections(
+			Mono<SearchSectionResponseDto> ani,
+			Mono<SearchSectionResponseDto> drama,
+			Mono<SearchSectionResponseDto> movie,
+			Mono<SearchSectionResponseDto> comics) {}
+}
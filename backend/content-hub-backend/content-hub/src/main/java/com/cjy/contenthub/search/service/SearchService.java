@@ -4,11 +4,15 @@ import java.util.List;
 
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchMovieDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvDto;
+import com.cjy.contenthub.search.controller.dto.SearchAniFeedResponseDto;
 import com.cjy.contenthub.search.controller.dto.SearchComicsResponseDto;
 import com.cjy.contenthub.search.controller.dto.SearchVideoResponseDto;
 
+import reactor.core.publisher.Mono;
+
 /**
  * 검색 컨텐츠 서비스 인터페이스
+ * 모든 메소드는 WebClient 파이프라인을 블로킹하지 않고 Mono로 반환
  */
 public interface SearchService {
 	
@@ -18,7 +22,7 @@ public interface SearchService {
 	 * @param keyword 검색어
 	 * @return 검색어 리스트
 	 */
-	List<String> searchKeyword(String keyword);
+	Mono<List<String>> searchKeyword(String keyword);
 	
 	/**
 	 * 애니/드라마/영화 검색 데이터 조회
@@ -26,7 +30,7 @@ public interface SearchService {
 	 * @param keyword 검색어
 	 * @return 검색 결과 DTO
 	 */
-	SearchVideoResponseDto searchVideo(String keyword);
+	Mono<SearchVideoResponseDto> searchVideo(String keyword);
 	
 	/**
 	 * 애니 검색 데이터 조회
@@ -35,7 +39,16 @@ public interface SearchService {
 	 * @param page    페이지 번호
 	 * @return 애니 검색 결과 DTO
 	 */
-	TmdbSearchTvDto searchAni(String keyword, Integer page);
+	Mono<TmdbSearchTvDto> searchAni(String keyword, Integer page);
+	
+	/**
+	 * 애니 피드 검색 데이터 조회 (TV 애니와 애니 영화를 인기도순으로 병합한 커서 페이지네이션)
+	 * 
+	 * @param keyword 검색어
+	 * @param cursor  커서 (첫 페이지인 경우 null)
+	 * @return 애니 피드 검색 결과 DTO
+	 */
+	Mono<SearchAniFeedResponseDto> searchAniFeed(String keyword, String cursor);
 	
 	/**
 	 * 드라마 검색 데이터 조회
@@ -44,7 +57,7 @@ public interface SearchService {
 	 * @param page    페이지 번호
 	 * @return 드라마 검색 결과 DTO
 	 */
-	TmdbSearchTvDto searchDrama(String keyword, Integer page);
+	Mono<TmdbSearchTvDto> searchDrama(String keyword, Integer page);
 	
 	/**
 	 * 영화 검색 데이터 조회
@@ -53,7 +66,7 @@ public interface SearchService {
 	 * @param page    페이지 번호
 	 * @return 영화 검색 결과 DTO
 	 */
-	TmdbSearchMovieDto searchMovie(String keyword, Integer page);
+	Mono<TmdbSearchMovieDto> searchMovie(String keyword, Integer page);
 	
 	/**
 	 * 만화 검색 데이터 조회
@@ -63,5 +76,5 @@ public interface SearchService {
 	 * @param isMainPage 메인 페이지 여부
 	 * @return 만화 검색 결과 DTO
 	 */
-	SearchComicsResponseDto searchComics(String keyword, Integer page, boolean isMainPage);
+	Mono<SearchComicsResponseDto> searchComics(String keyword, Integer page, boolean isMainPage);
 }
@@ -1,19 +1,20 @@
 package com.cjy.contenthub.search.service;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -28,21 +29,31 @@ import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchMultiResultsDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvDto;
 import com.cjy.contenthub.common.api.dto.tmdb.TmdbSearchTvResultsDto;
 import com.cjy.contenthub.common.client.DeepLApiClient;
-import com.cjy.contenthub.common.client.TmdbApiGenreClient;
+import com.cjy.contenthub.common.client.TmdbApiSearchClient;
+import com.cjy.contenthub.common.client.TmdbGenreRegistry;
 import com.cjy.contenthub.common.constants.CommonConstants;
-import com.cjy.contenthub.common.constants.CommonEnum.CommonMediaTypeEnum;
-import com.cjy.contenthub.common.constants.CommonEnum.TmdbGenreEnum;
 import com.cjy.contenthub.common.util.GraphqlUtil;
+import com.cjy.contenthub.common.util.KeywordIndexUtil;
 import com.cjy.contenthub.common.util.SessionUtil;
+import com.cjy.contenthub.common.util.TitleDictionaryUtil;
+import com.cjy.contenthub.search.controller.dto.SearchAniFeedResponseDto;
 import com.cjy.contenthub.search.controller.dto.SearchComicsResponseDto;
 import com.cjy.contenthub.search.controller.dto.SearchTvResponseDto;
 import com.cjy.contenthub.search.controller.dto.SearchVideoResponseDto;
+import com.cjy.contenthub.search.helper.SearchAniFeedCursor;
+import com.cjy.contenthub.search.helper.SearchAniFeedSource;
+import com.cjy.contenthub.search.helper.SearchAniFeedSource.FeedPage;
+import com.cjy.contenthub.search.helper.SearchComicsQueryPlanner;
+import com.cjy.contenthub.search.helper.SearchGenreClassifier;
 import com.cjy.contenthub.search.helper.SearchHelper;
+import com.cjy.contenthub.search.helper.SearchHelper.MoviePartition;
+import com.cjy.contenthub.search.helper.SearchHelper.TvPartition;
 
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -65,25 +76,29 @@ public class SearchServiceImpl implements SearchService {
 	@Qualifier("deeplWebClient")
 	private final WebClient deeplWebClient;
 
-	/** TMDB API 장르 WebClient 클래스 */
-	private final TmdbApiGenreClient tmdbApiGenreClient;
+	/** TMDB 장르 레지스트리 클래스 */
+	private final TmdbGenreRegistry genreRegistry;
 
 	/** DeepL API 번역 WebClient 클래스 */
 	private final DeepLApiClient deeplApiGenreClient;
 
+	/** TMDB API 검색 원본 페이지 클라이언트 클래스 */
+	private final TmdbApiSearchClient tmdbApiSearchClient;
+
 	/** 세션 유틸 클래스 */
 	private final SessionUtil session;
 	
 	/** 검색 헬퍼 클래스 */
 	private final SearchHelper helper;
 
-	/** TMDB API TV시리즈 검색 API 패스 */
-	@Value("${tmdb.url.tvSearchPath}")
-	private String tvSearchPath;
+	/** 자동완성 작품명 색인 */
+	private final KeywordIndexUtil keywordIndex;
+
+	/** 작품명 번역 사전 */
+	private final TitleDictionaryUtil titleDictionary;
 
-	/** TMDB API 영화 검색 API 패스 */
-	@Value("${tmdb.url.movieSearchPath}")
-	private String movieSearchPath;
+	/** 만화 검색 쿼리 계획 클래스 */
+	private final SearchComicsQueryPlanner queryPlanner;
 
 	/** TMDB API 멀티(TV, 영화, 인물) 검색 API 패스 */
 	@Value("${tmdb.url.multiSearchPath}")
@@ -101,6 +116,13 @@ public class SearchServiceImpl implements SearchService {
 	@Value("${anilist.custom.perMorePage}")
 	private int anilistPerMorePage;
 
+	/** TMDB API 애니 피드 페이지당 표시 건수 */
+	@Value("${tmdb.custom.perFeedPage}")
+	private int perFeedPage;
+
+	/** 애니 피드 1회 요청당 소스별 TMDB 페이지 취득 상한 */
+	private static final int MAX_FEED_PAGE_LOADS = 5;
+
 	/** 리퀘스트 파라미터 키 : 검색어 */
 	private static final String PARAM_QUERY = "query";
 
@@ -125,45 +147,32 @@ public class SearchServiceImpl implements SearchService {
 	/** 언어 : 한국어 */
 	private static final String LANGUAGE_KOREAN = "ko-KR";
 
-	/**
-	 * 어플리케이션 기동시 ApplicationReadyEvent를 이용하여, 
-	 * 모든 빈 초기화 + 어플리케이션 준비 완료 후에 캐시화 로직을 실행
-	 * (@Cacheable 가 AOP 프록시로 동작하므로, 이 시점에서는 사용 가능)
-	 */
-	@EventListener(ApplicationReadyEvent.class)
-	public void initializeTMdbApiGenreInfo() {
-		// TMDB API 애니/영화 장르 정보 캐시화 
-		tmdbApiGenreClient.getTvGenres();
-		tmdbApiGenreClient.getMovieGenres();
-	}
+	/** 만화 병렬 검색 수 (원문 검색, 번역 검색) */
+	private static final int RACE_BRANCH_COUNT = 2;
 
 	/**
-	 * TMDB API를 사용하여 TV 장르 정보 조회
+	 * TV/영화 장르 정보로 컴파일된 검색 결과 장르 분류기 취득
+	 * 장르 레지스트리가 보관 중인 장르 정보를 사용하므로 블로킹되지 않음
 	 * 
-	 * @return TV 장르 정보 Map
+	 * @return 장르 분류기
 	 */
-	private Mono<Map<String, Integer>> getTvGenres() {
-		return Mono.just(tmdbApiGenreClient.getTvGenres());
-	}
-
-	/**
-	 * TMDB API를 사용하여 영화 장르 정보 조회
-	 * 
-	 * @return 영화 장르 정보 Map
-	 */
-	private Mono<Map<String, Integer>> getMovieGenres() {
-		return Mono.just(tmdbApiGenreClient.getMovieGenres());
+	private Mono<SearchGenreClassifier> getGenreClassifier() {
+		return Mono.fromSupplier(() -> genreRegistry.withGenres(helper::getClassifier));
 	}
 
 	/**
 	 * DeepL API를 사용하여 대상 문자열을 설정언어로 변역
+	 * 작품명 번역 사전에 있는 검색어는 사전의 AniList 작품명을 사용 (사전 등록은 번역 검색 결과로 수행)
 	 * 
 	 * @param keyword 번역할 문자열
 	 * @return 번역된 문자열
 	 */
 	private Mono<String> getTranslationText(String keyword) {
-		return Mono.just(deeplApiGenreClient.translateText(
-				keyword, CommonConstants.API_LANGUAGE_JAPANESE, CommonConstants.API_LANGUAGE_KOREAN));
+		// 작품명 번역 사전에 있는 경우 DeepL API를 호출하지 않음
+		return titleDictionary.lookup(keyword)
+				.map(Mono::just)
+				.orElseGet(() -> deeplApiGenreClient.translateText(
+						keyword, CommonConstants.API_LANGUAGE_JAPANESE, CommonConstants.API_LANGUAGE_KOREAN));
 	}
 
 	/**
@@ -173,21 +182,22 @@ public class SearchServiceImpl implements SearchService {
 	 * @return 검색어 리스트
 	 */
 	@Override
-	@Cacheable(value = "searchKeyword", key = "#keyword", unless = "#result == null")
-	public List<String> searchKeyword(String keyword) {
+	@Cacheable(value = CommonConstants.SEARCH_KEYWORD_NAME, keyGenerator = CommonConstants.SEARCH_KEY_GENERATOR, unless = "#result == null")
+	public Mono<List<String>> searchKeyword(String keyword) {
+
+		// 성인물 포함 플래그 (세션은 ThreadLocal로 관리되므로 요청 스레드에서 미리 취득)
+		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
 
-		Mono<Map<String, Integer>> tvGenreMapMono = getTvGenres();
-		Mono<Map<String, Integer>> movieGenreMapMono = getMovieGenres();
+		// TV 장르와 영화 장르로 컴파일된 분류기로 처리
+		return getGenreClassifier().flatMap(classifier -> {
 
-		// TV 장르와 영화 장르를 병렬로 묶어서 처리
-		return Mono.zip(tvGenreMapMono, movieGenreMapMono).flatMap(tuple -> {
-			// 장르 맵 병합
-			Map<String, Integer> genreMap = tuple.getT1();
-			Map<String, Integer> movieGenreMap = tuple.getT2();
-			genreMap.putAll(movieGenreMap);
+			// 로컬 색인에서 접두어 검색 (후보가 충분한 경우 TMDB API를 호출하지 않음)
+			List<String> indexedList = keywordIndex.search(keyword, autoCompleteCount,
+					entry -> classifier.isKeywordTarget(entry.mediaType(), entry.genreIds()));
+			if (indexedList.size() >= autoCompleteCount) {
+				return Mono.just(indexedList);
+			}
 
-			// 성인물 포함 플래그
-			boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
 			// TMDB Multi API 실행 
 			return tmdbWebClient.get()
 					.uri(builder -> builder
@@ -206,17 +216,12 @@ public class SearchServiceImpl implements SearchService {
 							List<String> emptyList = new ArrayList<>();
 							return emptyList;
 						}
+						// 자동완성 색인 등록
+						resultList.forEach(e -> keywordIndex.add(StringUtils.defaultIfEmpty(e.getName(), e.getTitle()),
+								e.getMediaType(), e.getGenreIds(), e.getPopularity(), e.isAdult()));
 						// 검색 결과에서 TV, 영화 정보만 추출
 						List<String> nameList = resultList.stream()
-								.filter(e -> !StringUtils.equals(e.getMediaType(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_PERSON.getMediaTypeValue())
-										&& !CollectionUtils.isEmpty(e.getGenreIds()) 
-										&& ((StringUtils.equals(e.getMediaType(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_TV.getMediaTypeValue())
-												&& (e.getGenreIds().contains(genreMap.get(TmdbGenreEnum.GENRE_ANI.getGenreEnglish()))
-														|| e.getGenreIds().contains(genreMap.get(TmdbGenreEnum.GENRE_DRAMA.getGenreEnglish()))
-														|| e.getGenreIds().contains(genreMap.get(TmdbGenreEnum.GENRE_SOAP.getGenreEnglish()))
-														))
-												|| StringUtils.equals(e.getMediaType(), CommonMediaTypeEnum.TMDB_MEDIA_TYPE_MOVIE.getMediaTypeValue())
-												)) // 인물 미디어 타입 제외 AND 장르 존재 AND ((TV 미디어 타입 AND (장르가 애니 or 드라마 or 연속극)) OR 영화 미디어 타입)
+								.filter(e -> classifier.isKeywordTarget(e.getMediaType(), e.getGenreIds())) // 자동완성 대상 작품만 추출
 								.map(e -> StringUtils.defaultIfEmpty(e.getName(), e.getTitle())) // 둘 중 하나만 들어가 있으므로, 한쪽이 empty면 다른 한쪽을 설정
 								.filter(StringUtils::isNotEmpty) // 빈 요소 제거
 								.distinct() // 중복 제거
@@ -227,7 +232,7 @@ public class SearchServiceImpl implements SearchService {
 						// 표시개수 제한 후 결과값 반환
 						return sortedList.stream().limit(autoCompleteCount).toList();
 					});
-		}).block();
+		});
 	}
 
 	/**
@@ -237,30 +242,17 @@ public class SearchServiceImpl implements SearchService {
 	 * @return 애니메이션/드라마/영화 검색 결과 응답 오브젝트
 	 */
 	@Override
-	@Cacheable(value = "searchVideo", key = "#keyword", unless = "#result == null")
-	public SearchVideoResponseDto searchVideo(String keyword) {
+	@Cacheable(value = CommonConstants.SEARCH_VIDEO_NAME, keyGenerator = CommonConstants.SEARCH_KEY_GENERATOR, unless = "#result == null")
+	public Mono<SearchVideoResponseDto> searchVideo(String keyword) {
 
-		Mono<Map<String, Integer>> tvGenreMapMono = getTvGenres();
-		Mono<Map<String, Integer>> movieGenreMapMono = getMovieGenres();
-
-		return Mono.zip(tvGenreMapMono, movieGenreMapMono).flatMap(genreTuple -> {
-			Map<String, Integer> tvGenreMap = genreTuple.getT1();
-			Map<String, Integer> movieGenreMap = genreTuple.getT2();
+		// 성인물 포함 플래그 (세션은 ThreadLocal로 관리되므로 요청 스레드에서 미리 취득)
+		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
 
-			// 성인물 포함 플래그
-			boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
+		return getGenreClassifier().flatMap(classifier -> {
 
 			// 애니, 드라마 정보 취득
-			Mono<SearchTvResponseDto> tvResponseMono = tmdbWebClient.get()
-					.uri(builder -> builder
-							.path(tvSearchPath)
-							.queryParam(PARAM_QUERY, keyword)
-							.queryParam(PARAM_INCLUDE_ADULT, isAdult)
-							.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
-							.queryParam(PARAM_PAGE, 1) // 첫번째 페이지 고정(기본값)
-							.build())
-					.retrieve()
-					.bodyToMono(TmdbSearchTvDto.class)
+			Mono<SearchTvResponseDto> tvResponseMono = tmdbApiSearchClient
+					.searchTv(keyword, 1, isAdult, LANGUAGE_KOREAN) // 첫번째 페이지 고정(기본값)
 					.map(response -> {
 						// 결과가 없는 경우, 빈 응답 반환
 						if (response == null || CollectionUtils.isEmpty(response.getResults())) {
@@ -268,8 +260,9 @@ public class SearchServiceImpl implements SearchService {
 						}
 
 						// 애니/드라마 리스트 분배
-						List<TmdbSearchTvResultsDto> aniList = helper.getAniList(response.getResults(), tvGenreMap);
-						List<TmdbSearchTvResultsDto> dramaList = helper.getDramaList(response.getResults(), tvGenreMap);
+						TvPartition tvPartition = helper.partitionTv(response.getResults(), classifier);
+						List<TmdbSearchTvResultsDto> aniList = tvPartition.aniList();
+						List<TmdbSearchTvResultsDto> dramaList = tvPartition.dramaList();
 
 						// 애니/드라마/영화 리스트 저장
 						SearchTvResponseDto tvResponse = new SearchTvResponseDto();
@@ -289,16 +282,8 @@ public class SearchServiceImpl implements SearchService {
 					});
 
 			// 영화 정보 취득
-			Mono<TmdbSearchMovieDto> movieResponseMono = tmdbWebClient.get()
-					.uri(builder -> builder
-							.path(movieSearchPath)
-							.queryParam(PARAM_QUERY, keyword)
-							.queryParam(PARAM_INCLUDE_ADULT, isAdult)
-							.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
-							.queryParam(PARAM_PAGE, 1) // 첫번째 페이지 고정(기본값)
-							.build())
-					.retrieve()
-					.bodyToMono(TmdbSearchMovieDto.class);
+			Mono<TmdbSearchMovieDto> movieResponseMono = tmdbApiSearchClient
+					.searchMovie(keyword, 1, isAdult, LANGUAGE_KOREAN); // 첫번째 페이지 고정(기본값)
 
 			return Mono.zip(tvResponseMono, movieResponseMono).map(dtoTuple -> {
 				// TV 응답 DTO 
@@ -312,12 +297,12 @@ public class SearchServiceImpl implements SearchService {
 				// 영화 검색 결과 리스트
 				List<TmdbSearchMovieResultsDto> movieResultList = Optional.ofNullable(movieResponse.getResults()).orElse(new ArrayList<>());
 
+				// 영화 정보에서 애니메이션 정보/영화 정보 분배
+				MoviePartition moviePartition = helper.partitionMovie(movieResultList, classifier);
 				// 영화 정보 리스트 -> 애니 정보 리스트와 결합
-				List<TmdbSearchMovieResultsDto> filteredMovieList = new ArrayList<>();
-				// 영화 정보에서 애니메이션 정보 추출 
-				aniResultList.addAll(helper.getAniMovieList(movieResultList, movieGenreMap));
+				aniResultList.addAll(moviePartition.aniMovieList());
 				// 영화 정보 필터링
-				filteredMovieList.addAll(helper.getMovieList(movieResultList, movieGenreMap));
+				List<TmdbSearchMovieResultsDto> filteredMovieList = moviePartition.movieList();
 
                 // 응답 오브젝트 설정				
 				return helper.setVideoResponse(
@@ -325,7 +310,7 @@ public class SearchServiceImpl implements SearchService {
 						filteredMovieList, tvResponse.getPage(), tvResponse.getTotalPages(),
 						movieResponse.getPage(), movieResponse.getTotalPages());
 			});
-		}).block();
+		});
 	}
 
 	/**
@@ -336,36 +321,23 @@ public class SearchServiceImpl implements SearchService {
 	 * @return 애니 정보 응답 오브젝트
 	 */
 	@Override
-	@Cacheable(value = "searchAni", key = "#keyword + '_' + #page", unless = "#result == null")
-	public TmdbSearchTvDto searchAni(String keyword, Integer page) {
+	@Cacheable(value = CommonConstants.SEARCH_ANI_NAME, keyGenerator = CommonConstants.SEARCH_KEY_GENERATOR, unless = "#result == null")
+	public Mono<TmdbSearchTvDto> searchAni(String keyword, Integer page) {
 
 		int currentPage = Optional.ofNullable(page).orElse(1);
 
-		Mono<Map<String, Integer>> tvGenreMapMono = getTvGenres();
-		Mono<Map<String, Integer>> movieGenreMapMono = getMovieGenres();
-
-		return Mono.zip(tvGenreMapMono, movieGenreMapMono).flatMap(genreTuple -> {
-			Map<String, Integer> aniGenreMap = genreTuple.getT1();
-			Map<String, Integer> movieGenreMap = genreTuple.getT2();
+		// 성인물 포함 플래그 (세션은 ThreadLocal로 관리되므로 요청 스레드에서 미리 취득)
+		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
 
-			// 성인물 포함 플래그
-			boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
+		return getGenreClassifier().flatMap(classifier -> {
 
 			// TV 애니 정보 조회
-			Mono<TmdbSearchTvDto> tvResponseMono = tmdbWebClient.get()
-					.uri(builder -> builder
-							.path(tvSearchPath)
-							.queryParam(PARAM_QUERY, keyword)
-							.queryParam(PARAM_INCLUDE_ADULT, isAdult)
-							.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
-							.queryParam(PARAM_PAGE, currentPage)
-							.build())
-					.retrieve()
-					.bodyToMono(TmdbSearchTvDto.class)
+			Mono<TmdbSearchTvDto> tvResponseMono = tmdbApiSearchClient
+					.searchTv(keyword, currentPage, isAdult, LANGUAGE_KOREAN)
 					.map(response -> 
 						// 애니 리스트 저장
 						TmdbSearchTvDto.builder()
-								.results(helper.getAniList(response.getResults(), aniGenreMap))
+								.results(helper.partitionTv(response.getResults(), classifier).aniList())
 								.page(response.getPage())
 								.totalPages(response.getTotalPages())
 								.totalResults(response.getTotalResults())
@@ -373,16 +345,8 @@ public class SearchServiceImpl implements SearchService {
 					);
 
 			// 영화 정보 취득
-			Mono<TmdbSearchMovieDto> movieResponseMono = tmdbWebClient.get()
-					.uri(builder -> builder
-							.path(movieSearchPath)
-							.queryParam(PARAM_QUERY, keyword)
-							.queryParam(PARAM_INCLUDE_ADULT, isAdult)
-							.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
-							.queryParam(PARAM_PAGE, currentPage)
-							.build())
-					.retrieve()
-					.bodyToMono(TmdbSearchMovieDto.class);
+			Mono<TmdbSearchMovieDto> movieResponseMono = tmdbApiSearchClient
+					.searchMovie(keyword, currentPage, isAdult, LANGUAGE_KOREAN);
 
 			// 비동기로 API실행(webClient처리)후 결과를 병렬처리
 			return Mono.zip(tvResponseMono, movieResponseMono).map(tuple -> {
@@ -396,18 +360,138 @@ public class SearchServiceImpl implements SearchService {
 				List<TmdbSearchMovieResultsDto> movieResultList = Optional.ofNullable(movieResponse.getResults()).orElse(new ArrayList<>());
 
 				// 영화 정보 리스트 -> 애니 정보 리스트와 결합
-				aniResultList.addAll(helper.getAniMovieList(movieResultList, movieGenreMap));
+				aniResultList.addAll(helper.partitionMovie(movieResultList, classifier).aniMovieList());
 
 				// 반환값 설정
 				TmdbSearchTvDto aniResponse = TmdbSearchTvDto.builder()
 						.results(aniResultList)
 						.page(currentPage)
+						.totalPages(Math.max(tvResponse.getTotalPages(), movieResponse.getTotalPages())) // 두 소스 중 긴 쪽의 페이지 수
 						.build();
 
 				// 애니 응답 오브젝트 반환
 				return aniResponse;
 			});
-		}).block();
+		});
+	}
+
+	/**
+	 * 애니 피드 검색 데이터 조회
+	 * TMDB TV 검색의 애니 결과와 영화 검색의 애니 영화 결과를 각 소스의 선두끼리 인기도로 비교하여 병합(k-way merge)하고,
+	 * 고정 크기 페이지와 소스별 위치를 기억하는 다음 페이지 커서를 반환
+	 * TMDB 페이지는 병합에 필요한 경우에만 취득하며, 커서 위치의 페이지는 검색 원본 페이지 캐시에서 재사용
+	 * 
+	 * @param keyword 검색어
+	 * @param cursor 커서 (첫 페이지인 경우 null)
+	 * @return 애니 피드 응답 오브젝트
+	 */
+	@Override
+	@Cacheable(value = CommonConstants.SEARCH_ANI_FEED_NAME, keyGenerator = CommonConstants.SEARCH_KEY_GENERATOR, unless = "#result == null")
+	public Mono<SearchAniFeedResponseDto> searchAniFeed(String keyword, String cursor) {
+
+		// 커서 디코딩 (잘못된 커서는 요청 스레드에서 즉시 에러)
+		SearchAniFeedCursor feedCursor = SearchAniFeedCursor.decode(cursor);
+
+		// 성인물 포함 플래그 (세션은 ThreadLocal로 관리되므로 요청 스레드에서 미리 취득)
+		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
+
+		return getGenreClassifier().flatMap(classifier -> {
+
+			// TV 애니 스트림
+			SearchAniFeedSource tvSource = new SearchAniFeedSource(
+					feedCursor.tvPage(), feedCursor.tvOffset(), feedCursor.isTvDone(), MAX_FEED_PAGE_LOADS,
+					tvPage -> tmdbApiSearchClient.searchTv(keyword, tvPage, isAdult, LANGUAGE_KOREAN)
+							.map(response -> new FeedPage(
+									sortByPopularity(helper.partitionTv(response.getResults(), classifier).aniList()),
+									response.getTotalPages())));
+
+			// 애니 영화 스트림
+			SearchAniFeedSource movieSource = new SearchAniFeedSource(
+					feedCursor.moviePage(), feedCursor.movieOffset(), feedCursor.isMovieDone(), MAX_FEED_PAGE_LOADS,
+					moviePage -> tmdbApiSearchClient.searchMovie(keyword, moviePage, isAdult, LANGUAGE_KOREAN)
+							.map(response -> new FeedPage(
+									sortByPopularity(helper.partitionMovie(response.getResults(), classifier).aniMovieList()),
+									response.getTotalPages())));
+
+			List<TmdbSearchTvResultsDto> resultList = new ArrayList<>(perFeedPage);
+			return mergeAniFeed(tvSource, movieSource, resultList).then(Mono.fromSupplier(() -> {
+				// 다음 페이지 존재 여부
+				boolean hasNextPage = tvSource.hasMore() || movieSource.hasMore();
+				// 다음 페이지 커서 (소스별 현재 위치)
+				String nextCursor = hasNextPage
+						? new SearchAniFeedCursor(
+								tvSource.getPage(), tvSource.getOffset(), !tvSource.hasMore(),
+								movieSource.getPage(), movieSource.getOffset(), !movieSource.hasMore()).encode()
+						: null;
+
+				// 애니 피드 응답 오브젝트 반환
+				return SearchAniFeedResponseDto.builder()
+						.results(resultList)
+						.nextCursor(nextCursor)
+						.hasNextPage(hasNextPage)
+						.build();
+			}));
+		});
+	}
+
+	/**
+	 * TV 애니/애니 영화 스트림의 선두를 인기도순으로 꺼내어 결과 리스트에 추가
+	 * TMDB 검색 결과는 관련도순이므로 각 스트림은 페이지 단위로 인기도순 정렬한 후 병합
+	 * (정렬은 취득한 페이지 안에서만 적용되므로, 피드 전체가 아닌 페이지 범위 안에서 인기도순)
+	 * 페이지 크기에 도달하거나, 두 스트림이 모두 종료되거나, 한쪽 스트림이 페이지 취득 상한으로 정체된 경우 종료
+	 * (정체된 스트림을 무시하고 병합하면 순서가 어긋나므로, 해당 위치에서 페이지를 끊고 다음 커서에서 이어서 병합)
+	 * 
+	 * @param tvSource TV 애니 스트림
+	 * @param movieSource 애니 영화 스트림
+	 * @param resultList 결과 리스트
+	 * @return 완료 Mono
+	 */
+	private Mono<Void> mergeAniFeed(SearchAniFeedSource tvSource, SearchAniFeedSource movieSource,
+			List<TmdbSearchTvResultsDto> resultList) {
+		return Mono.when(tvSource.fill(), movieSource.fill()).then(Mono.defer(() -> {
+			while (resultList.size() < perFeedPage) {
+				if (tvSource.isStalled() || movieSource.isStalled()) {
+					return Mono.<Void>empty();
+				}
+				if (!tvSource.hasHead() && !movieSource.hasHead()) {
+					return Mono.<Void>empty();
+				}
+				// 인기도가 높은 쪽을 선택 (같은 경우 TV 우선)
+				SearchAniFeedSource next = !movieSource.hasHead()
+						|| (tvSource.hasHead() && getPopularity(tvSource.peek()).compareTo(getPopularity(movieSource.peek())) >= 0)
+						? tvSource : movieSource;
+				resultList.add(next.poll());
+				// 현재 페이지를 모두 소비한 경우, 결과 리스트에 남은 자리가 있을 때만 다음 페이지 취득 후 병합 계속
+				// (페이지 경계에서 결과 리스트가 채워진 경우는 다음 페이지를 취득하지 않고, 다음 커서에서 취득)
+				if (!next.hasHead() && resultList.size() < perFeedPage) {
+					return mergeAniFeed(tvSource, movieSource, resultList);
+				}
+			}
+			return Mono.<Void>empty();
+		}));
+	}
+
+	/**
+	 * 검색 결과 리스트를 인기도 내림차순으로 정렬 (같은 인기도는 원래 순서 유지)
+	 * 피드 커서의 페이지 내 오프셋이 같은 요소를 가리키도록, 같은 페이지에서는 항상 같은 순서로 정렬
+	 * 
+	 * @param results 검색 결과 리스트
+	 * @return 정렬된 검색 결과 리스트
+	 */
+	private List<TmdbSearchTvResultsDto> sortByPopularity(List<TmdbSearchTvResultsDto> results) {
+		return results.stream()
+				.sorted(Comparator.comparing(this::getPopularity).reversed())
+				.toList();
+	}
+
+	/**
+	 * 검색 결과의 인기 점수 취득 (값이 없는 경우 0)
+	 * 
+	 * @param result 검색 결과
+	 * @return 인기 점수
+	 */
+	private BigDecimal getPopularity(TmdbSearchTvResultsDto result) {
+		return Optional.ofNullable(result.getPopularity()).orElse(BigDecimal.ZERO);
 	}
 
 	/**
@@ -418,25 +502,20 @@ public class SearchServiceImpl implements SearchService {
 	 * @return 드라마 정보 응답 오브젝트
 	 */
 	@Override
-	@Cacheable(value = "searchDrama", key = "#keyword + '_' + #page", unless = "#result == null")
-	public TmdbSearchTvDto searchDrama(String keyword, Integer page) {
+	@Cacheable(value = CommonConstants.SEARCH_DRAMA_NAME, keyGenerator = CommonConstants.SEARCH_KEY_GENERATOR, unless = "#result == null")
+	public Mono<TmdbSearchTvDto> searchDrama(String keyword, Integer page) {
+
+		// 성인물 포함 플래그 (세션은 ThreadLocal로 관리되므로 요청 스레드에서 미리 취득)
+		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
 
 		// 드라마 장르 정보 취득
-		return getTvGenres().flatMap(tvGenreMap -> 
-		tmdbWebClient.get()
-		.uri(builder -> builder
-				.path(tvSearchPath)
-				.queryParam(PARAM_QUERY, keyword)
-				.queryParam(PARAM_INCLUDE_ADULT, session.getSessionBooleanValue(CommonConstants.ADULT_FLG))
-				.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
-				.queryParam(PARAM_PAGE, Optional.ofNullable(page).orElse(1))
-				.build())
-		.retrieve()
-		.bodyToMono(TmdbSearchTvDto.class)
+		return getGenreClassifier().flatMap(classifier -> 
+		// TV 검색 원본 페이지 조회
+		tmdbApiSearchClient.searchTv(keyword, Optional.ofNullable(page).orElse(1), isAdult, LANGUAGE_KOREAN)
 		.map(response -> {
 			// 결과값 설정
 			TmdbSearchTvDto dramaResponse = TmdbSearchTvDto.builder()
-					.results(helper.getDramaList(response.getResults(), tvGenreMap))
+					.results(helper.partitionTv(response.getResults(), classifier).dramaList())
 					.page(response.getPage())
 					.totalPages(response.getTotalPages())
 					.totalResults(response.getTotalResults())
@@ -444,7 +523,7 @@ public class SearchServiceImpl implements SearchService {
 
 			// 드라마 응답 오브젝트 반환
 			return dramaResponse;
-		})).block();
+		}));
 	}
 
 	/**
@@ -455,29 +534,23 @@ public class SearchServiceImpl implements SearchService {
 	 * @return 영화 정보 응답 오브젝트
 	 */
 	@Override
-	@Cacheable(value = "searchMovie", key = "#keyword + '_' + #page", unless = "#result == null")
-	public TmdbSearchMovieDto searchMovie(
+	@Cacheable(value = CommonConstants.SEARCH_MOVIE_NAME, keyGenerator = CommonConstants.SEARCH_KEY_GENERATOR, unless = "#result == null")
+	public Mono<TmdbSearchMovieDto> searchMovie(
 			@NotEmpty @RequestParam(PARAM_QUERY) String keyword, 
 			@Nullable @RequestParam(PARAM_PAGE) Integer page
 			) {
 
+		// 성인물 포함 플래그 (세션은 ThreadLocal로 관리되므로 요청 스레드에서 미리 취득)
+		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
+
 		// 영화 장르 정보 취득
-		return getMovieGenres().flatMap(movieGenreMap -> 
-		// 영화 정보 조회
-		tmdbWebClient.get()
-		.uri(builder -> builder
-				.path(movieSearchPath)
-				.queryParam(PARAM_QUERY, keyword)
-				.queryParam(PARAM_INCLUDE_ADULT, session.getSessionBooleanValue(CommonConstants.ADULT_FLG))
-				.queryParam(PARAM_LANGUAGE, LANGUAGE_KOREAN)
-				.queryParam(PARAM_PAGE, Optional.ofNullable(page).orElse(1))
-				.build())
-		.retrieve()
-		.bodyToMono(TmdbSearchMovieDto.class)
+		return getGenreClassifier().flatMap(classifier -> 
+		// 영화 검색 원본 페이지 조회
+		tmdbApiSearchClient.searchMovie(keyword, Optional.ofNullable(page).orElse(1), isAdult, LANGUAGE_KOREAN)
 		.map(response -> {
 			// 결과값 설정
 			TmdbSearchMovieDto movieResponse = TmdbSearchMovieDto.builder()
-					.results(helper.getMovieList(response.getResults(), movieGenreMap))
+					.results(helper.partitionMovie(response.getResults(), classifier).movieList())
 					.page(response.getPage())
 					.totalPages(response.getTotalPages())
 					.totalResults(response.getTotalResults())
@@ -485,74 +558,145 @@ public class SearchServiceImpl implements SearchService {
 
 			// 영화 응답 오브젝트 반환
 			return movieResponse;
-		})).block();
+		}));
 	}
 
 	/**
 	 * 만화 검색 데이터 조회
+	 * 검색어의 문자 체계에 따라 번역 여부를 결정 (한글만 → 번역 후 검색, 한글 혼합 → 원문/번역 검색 경쟁, 그 외 → 원문 검색)
 	 * 
 	 * @param keyword 검색어
 	 * @param page 페이지
 	 * @return 만화 정보 응답 오브젝트
 	 */
 	@Override
-	@Cacheable(value = "searchComics", key = "#keyword + '_' + #page + '_' + #isMainPage", unless = "#result == null")
-	public SearchComicsResponseDto searchComics(String keyword, Integer page, boolean isMainPage) {
+	@Cacheable(value = CommonConstants.SEARCH_COMICS_NAME, keyGenerator = CommonConstants.SEARCH_KEY_GENERATOR, unless = "#result == null")
+	public Mono<SearchComicsResponseDto> searchComics(String keyword, Integer page, boolean isMainPage) {
 
 		// API를 어디서 불렀는지에 따라 표시 건수를 다르게 설정
 		int perPage = isMainPage ? anilistPerMainPage : anilistPerMorePage;
+		// 페이지
+		int currentPage = Optional.ofNullable(page).orElse(1);
 		// 성인물 포함 플래그
 		boolean isAdult = session.getSessionBooleanValue(CommonConstants.ADULT_FLG);
 
+		return switch (queryPlanner.plan(keyword)) {
+		// 일본어, 라틴 문자 검색어는 번역하지 않고 AniList API 조회
+		case ORIGINAL -> searchAniListComics(keyword, null, currentPage, perPage, isAdult);
 		// 한글 검색어 -> 일본어로 번역후(DeepL API), AniList API 조회
-		return getTranslationText(keyword).flatMap(jaKeyword -> {
-			try {
-				// graphql 쿼리 파일 불러오기
-				String query = GraphqlUtil.loadQuery("comicsList.graphql");
-				// 리퀘스트 파라미터 작성
-				Map<String, Object> variables = new HashMap<>(Map.of(
-						PARAM_PAGE, Optional.ofNullable(page).orElse(1),
-						PARAM_PER_PAGE, perPage,
-						PARAM_SEARCH, jaKeyword
-						));
-				// 성인물 플래그가 false인 경우, 파라미터 추가
-				if (!isAdult) {
-					variables.put(PARAM_IS_ADULT, isAdult);
-				}
-				// graphql 쿼리에 리퀘스트 파라미터 적용
-				String requestBody = GraphqlUtil.buildRequestBody(query, variables);
-				// AniList API 실행
-				return anilistWebClient.post()
-						.bodyValue(requestBody)
-						.retrieve()
-						.bodyToMono(AniListResponseDto.class)
-						.map(response -> {
-							// 만화 정보가 없는 경우 빈 응답 반환
-							if (ObjectUtils.isEmpty(response.getData())
-									|| ObjectUtils.isEmpty(response.getData().getPage())
-									|| CollectionUtils.isEmpty(response.getData().getPage().getMedia())
-									|| ObjectUtils.isEmpty(response.getData().getPage().getPageInfo())) {
-								return new SearchComicsResponseDto();
-							}							
-							// 페이지 정보 설정
-							AniListPageInfoDto comicsPageDto = response.getData().getPage().getPageInfo();
-							int currentPage = comicsPageDto.getCurrentPage();
-							int lastPage = comicsPageDto.getLastPage();
-							// 응답 데이터 재분배
-							SearchComicsResponseDto comicsResponse = SearchComicsResponseDto.builder()
-									.page(currentPage)
-									.totalPages(lastPage)
-									.isComicsViewMore(currentPage < lastPage)
-									.comicsResults(helper.setComicsResponse(response.getData().getPage().getMedia()))
-									.build();
-
-							// 만화 응답 오브젝트 반환
-							return comicsResponse;
-						});
-			} catch (IOException e) {
-				return Mono.error(e);
+		case TRANSLATE -> getTranslationText(keyword)
+				.flatMap(jaKeyword -> searchAniListComics(jaKeyword, keyword, currentPage, perPage, isAdult));
+		// 한글 혼합 검색어는 원문 검색과 번역 검색을 병렬 실행하여, 먼저 결과가 있는 쪽을 사용
+		// (한쪽이 실패해도 다른 쪽의 결과를 사용하며, 양쪽 모두 결과가 없는 경우 빈 응답)
+		case RACE -> raceAniListComics(
+				searchAniListComics(keyword, null, currentPage, perPage, isAdult),
+				getTranslationText(keyword)
+						.flatMap(jaKeyword -> searchAniListComics(jaKeyword, keyword, currentPage, perPage, isAdult)));
+		};
+	}
+
+	/**
+	 * 원문 검색과 번역 검색을 병렬 실행하여, 먼저 결과가 있는 쪽을 반환
+	 * 한쪽이 실패한 경우는 로그 출력 후 다른 쪽의 결과를 사용하고, 양쪽 모두 결과가 없는 경우 빈 응답
+	 * 양쪽 모두 실패한 경우에만 에러를 발행
+	 * 
+	 * @param original 원문 검색
+	 * @param translated 번역 검색
+	 * @return 만화 정보 응답 오브젝트
+	 */
+	private Mono<SearchComicsResponseDto> raceAniListComics(Mono<SearchComicsResponseDto> original,
+			Mono<SearchComicsResponseDto> translated) {
+		return Mono.defer(() -> {
+			// 실패한 검색의 에러
+			List<Throwable> errors = new CopyOnWriteArrayList<>();
+			return Flux.merge(
+							original.onErrorResume(e -> skipRaceBranch("original", e, errors)),
+							translated.onErrorResume(e -> skipRaceBranch("translated", e, errors)))
+					.filter(response -> !CollectionUtils.isEmpty(response.getComicsResults()))
+					.next()
+					.switchIfEmpty(Mono.defer(() -> errors.size() == RACE_BRANCH_COUNT
+							? Mono.error(errors.get(0))
+							: Mono.just(new SearchComicsResponseDto())));
+		});
+	}
+
+	/**
+	 * 실패한 병렬 검색을 결과 없음으로 처리
+	 * 
+	 * @param branch 검색 종류 (로그용)
+	 * @param e 에러
+	 * @param errors 실패한 검색의 에러 리스트
+	 * @return 빈 Mono
+	 */
+	private Mono<SearchComicsResponseDto> skipRaceBranch(String branch, Throwable e, List<Throwable> errors) {
+		log.warn("Comics search {} branch failed: {}", branch, e.getMessage());
+		errors.add(e);
+		return Mono.empty();
+	}
+
+	/**
+	 * AniList API로 만화 검색
+	 * 
+	 * @param searchKeyword AniList 검색어
+	 * @param originalKeyword 번역 전 검색어 (번역하지 않은 경우 null, 작품명 번역 사전 등록에 사용)
+	 * @param page 페이지
+	 * @param perPage 페이지당 표시 건수
+	 * @param isAdult 성인물 포함 플래그
+	 * @return 만화 정보 응답 오브젝트
+	 */
+	private Mono<SearchComicsResponseDto> searchAniListComics(String searchKeyword, String originalKeyword,
+			int page, int perPage, boolean isAdult) {
+		try {
+			// graphql 쿼리 파일 불러오기
+			String query = GraphqlUtil.loadQuery("comicsList.graphql");
+			// 리퀘스트 파라미터 작성
+			Map<String, Object> variables = new HashMap<>(Map.of(
+					PARAM_PAGE, page,
+					PARAM_PER_PAGE, perPage,
+					PARAM_SEARCH, searchKeyword
+					));
+			// 성인물 플래그가 false인 경우, 파라미터 추가
+			if (!isAdult) {
+				variables.put(PARAM_IS_ADULT, isAdult);
 			}
-		}).block();
+			// graphql 쿼리에 리퀘스트 파라미터 적용
+			String requestBody = GraphqlUtil.buildRequestBody(query, variables);
+			// AniList API 실행
+			return anilistWebClient.post()
+					.attribute(CommonConstants.WEBCLIENT_COALESCING_KEY, requestBody) // 동일 요청 병합 키
+					.bodyValue(requestBody)
+					.retrieve()
+					.bodyToMono(AniListResponseDto.class)
+					.map(response -> {
+						// 만화 정보가 없는 경우 빈 응답 반환
+						if (ObjectUtils.isEmpty(response.getData())
+								|| ObjectUtils.isEmpty(response.getData().getPage())
+								|| CollectionUtils.isEmpty(response.getData().getPage().getMedia())
+								|| ObjectUtils.isEmpty(response.getData().getPage().getPageInfo())) {
+							return new SearchComicsResponseDto();
+						}
+						// 번역 검색인 경우, 검색어와 일치하는 작품의 AniList 작품명을 작품명 번역 사전에 등록
+						if (originalKeyword != null) {
+							titleDictionary.addAniListTitle(originalKeyword, searchKeyword, response.getData().getPage().getMedia());
+						}
+						// 페이지 정보 설정
+						AniListPageInfoDto comicsPageDto = response.getData().getPage().getPageInfo();
+						int currentPage = comicsPageDto.getCurrentPage();
+						int lastPage = comicsPageDto.getLastPage();
+						// 응답 데이터 재분배
+						SearchComicsResponseDto comicsResponse = SearchComicsResponseDto.builder()
+								.page(currentPage)
+								.totalPages(lastPage)
+								.isComicsViewMore(currentPage < lastPage)
+								.comicsResults(helper.setComicsResponse(response.getData().getPage().getMedia()))
+								.build();
+
+						// 만화 응답 오브젝트 반환
+						return comicsResponse;
+					});
+		} catch (IOException e) {
+			return Mono.error(e);
+		}
 	}
 
 }
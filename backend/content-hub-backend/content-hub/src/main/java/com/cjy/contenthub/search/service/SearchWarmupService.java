@@ -0,0 +1,24 @@
+package com.cjy.contenthub.search.service;
+
+import java.util.List;
+
+/**
+ * 검색 캐시 사전 적재 서비스 인터페이스
+ */
+public interface SearchWarmupService {
+
+	/**
+	 * 공개용 인기 검색어 리스트 조회 (드문 검색어, 성인물 포함 세션의 검색어 제외)
+	 * 
+	 * @param size 최대 반환 건수
+	 * @return 인기 검색어 리스트 (검색 횟수 내림차순)
+	 */
+	List<String> getPopularKeywords(int size);
+
+	/**
+	 * 검색 캐시 사전 적재 완료 여부
+	 * 
+	 * @return 완료 여부
+	 */
+	boolean isWarmedUp();
+}
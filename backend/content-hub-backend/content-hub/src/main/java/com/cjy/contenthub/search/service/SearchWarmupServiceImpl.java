@@ -0,0 +1,119 @@
+package com.cjy.contenthub.search.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.cjy.contenthub.common.util.QueryFrequencyUtil;
+import com.cjy.contenthub.common.util.SessionUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 검색 캐시 사전 적재 서비스 클래스
+ * 기동 완료시 이전에 집계된 인기 검색어를 백그라운드에서 재실행하여 검색 캐시(자동완성, 애니/드라마/영화, 만화)를 미리 채움
+ * 사전 적재가 끝날 때까지 헬스 체크(searchWarmup)는 OUT_OF_SERVICE를 반환하므로,
+ * readiness 그룹에 포함하면 캐시가 채워진 후에 트래픽을 받음 (실패/시간 초과시에도 완료로 취급)
+ * 세션 없이(성인물 미포함 조건) 실행하므로 성인물 미포함 검색 결과가 캐시됨
+ */
+@Service("searchWarmupHealthIndicator")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchWarmupServiceImpl implements SearchWarmupService, HealthIndicator {
+
+	/** 검색 컨텐츠 서비스 (캐시 프록시 경유) */
+	private final SearchService searchService;
+
+	/** 검색어 빈도 집계 */
+	private final QueryFrequencyUtil queryFrequency;
+
+	/** 세션 유틸 클래스 */
+	private final SessionUtil session;
+
+	/** 사전 적재 활성화 여부 */
+	@Value("${app.warmup.enabled}")
+	private boolean isEnabled;
+
+	/** 사전 적재 대상 인기 검색어 개수 */
+	@Value("${app.warmup.topN}")
+	private int topN;
+
+	/** 사전 적재 동시 실행 수 */
+	@Value("${app.warmup.concurrency}")
+	private int concurrency;
+
+	/** 사전 적재 제한 시간(초) */
+	@Value("${app.warmup.timeoutSeconds}")
+	private long timeoutSeconds;
+
+	/** 사전 적재 완료 여부 */
+	private volatile boolean isWarmedUp;
+
+	/**
+	 * 어플리케이션 기동 완료 후, 인기 검색어로 검색 캐시를 백그라운드에서 사전 적재
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		List<String> keywords = isEnabled ? queryFrequency.top(topN) : List.of();
+		if (keywords.isEmpty()) {
+			isWarmedUp = true;
+			return;
+		}
+		Flux.fromIterable(keywords)
+				// 세션 없이 성인물 미포함 조건으로 검색 (캐시 키 생성, 세션 참조는 호출 시점에 실행)
+				.flatMap(keyword -> session.callWithoutSession(() -> Mono.when(
+								searchService.searchKeyword(keyword),
+								searchService.searchVideo(keyword),
+								searchService.searchComics(keyword, 1, true)))
+						.onErrorResume(ex -> {
+							log.debug("Search cache warmup failed for '{}': {}", keyword, ex.getMessage());
+							return Mono.empty();
+						}), concurrency)
+				.then()
+				.timeout(Duration.ofSeconds(timeoutSeconds))
+				.doFinally(signal -> isWarmedUp = true)
+				.subscribe(v -> {}, 
+						ex -> log.warn("Search cache warmup incomplete: {}", ex.getMessage()),
+						() -> log.info("Search cache warmed up with {} keywords", keywords.size()));
+	}
+
+	/**
+	 * 공개용 인기 검색어 리스트 조회 (드문 검색어, 성인물 포함 세션의 검색어 제외)
+	 * 
+	 * @param size 최대 반환 건수
+	 * @return 인기 검색어 리스트
+	 */
+	@Override
+	public List<String> getPopularKeywords(int size) {
+		return queryFrequency.popular(size);
+	}
+
+	/**
+	 * 검색 캐시 사전 적재 완료 여부
+	 * 
+	 * @return 완료 여부
+	 */
+	@Override
+	public boolean isWarmedUp() {
+		return isWarmedUp;
+	}
+
+	/**
+	 * 사전 적재 상태 헬스 체크
+	 * 
+	 * @return 완료시 UP, 적재 중에는 OUT_OF_SERVICE
+	 */
+	@Override
+	public Health health() {
+		return isWarmedUp ? Health.up().build() : Health.outOfService().build();
+	}
+}
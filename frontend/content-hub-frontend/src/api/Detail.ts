@@ -11,6 +11,7 @@
  */
 
 import {
+  AniListCharactersDto,
   DetailComicsRecommendationsResponseDto,
   DetailComicsResponseDto,
   DetailCommentGetResponseDto,
@@ -190,6 +191,28 @@ export class Detail<
       query: query,
       ...params,
     });
+  /**
+   * No description
+   *
+   * @tags detail-information-controller
+   * @name GetComicsCharacters
+   * @request GET:/detail/information/getComicsCharacters
+   */
+  getComicsCharacters = (
+    query: {
+      /** @format int32 */
+      comics_id: number;
+      /** @format int32 */
+      page?: number;
+    },
+    params: RequestParams = {}
+  ) =>
+    this.request<AniListCharactersDto, any>({
+      path: `/detail/information/getComicsCharacters`,
+      method: 'GET',
+      query: query,
+      ...params,
+    });
   /**
    * No description
    *
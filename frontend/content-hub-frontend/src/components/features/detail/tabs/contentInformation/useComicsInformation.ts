@@ -65,11 +65,11 @@ export const useComicsInformation = (
         detailResult.id!.toString()
       ) as [string, string, string, string],
       queryFn: async ({ pageParam = 1 }) => {
-        const response = await detailApi.getComicsDetail({
+        const response = await detailApi.getComicsCharacters({
           comics_id: detailResult.id!,
           page: pageParam,
         });
-        return response.data.characters?.nodes;
+        return response.data.nodes;
       },
       getNextPageParam: (lastPageData, allPages) => {
         return !lastPageData || lastPageData.length === 0